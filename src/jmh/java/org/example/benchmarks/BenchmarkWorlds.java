@@ -0,0 +1,103 @@
+package org.example.benchmarks;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.werewolf.AgeCategory;
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.clanLeader.ClanLeader;
+import org.example.model.colony.Colony;
+import org.example.model.pack.Pack;
+import org.example.model.places.TypePlace;
+import org.example.model.theaterInvasion.TheaterInvasion;
+import org.example.utils.WorldGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Builds the worlds measured by the benchmarks, with a given population.
+ */
+final class BenchmarkWorlds {
+
+    /** Largest number of characters per place in the theater worlds. */
+    static final int MAX_PER_PLACE = 50;
+
+    private BenchmarkWorlds() {
+    }
+
+    /**
+     * Builds a theater with places of every type, holding about {@code population} characters
+     * (at most 50 per place).
+     */
+    static TheaterInvasion theater(int population, long seed) {
+        int types = TypePlace.values().length;
+        int placesPerType = Math.max(1, population / (MAX_PER_PLACE * types));
+        int perPlace = Math.max(1, population / (placesPerType * types));
+        return new WorldGenerator(seed)
+                .setPlacesPerType(placesPerType)
+                .setCharactersPerPlace(perPlace)
+                .setPackCount(placesPerType)
+                .generate();
+    }
+
+    /**
+     * Builds a village holding the whole population, managed by a clan leader.
+     */
+    static ClanLeader villageLeader(int population, long seed) {
+        TheaterInvasion theater = new WorldGenerator(seed)
+                .setPlacesPerType(0)
+                .setPlaceCount(TypePlace.gallicVillage, 1)
+                .setCharactersPerPlace(population)
+                .generate();
+        return theater.getClanLeaders().get(0);
+    }
+
+    /**
+     * Builds a colony whose packs of about {@code packSize} werewolves hold the whole population.
+     */
+    static Colony colony(int population, int packSize, long seed) {
+        int packs = Math.max(1, population / packSize);
+        TheaterInvasion theater = new WorldGenerator(seed)
+                .setPlacesPerType(0)
+                .setPlaceCount(TypePlace.enclosure, packs)
+                .setCharactersPerPlace(Math.min(packSize, population))
+                .setPackCount(packs)
+                .generate();
+        return theater.getColony();
+    }
+
+    /**
+     * Builds a pack with an alpha couple and {@code size - 2} other members, all ranked.
+     */
+    static Pack pack(int size, SplittableRandom random, String name) {
+        Pack pack = new Pack(name,
+                werewolf(random, name + " Alpha", AbstractCharacter.Sex.MALE, AgeCategory.ADULT),
+                werewolf(random, name + " Alpha F", AbstractCharacter.Sex.FEMALE, AgeCategory.ADULT));
+        pack.createHierarchy(members(size - 2, random, name));
+        return pack;
+    }
+
+    /**
+     * Creates werewolves of both sexes and all ages, with random stats.
+     */
+    static List<Werewolf> members(int count, SplittableRandom random, String prefix) {
+        AgeCategory[] ages = AgeCategory.values();
+        List<Werewolf> members = new ArrayList<>(Math.max(0, count));
+        for (int i = 0; i < count; i++) {
+            members.add(werewolf(random, prefix + " " + i,
+                    random.nextBoolean() ? AbstractCharacter.Sex.MALE : AbstractCharacter.Sex.FEMALE,
+                    ages[random.nextInt(ages.length)]));
+        }
+        return members;
+    }
+
+    static Werewolf werewolf(SplittableRandom random, String name, AbstractCharacter.Sex sex, AgeCategory age) {
+        Werewolf w = new Werewolf(name, 5 + random.nextInt(20), 20 + random.nextInt(60), 100);
+        w.setSex(sex);
+        w.setAgeCategory(age);
+        w.setStamina(10 + random.nextInt(40));
+        w.setHunger(random.nextInt(100));
+        w.setImpetuosityFactor(random.nextDouble());
+        return w;
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.benchmarks;
+
+import org.example.model.clanLeader.ClanLeader;
+import org.example.model.event.SimulationLog;
+import org.example.model.food.FoodItem;
+import org.example.model.food.FoodItemType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link ClanLeader#feedAllCharacters(FoodItem)} on a crowded village.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClanLeaderBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    int population;
+
+    private ClanLeader leader;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        SimulationLog.setSink(null);
+        leader = BenchmarkWorlds.villageLeader(population, 42L);
+    }
+
+    @Benchmark
+    public ClanLeader feedAllCharacters() {
+        // The first character eats the item: put a fresh one in stock every time
+        FoodItem boar = new FoodItem(FoodItemType.BOAR);
+        leader.getPlace().addFood(boar);
+        leader.feedAllCharacters(boar);
+        return leader;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.benchmarks;
+
+import org.example.model.colony.Colony;
+import org.example.model.event.SimulationLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@link Colony#advanceTime()} for colonies of packs of 50 werewolves.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColonyBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    int population;
+
+    private Colony colony;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        SimulationLog.setSink(null);
+        colony = BenchmarkWorlds.colony(population, 50, 42L);
+    }
+
+    @Benchmark
+    public Colony advanceTime() {
+        colony.advanceTime();
+        return colony;
+    }
+}
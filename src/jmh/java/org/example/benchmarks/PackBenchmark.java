@@ -0,0 +1,90 @@
+package org.example.benchmarks;
+
+import org.example.model.character.werewolf.HowlBatch;
+import org.example.model.character.werewolf.HowlType;
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.event.SimulationLog;
+import org.example.model.pack.Pack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the pack operations that scale with the number of members:
+ * full and incremental ranking, omega detection and howl delivery, one by one or batched.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    int population;
+
+    private Pack pack;
+    private List<Werewolf> members;
+    private Werewolf howler;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        SimulationLog.setSink(null);
+        SplittableRandom random = new SplittableRandom(42L);
+        pack = BenchmarkWorlds.pack(2, random, "Meute");
+        members = BenchmarkWorlds.members(population, random, "Loup");
+        pack.createHierarchy(members);
+        howler = members.isEmpty() ? pack.getAlphaMale() : members.get(0);
+    }
+
+    @Benchmark
+    public Pack createHierarchy() {
+        pack.createHierarchy(members);
+        return pack;
+    }
+
+    @Benchmark
+    public Pack updateHierarchy() {
+        members.get(0).setStrength(members.get(0).getStrength() + 1);
+        pack.updateHierarchy(members);
+        return pack;
+    }
+
+    @Benchmark
+    public Pack identifyOmegas() {
+        pack.identifyOmegas();
+        return pack;
+    }
+
+    @Benchmark
+    public Pack notifyHowl() {
+        pack.notifyHowl(howler, HowlType.BELONGING);
+        return pack;
+    }
+
+    /** One season of howls: a fifth of the members howl, everyone hears the batch. */
+    @Benchmark
+    public Pack notifyHowls() {
+        HowlBatch batch = new HowlBatch(pack);
+        HowlType[] types = HowlType.values();
+        for (int i = 0; i < members.size(); i += 5) {
+            batch.add(members.get(i), types[i % types.length]);
+        }
+        pack.notifyHowls(batch);
+        return pack;
+    }
+}
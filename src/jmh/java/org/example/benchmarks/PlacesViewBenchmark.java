@@ -0,0 +1,47 @@
+package org.example.benchmarks;
+
+import org.example.model.event.SimulationLog;
+import org.example.model.places.AbstractPlace;
+import org.example.ui.PlaceCard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the data preparation done by {@code PlacesView.refresh}, without JavaFX.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlacesViewBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    int population;
+
+    private List<AbstractPlace> places;
+
+    @Setup
+    public void setUp() {
+        SimulationLog.setSink(null);
+        places = BenchmarkWorlds.theater(population, 42L).getExistantsPlaces();
+    }
+
+    @Benchmark
+    public List<PlaceCard> prepareCards() {
+        return PlaceCard.prepare(places, null);
+    }
+}
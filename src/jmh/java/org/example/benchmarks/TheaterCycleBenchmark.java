@@ -0,0 +1,59 @@
+package org.example.benchmarks;
+
+import org.example.model.event.SimulationLog;
+import org.example.model.theaterInvasion.TheaterInvasion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@link TheaterInvasion#runGameCycle(int)}, with and without worker threads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TheaterCycleBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    int population;
+
+    @Param({"1", "4"})
+    int parallelism;
+
+    private TheaterInvasion theater;
+    private int turn;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        SimulationLog.setSink(null);
+        theater = BenchmarkWorlds.theater(population, 42L);
+        theater.setParallelism(parallelism);
+        turn = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        theater.setParallelism(1);
+    }
+
+    @Benchmark
+    public TheaterInvasion runGameCycle() {
+        theater.runGameCycle(++turn);
+        return theater;
+    }
+}
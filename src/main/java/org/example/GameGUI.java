@@ -10,10 +10,13 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
+import javafx.application.Platform;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import org.example.model.event.SimulationLog;
+import org.example.model.theaterInvasion.SimulationScheduler;
 import org.example.model.theaterInvasion.TheaterInvasion;
 import org.example.ui.ControlPanel;
 import org.example.ui.GameLogger;
@@ -29,9 +32,12 @@ public class GameGUI extends Application {
 
     private TheaterInvasion game;
     private int currentTurn = 0;
-    private Timeline simulationTimeline;
+    private SimulationScheduler scheduler;
     private boolean isAutoRunning = false;
 
+    /** Time between two turns of the auto mode, in milliseconds */
+    private static final long AUTO_TURN_PERIOD = 1200;
+
     // UI Modules
     private GameLogger gameLogger;
     private PlacesView placesView;
@@ -51,6 +57,7 @@ public class GameGUI extends Application {
 
         // 2. Initialize UI Components
         this.gameLogger = new GameLogger();
+        SimulationLog.setSink(null); // The event journal replaces the console output
         this.placesView = new PlacesView(selectionModel);
 
         // Link the Control Panel to the Game logic via callbacks
@@ -92,7 +99,7 @@ public class GameGUI extends Application {
         // Connect the "Clear Log" button from the panel to the logger
         controlPanel.getBtnClearLog().setOnAction(e -> gameLogger.clear());
 
-        setupTimeline();
+        setupScheduler();
         refreshUI();
 
         Scene scene = new Scene(root, 1250, 850);
@@ -118,21 +125,49 @@ public class GameGUI extends Application {
         return topBar;
     }
 
-    private void setupTimeline() {
-        simulationTimeline = new Timeline(new KeyFrame(Duration.seconds(1.2), e -> executeTurn()));
-        simulationTimeline.setCycleCount(Timeline.INDEFINITE);
+    /**
+     * Creates the scheduler of the auto mode, paused until the mode is switched on.
+     * Each tick runs a turn on the JavaFX thread and waits for it, so the turns never overlap
+     * with the actions of the control panel, and never pile up in the event queue even when
+     * the turns run as fast as possible. A tick reaching the JavaFX thread after the auto mode
+     * was switched off does nothing.
+     */
+    private void setupScheduler() {
+        game.setTurnPeriod(AUTO_TURN_PERIOD);
+        scheduler = game.createScheduler("auto-mode", () -> {
+            FutureTask<Void> turn = new FutureTask<>(() -> {
+                if (isAutoRunning) {
+                    executeTurn();
+                }
+            }, null);
+            Platform.runLater(turn);
+            try {
+                turn.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        });
+        scheduler.start();
+        scheduler.pause();
     }
 
     private void toggleAutoMode(boolean enable) {
         isAutoRunning = enable;
         if (isAutoRunning) {
-            simulationTimeline.play();
+            scheduler.resume();
         } else {
-            simulationTimeline.pause();
+            scheduler.pause();
         }
         controlPanel.setAutoModeVisuals(isAutoRunning);
     }
 
+    @Override
+    public void stop() {
+        scheduler.stop();
+    }
+
     private void executeTurn() {
         currentTurn++;
         turnLabel.setText("Turn " + currentTurn);
@@ -3,10 +3,13 @@ package org.example.model.character;
 import java.util.Arrays;
 import java.util.Objects;
 
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 import org.example.model.food.FoodItem;
 import org.example.model.food.FoodItemType;
 import org.example.model.potion.Potion;
 import org.example.model.places.AbstractPlace;
+import org.example.model.registry.EntityRegistry;
 
 /**
  * Abstract base class for all characters in the game.
@@ -29,6 +32,9 @@ public abstract class AbstractCharacter {
         MALE, FEMALE
     }
 
+    /** Unique id of this character, handed out by the {@link EntityRegistry}; never changes. */
+    private final int id = EntityRegistry.nextCharacterId();
+
     protected String name;
 
     protected Sex sex;
@@ -55,6 +61,12 @@ public abstract class AbstractCharacter {
 
     protected AbstractPlace originPlace;
 
+    /** Columnar store holding the stats of this character, or {@code null} when they live in the fields above. */
+    private CharacterStore store;
+
+    /** Row of this character in {@link #store}. */
+    private int slot = -1;
+
     /**
      * Default constructor.
      */
@@ -87,6 +99,19 @@ public abstract class AbstractCharacter {
         this.isAlive = true;
     }
 
+    /**
+     * Gets the unique id of this character.
+     * <p>
+     * Unlike {@link #equals(Object)} and {@link #hashCode()}, which compare the
+     * current stats, the id never changes during the life of the character. It is
+     * the key to use in maps and indexes.
+     * </p>
+     * @return The id of the character.
+     */
+    public int getId() {
+        return id;
+    }
+
     /**
      * Sets the character's place of origin.
      * @param place The place of origin.
@@ -113,7 +138,7 @@ public abstract class AbstractCharacter {
             return;
         }
 
-        int damage = Math.max(this.strength - other.stamina, 0);
+        int damage = Math.max(this.getStrength() - other.getStamina(), 0);
         other.setHealth(other.getHealth() - damage);
     }
 
@@ -126,8 +151,8 @@ public abstract class AbstractCharacter {
             return;
         }
 
-        int damageToOther = Math.max(0, this.strength - other.stamina);
-        int damageToThis = Math.max(0, other.strength - this.stamina);
+        int damageToOther = Math.max(0, this.getStrength() - other.getStamina());
+        int damageToThis = Math.max(0, other.getStrength() - this.getStamina());
 
         other.setHealth(other.getHealth() - damageToOther);
         this.setHealth(this.getHealth() - damageToThis);
@@ -138,13 +163,17 @@ public abstract class AbstractCharacter {
      * @param other The character to heal.
      */
     public void heal(AbstractCharacter other) {
-        System.out.println("DEBUG: Attempting to heal " + other.getName() + ". Current isAlive: " + other.isAlive());
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.DEBUG, "DEBUG: Attempting to heal " + other.getName() + ". Current isAlive: " + other.isAlive());
+        }
         if (!other.isAlive()) {
-            System.out.println("DEBUG: " + other.getName() + " is dead. Cannot heal.");
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.DEBUG, "DEBUG: " + other.getName() + " is dead. Cannot heal.");
+            }
             return;
         }
         // TODO: Implement a more complex healing logic.
-        other.setHealth(other.getHealth() + this.strength);
+        other.setHealth(other.getHealth() + this.getStrength());
     }
 
     /**
@@ -199,15 +228,19 @@ public abstract class AbstractCharacter {
      * This method is now idempotent.
      */
     public void die() {
-        if (!isAlive) {
+        if (!isAlive()) {
             return; // Already dead
         }
-        System.out.println("DEBUG: " + this.getName() + " is dying.");
-        this.isAlive = false;
-        this.health = 0; // Set field directly to avoid recursion
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.DEBUG, "DEBUG: " + this.getName() + " is dying.");
+        }
+        writeAlive(false);
+        writeHealth(0); // Set the value directly to avoid recursion
         this.setStrength(0);
         this.setStamina(0);
-        System.out.println("DEBUG: " + this.getName() + " is now dead. isAlive: " + this.isAlive);
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.DEBUG, "DEBUG: " + this.getName() + " is now dead. isAlive: " + this.isAlive());
+        }
     }
 
     /**
@@ -231,7 +264,7 @@ public abstract class AbstractCharacter {
      * @return The sex.
      */
     public Sex getSex() {
-        return sex;
+        return store == null ? sex : CharacterStore.decodeSex(store.sex[slot]);
     }
 
     /**
@@ -239,7 +272,11 @@ public abstract class AbstractCharacter {
      * @param sex The new sex.
      */
     public void setSex(Sex sex) {
-        this.sex = sex;
+        if (store == null) {
+            this.sex = sex;
+        } else {
+            store.sex[slot] = CharacterStore.encodeSex(sex);
+        }
     }
 
     /**
@@ -263,7 +300,7 @@ public abstract class AbstractCharacter {
      * @return The age.
      */
     public int getAge() {
-        return age;
+        return store == null ? age : store.age[slot];
     }
 
     /**
@@ -271,7 +308,11 @@ public abstract class AbstractCharacter {
      * @param age The new age.
      */
     public void setAge(int age) {
-        this.age = age;
+        if (store == null) {
+            this.age = age;
+        } else {
+            store.age[slot] = age;
+        }
     }
 
     /**
@@ -279,7 +320,7 @@ public abstract class AbstractCharacter {
      * @return The strength.
      */
     public int getStrength() {
-        return strength;
+        return store == null ? strength : store.strength[slot];
     }
 
     /**
@@ -287,7 +328,11 @@ public abstract class AbstractCharacter {
      * @param strength The new strength.
      */
     public void setStrength(int strength) {
-        this.strength = strength;
+        if (store == null) {
+            this.strength = strength;
+        } else {
+            store.strength[slot] = strength;
+        }
     }
 
     /**
@@ -295,7 +340,7 @@ public abstract class AbstractCharacter {
      * @return The stamina.
      */
     public int getStamina() {
-        return stamina;
+        return store == null ? stamina : store.stamina[slot];
     }
 
     /**
@@ -303,7 +348,11 @@ public abstract class AbstractCharacter {
      * @param stamina The new stamina.
      */
     public void setStamina(int stamina) {
-        this.stamina = stamina;
+        if (store == null) {
+            this.stamina = stamina;
+        } else {
+            store.stamina[slot] = stamina;
+        }
     }
 
     /**
@@ -311,7 +360,7 @@ public abstract class AbstractCharacter {
      * @return The health.
      */
     public int getHealth() {
-        return health;
+        return store == null ? health : store.health[slot];
     }
 
     /**
@@ -320,22 +369,26 @@ public abstract class AbstractCharacter {
      * @param newHealth The new health value.
      */
     public void setHealth(int newHealth) {
-        int limit = this.maxHealth;
+        int limit = getMaxHealth();
         if (limit == 0) {
             limit = Integer.MAX_VALUE;
         }
 
         int clampedHealth = Math.max(0, Math.min(newHealth, limit));
-        this.health = clampedHealth;
+        writeHealth(clampedHealth);
 
-        if (this.isAlive && this.health == 0) {
-            System.out.println("DEBUG: Health is 0, calling die() for " + this.getName());
+        if (this.isAlive() && clampedHealth == 0) {
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.DEBUG, "DEBUG: Health is 0, calling die() for " + this.getName());
+            }
             die();
         }
 
-        System.out.println("DEBUG: setHealth for " + this.getName()
-                + " finished. New health: " + this.health
-                + ", isAlive: " + this.isAlive);
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.DEBUG, "DEBUG: setHealth for " + this.getName()
+                    + " finished. New health: " + this.getHealth()
+                    + ", isAlive: " + this.isAlive());
+        }
     }
 
 
@@ -344,7 +397,7 @@ public abstract class AbstractCharacter {
      * @return The hunger level.
      */
     public int getHunger() {
-        return hunger;
+        return store == null ? hunger : store.hunger[slot];
     }
 
     /**
@@ -352,7 +405,11 @@ public abstract class AbstractCharacter {
      * @param hunger The new hunger level.
      */
     public void setHunger(int hunger) {
-        this.hunger = hunger;
+        if (store == null) {
+            this.hunger = hunger;
+        } else {
+            store.hunger[slot] = hunger;
+        }
     }
 
     /**
@@ -360,7 +417,7 @@ public abstract class AbstractCharacter {
      * @return The belligerence level.
      */
     public int getBelligerence() {
-        return belligerence;
+        return store == null ? belligerence : store.belligerence[slot];
     }
 
     /**
@@ -368,7 +425,11 @@ public abstract class AbstractCharacter {
      * @param belligerence The new belligerence level.
      */
     public void setBelligerence(int belligerence) {
-        this.belligerence = belligerence;
+        if (store == null) {
+            this.belligerence = belligerence;
+        } else {
+            store.belligerence[slot] = belligerence;
+        }
     }
 
     /**
@@ -376,7 +437,7 @@ public abstract class AbstractCharacter {
      * @return The max health.
      */
     public int getMaxHealth() {
-        return maxHealth;
+        return store == null ? maxHealth : store.maxHealth[slot];
     }
 
     /**
@@ -384,7 +445,11 @@ public abstract class AbstractCharacter {
      * @param maxHealth The new belligerence level.
      */
     public void setMaxHealth(int maxHealth) {
-        this.maxHealth = maxHealth;
+        if (store == null) {
+            this.maxHealth = maxHealth;
+        } else {
+            store.maxHealth[slot] = maxHealth;
+        }
     }
 
     /**
@@ -392,7 +457,7 @@ public abstract class AbstractCharacter {
      * @return The magic potion level.
      */
     public int getLevelMagicPotion() {
-        return levelMagicPotion;
+        return store == null ? levelMagicPotion : store.potion[slot];
     }
 
     /**
@@ -400,7 +465,11 @@ public abstract class AbstractCharacter {
      * @param levelMagicPotion The new magic potion level.
      */
     public void setLevelMagicPotion(int levelMagicPotion) {
-        this.levelMagicPotion = levelMagicPotion;
+        if (store == null) {
+            this.levelMagicPotion = levelMagicPotion;
+        } else {
+            store.potion[slot] = levelMagicPotion;
+        }
     }
 
     /**
@@ -408,33 +477,92 @@ public abstract class AbstractCharacter {
      * @return {@code true} if the character is alive, {@code false} otherwise.
      */
     public boolean isAlive() {
-        return isAlive;
+        return store == null ? isAlive : store.alive[slot] != 0;
+    }
+
+    private void writeHealth(int value) {
+        if (store == null) {
+            this.health = value;
+        } else {
+            store.health[slot] = value;
+        }
+    }
+
+    private void writeAlive(boolean value) {
+        if (store == null) {
+            this.isAlive = value;
+        } else {
+            store.alive[slot] = (byte) (value ? 1 : 0);
+        }
+    }
+
+    /**
+     * Gets the columnar store holding the stats of this character.
+     * @return The store, or {@code null} if the stats are held by the object itself.
+     */
+    public CharacterStore getStore() {
+        return store;
+    }
+
+    /**
+     * Gets the row of this character in its store.
+     * @return The slot, or {@code -1} if the character is not attached to a store.
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Binds this character to a row of a store. Called by {@link CharacterStore#attach}.
+     */
+    void bindStore(CharacterStore store, int slot) {
+        this.store = store;
+        this.slot = slot;
+    }
+
+    /**
+     * Gets the stats back from a store row. Called by {@link CharacterStore#detach}.
+     */
+    void unbindStore(int health, int maxHealth, int strength, int stamina, int hunger, int belligerence,
+                     int levelMagicPotion, int age, Sex sex, boolean isAlive) {
+        this.store = null;
+        this.slot = -1;
+        this.health = health;
+        this.maxHealth = maxHealth;
+        this.strength = strength;
+        this.stamina = stamina;
+        this.hunger = hunger;
+        this.belligerence = belligerence;
+        this.levelMagicPotion = levelMagicPotion;
+        this.age = age;
+        this.sex = sex;
+        this.isAlive = isAlive;
     }
 
     @Override
     public String toString() {
         return "AbstractCharacter{" +
                 "name='" + name + '\'' +
-                ", sex=" + sex +
+                ", sex=" + getSex() +
                 ", height=" + height +
-                ", age=" + age +
-                ", strength=" + strength +
-                ", stamina=" + stamina +
-                ", health=" + health +
-                ", hunger=" + hunger +
-                ", belligerence=" + belligerence +
-                ", levelMagicPotion=" + levelMagicPotion +
+                ", age=" + getAge() +
+                ", strength=" + getStrength() +
+                ", stamina=" + getStamina() +
+                ", health=" + getHealth() +
+                ", hunger=" + getHunger() +
+                ", belligerence=" + getBelligerence() +
+                ", levelMagicPotion=" + getLevelMagicPotion() +
                 '}';
     }
 
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof AbstractCharacter that)) return false;
-        return Float.compare(height, that.height) == 0 && age == that.age && strength == that.strength && stamina == that.stamina && health == that.health && hunger == that.hunger && belligerence == that.belligerence && levelMagicPotion == that.levelMagicPotion && Objects.equals(name, that.name) && sex == that.sex;
+        return Float.compare(height, that.height) == 0 && getAge() == that.getAge() && getStrength() == that.getStrength() && getStamina() == that.getStamina() && getHealth() == that.getHealth() && getHunger() == that.getHunger() && getBelligerence() == that.getBelligerence() && getLevelMagicPotion() == that.getLevelMagicPotion() && Objects.equals(name, that.name) && getSex() == that.getSex();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, sex, height, age, strength, stamina, health, hunger, belligerence, levelMagicPotion);
+        return Objects.hash(name, getSex(), height, getAge(), getStrength(), getStamina(), getHealth(), getHunger(), getBelligerence(), getLevelMagicPotion());
     }
 }
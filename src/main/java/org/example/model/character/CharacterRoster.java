@@ -0,0 +1,306 @@
+package org.example.model.character;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.random.RandomGenerator;
+
+/**
+ * An ordered set of characters, indexed by {@link AbstractCharacter#getId() id}.
+ * <p>
+ * Characters are stored in an array in insertion order, and a map gives the
+ * slot of each id. Adding, removing and membership checks are O(1) and do not
+ * depend on {@code equals}/{@code hashCode}, which change with the stats of
+ * a character.
+ * </p>
+ * <p>
+ * A removal leaves an empty slot behind instead of shifting the array. The
+ * array is compacted, in order, once empty slots outnumber the characters or
+ * before a positional access, so the cost of shifting is shared by all the
+ * removals made in between.
+ * </p>
+ *
+ * @param <T> The type of character stored.
+ */
+public final class CharacterRoster<T extends AbstractCharacter> implements Iterable<T> {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private AbstractCharacter[] slots = new AbstractCharacter[INITIAL_CAPACITY];
+    private final Map<Integer, Integer> slotById = new HashMap<>();
+    private final List<T> view = new View();
+    /** Number of used slots, empty ones included. */
+    private int end;
+    /** Number of characters. */
+    private int size;
+    private int modCount;
+    /** Incremented by each compaction, so iterators can find their position again. */
+    private int compactions;
+
+    /**
+     * Creates an empty roster.
+     */
+    public CharacterRoster() {
+    }
+
+    /**
+     * Creates a roster holding the given characters, in order.
+     *
+     * @param characters The initial characters; duplicates are ignored.
+     */
+    public CharacterRoster(Iterable<? extends T> characters) {
+        for (T character : characters) {
+            add(character);
+        }
+    }
+
+    /**
+     * Adds a character at the end of the roster.
+     *
+     * @param character The character to add.
+     * @return {@code true} if it was added, {@code false} if it was already present.
+     */
+    public boolean add(T character) {
+        if (slotById.containsKey(character.getId())) {
+            return false;
+        }
+        if (end == slots.length) {
+            if (end - size > 0) {
+                compact();
+            } else {
+                AbstractCharacter[] grown = new AbstractCharacter[slots.length * 2];
+                System.arraycopy(slots, 0, grown, 0, end);
+                slots = grown;
+            }
+        }
+        slots[end] = character;
+        slotById.put(character.getId(), end);
+        end++;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes a character from the roster.
+     *
+     * @param character The character to remove.
+     * @return {@code true} if it was present.
+     */
+    public boolean remove(AbstractCharacter character) {
+        if (character == null) {
+            return false;
+        }
+        Integer slot = slotById.remove(character.getId());
+        if (slot == null) {
+            return false;
+        }
+        slots[slot] = null;
+        size--;
+        modCount++;
+        if (end - size > size) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a character is in the roster.
+     *
+     * @param character The character to look for.
+     * @return {@code true} if it is present.
+     */
+    public boolean contains(AbstractCharacter character) {
+        return character != null && slotById.containsKey(character.getId());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the character at a given position, in insertion order.
+     *
+     * @param index The position of the character.
+     * @return The character.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        if (end != size) {
+            compact();
+        }
+        return (T) slots[index];
+    }
+
+    /**
+     * Picks a random character without copying the roster.
+     *
+     * @param random The random generator to use.
+     * @return A random character, or {@code null} if the roster is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T random(RandomGenerator random) {
+        if (size == 0) {
+            return null;
+        }
+        // Empty slots never outnumber characters, so this takes two draws at most on average
+        while (true) {
+            AbstractCharacter character = slots[random.nextInt(end)];
+            if (character != null) {
+                return (T) character;
+            }
+        }
+    }
+
+    /**
+     * Removes every character.
+     */
+    public void clear() {
+        Arrays.fill(slots, 0, end, null);
+        slotById.clear();
+        end = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Gets a read-only live {@link List} view of the roster, in insertion order.
+     *
+     * @return The view, always the same instance.
+     */
+    public List<T> asList() {
+        return view;
+    }
+
+    /**
+     * Copies the roster into an immutable list.
+     *
+     * @return A new immutable list of the characters, in insertion order.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> toList() {
+        AbstractCharacter[] copy = new AbstractCharacter[size];
+        int i = 0;
+        for (int slot = 0; slot < end; slot++) {
+            if (slots[slot] != null) {
+                copy[i++] = slots[slot];
+            }
+        }
+        return (List<T>) List.of(copy);
+    }
+
+    /**
+     * Iterates over the characters in insertion order. The roster must not be
+     * modified during the iteration.
+     *
+     * @return A fail-fast iterator.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final int expectedModCount = modCount;
+            private int expectedCompactions = compactions;
+            private int slot = nextSlot(0);
+            private T last;
+
+            private int nextSlot(int from) {
+                while (from < end && slots[from] == null) {
+                    from++;
+                }
+                return from;
+            }
+
+            private void relocate() {
+                if (expectedCompactions != compactions) {
+                    // The last character returned may be gone: only a plain compaction can be followed
+                    if (modCount != expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                    // The characters moved: continue after the last one returned
+                    slot = last == null ? nextSlot(0) : nextSlot(slotById.get(last.getId()) + 1);
+                    expectedCompactions = compactions;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                relocate();
+                return slot < end;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                relocate();
+                if (slot >= end) {
+                    throw new NoSuchElementException();
+                }
+                last = (T) slots[slot];
+                slot = nextSlot(slot + 1);
+                return last;
+            }
+        };
+    }
+
+    /**
+     * Moves the characters to the first slots, keeping their order.
+     * Compacting does not change the content, so it does not count as a modification.
+     */
+    private void compact() {
+        int target = 0;
+        for (int slot = 0; slot < end; slot++) {
+            AbstractCharacter character = slots[slot];
+            if (character != null) {
+                if (slot != target) {
+                    slots[target] = character;
+                    slotById.put(character.getId(), target);
+                }
+                target++;
+            }
+        }
+        Arrays.fill(slots, target, end, null);
+        end = target;
+        compactions++;
+    }
+
+    /**
+     * Read-only list view over the roster.
+     */
+    private final class View extends AbstractList<T> {
+        @Override
+        public T get(int index) {
+            return CharacterRoster.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof AbstractCharacter character && CharacterRoster.this.contains(character);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return CharacterRoster.this.iterator();
+        }
+    }
+}
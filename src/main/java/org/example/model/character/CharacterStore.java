@@ -0,0 +1,348 @@
+package org.example.model.character;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Columnar storage for the stats of a large number of characters.
+ * <p>
+ * Instead of one object holding all the stats of one character, the store keeps
+ * one primitive array per stat, indexed by a slot number. A per-turn update that
+ * only touches a couple of stats (hunger and potion level for instance) then
+ * becomes a plain loop over two int arrays, which is much friendlier to the
+ * cache and to the JIT than walking a list of characters.
+ * </p>
+ * <p>
+ * A character is moved into the store with {@link #attach(AbstractCharacter)}:
+ * from then on its getters and setters read and write its slot, so the
+ * character object acts as a view over the columns and the rest of the code
+ * does not see any difference. {@link #detach(AbstractCharacter)} copies the
+ * values back into the object.
+ * </p>
+ * <p>
+ * Rows may also exist without any character object at all
+ * ({@link #allocate()}); they are read and written through a reusable
+ * {@link Cursor}. Name, height and the other non-numeric data stay on the
+ * character objects.
+ * </p>
+ * <p>
+ * The store is not thread-safe.
+ * </p>
+ */
+public final class CharacterStore {
+
+    private static final byte ALIVE = 1;
+    private static final byte DEAD = 0;
+    private static final byte NO_SEX = -1;
+
+    int[] health;
+    int[] maxHealth;
+    int[] strength;
+    int[] stamina;
+    int[] hunger;
+    int[] belligerence;
+    int[] potion;
+    int[] age;
+    byte[] sex;
+    byte[] alive;
+
+    private AbstractCharacter[] owners;
+    private int[] freeSlots;
+    private int freeCount;
+    private int highWater;
+
+    /**
+     * Creates an empty store.
+     *
+     * @param initialCapacity The number of slots allocated up front.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public CharacterStore(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + initialCapacity);
+        }
+        int capacity = Math.max(initialCapacity, 8);
+        health = new int[capacity];
+        maxHealth = new int[capacity];
+        strength = new int[capacity];
+        stamina = new int[capacity];
+        hunger = new int[capacity];
+        belligerence = new int[capacity];
+        potion = new int[capacity];
+        age = new int[capacity];
+        sex = new byte[capacity];
+        alive = new byte[capacity];
+        owners = new AbstractCharacter[capacity];
+        freeSlots = new int[8];
+    }
+
+    /**
+     * Reserves a blank row not bound to any character.
+     * <p>
+     * The row starts alive with every stat at zero.
+     * </p>
+     *
+     * @return The slot of the new row.
+     */
+    public int allocate() {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (highWater == owners.length) {
+                grow();
+            }
+            slot = highWater++;
+        }
+        health[slot] = 0;
+        maxHealth[slot] = 0;
+        strength[slot] = 0;
+        stamina[slot] = 0;
+        hunger[slot] = 0;
+        belligerence[slot] = 0;
+        potion[slot] = 0;
+        age[slot] = 0;
+        sex[slot] = NO_SEX;
+        alive[slot] = ALIVE;
+        return slot;
+    }
+
+    /**
+     * Frees a row. Its slot may be handed out again by a later allocation.
+     *
+     * @param slot The slot to free.
+     * @throws IllegalArgumentException if the slot is still bound to a character.
+     */
+    public void release(int slot) {
+        checkSlot(slot);
+        if (owners[slot] != null) {
+            throw new IllegalArgumentException("Slot " + slot + " is bound to " + owners[slot].getName());
+        }
+        alive[slot] = DEAD;
+        potion[slot] = 0;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * Moves the stats of a character into the store.
+     * <p>
+     * Does nothing if the character is already attached to this store. A
+     * character attached to another store is detached from it first.
+     * </p>
+     *
+     * @param c The character to attach.
+     * @return The slot of the character.
+     * @throws IllegalArgumentException if the character is null.
+     */
+    public int attach(AbstractCharacter c) {
+        if (c == null) {
+            throw new IllegalArgumentException("Character cannot be null");
+        }
+        if (c.getStore() == this) {
+            return c.getSlot();
+        }
+        if (c.getStore() != null) {
+            c.getStore().detach(c);
+        }
+        int slot = allocate();
+        health[slot] = c.getHealth();
+        maxHealth[slot] = c.getMaxHealth();
+        strength[slot] = c.getStrength();
+        stamina[slot] = c.getStamina();
+        hunger[slot] = c.getHunger();
+        belligerence[slot] = c.getBelligerence();
+        potion[slot] = c.getLevelMagicPotion();
+        age[slot] = c.getAge();
+        sex[slot] = encodeSex(c.getSex());
+        alive[slot] = c.isAlive() ? ALIVE : DEAD;
+        owners[slot] = c;
+        c.bindStore(this, slot);
+        return slot;
+    }
+
+    /**
+     * Copies the stats of a character back into the object and frees its row.
+     * Does nothing if the character is not attached to this store.
+     *
+     * @param c The character to detach.
+     */
+    public void detach(AbstractCharacter c) {
+        if (c == null || c.getStore() != this) {
+            return;
+        }
+        int slot = c.getSlot();
+        c.unbindStore(health[slot], maxHealth[slot], strength[slot], stamina[slot], hunger[slot],
+                belligerence[slot], potion[slot], age[slot], decodeSex(sex[slot]), alive[slot] == ALIVE);
+        owners[slot] = null;
+        release(slot);
+    }
+
+    /**
+     * Gets the character bound to a slot.
+     *
+     * @param slot The slot.
+     * @return The character, or {@code null} for a free or anonymous row.
+     */
+    public AbstractCharacter getOwner(int slot) {
+        checkSlot(slot);
+        return owners[slot];
+    }
+
+    /**
+     * Gets the number of rows in use.
+     *
+     * @return The number of rows, bound or not.
+     */
+    public int size() {
+        return highWater - freeCount;
+    }
+
+    /**
+     * Lets one turn pass for every living row: hunger grows and potion effects fade.
+     * <p>
+     * Each row gains {@code hungerGain} hunger with a probability of one half, and
+     * loses {@code potionFade} potion level (without going below zero). The random
+     * draws are taken 64 rows at a time from a single {@code nextLong()}, so the
+     * loop body has no call and no branch on the random value. Dead and free rows
+     * are masked out by their alive flag and keep their values.
+     * </p>
+     *
+     * @param random     The source of the hunger coin flips.
+     * @param hungerGain The hunger added on a successful flip.
+     * @param potionFade The potion level lost by rows having some.
+     */
+    public void passTime(RandomGenerator random, int hungerGain, int potionFade) {
+        int[] hungerColumn = hunger;
+        int[] potionColumn = potion;
+        byte[] aliveColumn = alive;
+        int end = highWater;
+        for (int base = 0; base < end; base += Long.SIZE) {
+            long bits = random.nextLong();
+            int blockEnd = Math.min(end, base + Long.SIZE);
+            for (int i = base; i < blockEnd; i++) {
+                hungerColumn[i] += ((int) (bits >>> (i - base)) & aliveColumn[i]) * hungerGain;
+            }
+        }
+        for (int i = 0; i < end; i++) {
+            int p = potionColumn[i];
+            if (p > 0 && aliveColumn[i] == ALIVE) {
+                potionColumn[i] = Math.max(0, p - potionFade);
+            }
+        }
+    }
+
+    /**
+     * Creates a cursor reading and writing the rows of this store.
+     *
+     * @return A new cursor, placed on no row.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void grow() {
+        int capacity = owners.length * 2;
+        health = Arrays.copyOf(health, capacity);
+        maxHealth = Arrays.copyOf(maxHealth, capacity);
+        strength = Arrays.copyOf(strength, capacity);
+        stamina = Arrays.copyOf(stamina, capacity);
+        hunger = Arrays.copyOf(hunger, capacity);
+        belligerence = Arrays.copyOf(belligerence, capacity);
+        potion = Arrays.copyOf(potion, capacity);
+        age = Arrays.copyOf(age, capacity);
+        sex = Arrays.copyOf(sex, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+        owners = Arrays.copyOf(owners, capacity);
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= highWater) {
+            throw new IndexOutOfBoundsException("Slot: " + slot + ", Rows: " + highWater);
+        }
+    }
+
+    static byte encodeSex(AbstractCharacter.Sex s) {
+        return s == null ? NO_SEX : (byte) s.ordinal();
+    }
+
+    static AbstractCharacter.Sex decodeSex(byte b) {
+        return b == NO_SEX ? null : AbstractCharacter.Sex.values()[b];
+    }
+
+    /**
+     * Flyweight over one row of the store.
+     * <p>
+     * A single cursor can be moved over any number of rows with
+     * {@link #moveTo(int)}, so reading a million rows does not create a million
+     * objects. The accessors use the same names as those of
+     * {@link AbstractCharacter}, but they write the raw value: clamping health
+     * and dying are the job of the character itself.
+     * </p>
+     */
+    public final class Cursor {
+
+        private int slot = -1;
+
+        private Cursor() {
+        }
+
+        /**
+         * Places the cursor on a row.
+         *
+         * @param slot The slot of the row.
+         * @return This cursor.
+         */
+        public Cursor moveTo(int slot) {
+            checkSlot(slot);
+            this.slot = slot;
+            return this;
+        }
+
+        public int getSlot() { return slot; }
+
+        public AbstractCharacter getOwner() { return owners[slot]; }
+
+        public int getHealth() { return health[slot]; }
+
+        public void setHealth(int value) { health[slot] = value; }
+
+        public int getMaxHealth() { return maxHealth[slot]; }
+
+        public void setMaxHealth(int value) { maxHealth[slot] = value; }
+
+        public int getStrength() { return strength[slot]; }
+
+        public void setStrength(int value) { strength[slot] = value; }
+
+        public int getStamina() { return stamina[slot]; }
+
+        public void setStamina(int value) { stamina[slot] = value; }
+
+        public int getHunger() { return hunger[slot]; }
+
+        public void setHunger(int value) { hunger[slot] = value; }
+
+        public int getBelligerence() { return belligerence[slot]; }
+
+        public void setBelligerence(int value) { belligerence[slot] = value; }
+
+        public int getLevelMagicPotion() { return potion[slot]; }
+
+        public void setLevelMagicPotion(int value) { potion[slot] = value; }
+
+        public int getAge() { return age[slot]; }
+
+        public void setAge(int value) { age[slot] = value; }
+
+        public AbstractCharacter.Sex getSex() { return decodeSex(sex[slot]); }
+
+        public void setSex(AbstractCharacter.Sex value) { sex[slot] = encodeSex(value); }
+
+        public boolean isAlive() { return alive[slot] == ALIVE; }
+
+        public void setAlive(boolean value) { alive[slot] = value ? ALIVE : DEAD; }
+    }
+}
@@ -1,6 +1,8 @@
 package org.example.model.character.gallic;
 
 import org.example.model.character.Interface.Worker;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 
 /**
  * Represents a Blacksmith, a type of Gallic character who is a skilled worker.
@@ -34,7 +36,9 @@ public class Blacksmith extends Gallic implements Worker {
      */
     @Override
     public void work() {
-        System.out.println(getName() + " forges weapons and repairs armor.");
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.INFO, getName() + " forges weapons and repairs armor.");
+        }
         itemsCrafted++;
         productivity = Math.min(100, productivity + 2);
 
@@ -3,6 +3,8 @@ package org.example.model.character.gallic;
 import org.example.model.character.Interface.Combatant;
 import org.example.model.character.Interface.Leader;
 import org.example.model.character.Interface.Worker;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 
 /**
  * Represents a Druid, a versatile Gallic character who can fight, lead, and work.
@@ -36,7 +38,9 @@ public class Druid extends Gallic implements Combatant, Leader, Worker {
      */
     @Override
     public void combat() {
-        System.out.println(getName() + " uses magical combat techniques!");
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.INFO, getName() + " uses magical combat techniques!");
+        }
         setBelligerence(getBelligerence() + 5);
     }
 
@@ -46,7 +50,9 @@ public class Druid extends Gallic implements Combatant, Leader, Worker {
      */
     @Override
     public void lead() {
-        System.out.println(getName() + " provides wise guidance to the village.");
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.INFO, getName() + " provides wise guidance to the village.");
+        }
         leadershipScore = Math.min(100, leadershipScore + 2);
     }
 
@@ -65,7 +71,9 @@ public class Druid extends Gallic implements Combatant, Leader, Worker {
      */
     @Override
     public void work() {
-        System.out.println(getName() + " brews magic potions and gathers herbs.");
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.INFO, getName() + " brews magic potions and gathers herbs.");
+        }
         productivity = Math.min(100, productivity + 3);
     }
 
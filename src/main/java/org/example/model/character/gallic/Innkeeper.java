@@ -1,6 +1,8 @@
 package org.example.model.character.gallic;
 
 import org.example.model.character.Interface.Worker;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 
 /**
  * Represents an Innkeeper, a type of Gallic character who is a worker.
@@ -34,7 +36,9 @@ public class Innkeeper extends Gallic implements Worker {
      */
     @Override
     public void work() {
-        System.out.println(getName() + " serves food and welcomes guests at the inn.");
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.INFO, getName() + " serves food and welcomes guests at the inn.");
+        }
         customersServed++;
         productivity = Math.min(100, productivity + 2);
     }
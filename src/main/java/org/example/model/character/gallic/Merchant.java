@@ -1,6 +1,8 @@
 package org.example.model.character.gallic;
 
 import org.example.model.character.Interface.Worker;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 
 /**
  * Represents a Merchant, a type of Gallic character who is a worker specializing in trade.
@@ -34,7 +36,9 @@ public class Merchant extends Gallic implements Worker {
      */
     @Override
     public void work() {
-        System.out.println(getName() + " trades goods and negotiates deals.");
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.INFO, getName() + " trades goods and negotiates deals.");
+        }
         dealsCompleted++;
         productivity = Math.min(100, productivity + 3);
     }
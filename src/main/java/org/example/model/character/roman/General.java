@@ -2,6 +2,8 @@ package org.example.model.character.roman;
 
 import org.example.model.character.Interface.Combatant;
 import org.example.model.character.Interface.Leader;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 
 /**
  * Represents a General, a type of Roman character who is both a combatant and a leader.
@@ -35,7 +37,9 @@ public class General extends Roman implements Combatant, Leader {
      */
     @Override
     public void combat() {
-        System.out.println(getName() + " leads the charge into battle!");
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.INFO, getName() + " leads the charge into battle!");
+        }
         setBelligerence(getBelligerence() + 15);
         battlesWon++;
     }
@@ -46,11 +50,15 @@ public class General extends Roman implements Combatant, Leader {
      */
     @Override
     public void lead() {
-        System.out.println(getName() + " commands the Roman legions with authority.");
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.INFO, getName() + " commands the Roman legions with authority.");
+        }
         leadershipScore = Math.min(100, leadershipScore + 3);
 
         // Leadership reduces belligerence of subordinates
-        System.out.println("  → Troops rally under " + getName() + "'s command!");
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.INFO, "  → Troops rally under " + getName() + "'s command!");
+        }
     }
 
     /**
@@ -1,6 +1,8 @@
 package org.example.model.character.roman;
 
 import org.example.model.character.Interface.Combatant;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 
 /**
  * Represents a Legionary, a standard soldier in the Roman army who is a combatant.
@@ -31,7 +33,9 @@ public class Legionary extends Roman implements Combatant {
      */
     @Override
     public void combat() {
-        System.out.println(getName() + " engages in disciplined Roman military combat!");
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.INFO, getName() + " engages in disciplined Roman military combat!");
+        }
         battlesParticipated++;
         setBelligerence(getBelligerence() + 10);
 
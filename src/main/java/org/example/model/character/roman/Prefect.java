@@ -1,6 +1,8 @@
 package org.example.model.character.roman;
 
 import org.example.model.character.Interface.Leader;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 
 /**
  * Represents a Prefect, a type of Roman character who is a leader.
@@ -34,11 +36,13 @@ public class Prefect extends Roman implements Leader {
      */
     @Override
     public void lead() {
-        System.out.println(getName() + " administers the province and maintains order.");
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.INFO, getName() + " administers the province and maintains order.");
+        }
         leadershipScore = Math.min(100, leadershipScore + 2);
         decisionsMade++;
 
-        System.out.println("  → Order and discipline are maintained.");
+        SimulationLog.emit(SimulationEventType.INFO, "  → Order and discipline are maintained.");
     }
 
     /**
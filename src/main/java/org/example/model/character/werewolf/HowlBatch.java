@@ -0,0 +1,174 @@
+package org.example.model.character.werewolf;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
+import org.example.model.pack.Pack;
+
+/**
+ * The howls of one pack during one season, delivered to the listeners all at once.
+ * <p>
+ * Delivering each howl to each member costs one call per (howl, listener) pair. A batch only
+ * keeps, per howl type, the ranks of the senders, so that a listener can work out the summed
+ * effect of all the howls with a couple of binary searches: see
+ * {@link WerewolfHowlManager#hearHowls(HowlBatch)}. Howls do not change ranks, health or
+ * membership, so the result is the same as hearing them one by one, except for the order in
+ * which the random draws of aggression howls are made.
+ * </p>
+ */
+public class HowlBatch {
+
+    /** Above this number of aggression howls, the number of reactions is drawn from a normal approximation. */
+    private static final int EXACT_DRAW_LIMIT = 64;
+
+    private final Pack pack;
+    private final int[][] senderRanks = new int[HowlType.values().length][];
+    private final int[] counts = new int[HowlType.values().length];
+    private boolean sorted = true;
+
+    /**
+     * Creates an empty batch.
+     * @param pack The pack the howls are sent to, or {@code null} for howls heard across packs.
+     */
+    public HowlBatch(Pack pack) {
+        this.pack = pack;
+        for (int i = 0; i < senderRanks.length; i++) {
+            senderRanks[i] = new int[4];
+        }
+    }
+
+    /**
+     * Records a howl, with the same conditions as {@link WerewolfHowlManager#howl(HowlType)}:
+     * the sender must be alive and in wolf form.
+     * @param sender The werewolf who howls.
+     * @param type The type of howl.
+     * @return {@code true} if the howl was recorded.
+     */
+    public boolean add(Werewolf sender, HowlType type) {
+        if (!sender.isAlive() || sender.isHuman()) return false;
+        SimulationLog.publish(SimulationEventType.HOWL, sender, null, null, type.getDescription(), 0, 0);
+        record(sender, type);
+        return true;
+    }
+
+    /**
+     * Records a howl already accepted and announced by another batch, without publishing it again.
+     * @param sender The werewolf who howled.
+     * @param type The type of howl.
+     */
+    public void record(Werewolf sender, HowlType type) {
+        int t = type.ordinal();
+        if (counts[t] == senderRanks[t].length) {
+            senderRanks[t] = Arrays.copyOf(senderRanks[t], counts[t] * 2);
+        }
+        senderRanks[t][counts[t]++] = sender.getRank();
+        sorted = false;
+    }
+
+    /**
+     * Gets the pack the howls are sent to.
+     * @return The pack.
+     */
+    public Pack getPack() { return pack; }
+
+    /**
+     * Gets the number of howls of a type.
+     * @param type The type of howl.
+     * @return The number of howls.
+     */
+    public int count(HowlType type) { return counts[type.ordinal()]; }
+
+    /**
+     * Gets the total number of howls.
+     * @return The number of howls of all types.
+     */
+    public int size() {
+        int total = 0;
+        for (int c : counts) total += c;
+        return total;
+    }
+
+    /**
+     * Counts the howls of a type sent by werewolves of a strictly higher rank.
+     * @param type The type of howl.
+     * @param rank The rank to compare with.
+     * @return The number of howls.
+     */
+    public int countFromAbove(HowlType type, int rank) {
+        sort();
+        int t = type.ordinal();
+        return counts[t] - upperBound(senderRanks[t], counts[t], rank);
+    }
+
+    /**
+     * Counts the howls of a type sent by werewolves of a strictly lower rank.
+     * @param type The type of howl.
+     * @param rank The rank to compare with.
+     * @return The number of howls.
+     */
+    public int countFromBelow(HowlType type, int rank) {
+        sort();
+        int t = type.ordinal();
+        return lowerBound(senderRanks[t], counts[t], rank);
+    }
+
+    /**
+     * Draws the number of successes among independent trials.
+     * <p>
+     * Up to {@value #EXACT_DRAW_LIMIT} trials, each one is drawn. Beyond, the count comes from
+     * the normal approximation of the binomial law, so the cost does not grow with the number
+     * of trials.
+     * </p>
+     * @param random The source of randomness.
+     * @param trials The number of trials.
+     * @param p The probability of success of each trial.
+     * @return The number of successes, between 0 and {@code trials}.
+     */
+    static int successes(RandomGenerator random, int trials, double p) {
+        if (trials <= 0 || p <= 0) return 0;
+        if (p >= 1) return trials;
+        if (trials <= EXACT_DRAW_LIMIT) {
+            int n = 0;
+            for (int i = 0; i < trials; i++) {
+                if (random.nextDouble() < p) n++;
+            }
+            return n;
+        }
+        double mean = trials * p;
+        double deviation = Math.sqrt(mean * (1 - p));
+        long n = Math.round(mean + deviation * random.nextGaussian());
+        return (int) Math.max(0, Math.min(trials, n));
+    }
+
+    private void sort() {
+        if (sorted) return;
+        for (int t = 0; t < senderRanks.length; t++) {
+            Arrays.sort(senderRanks[t], 0, counts[t]);
+        }
+        sorted = true;
+    }
+
+    /** Index of the first value strictly greater than {@code key}. */
+    private static int upperBound(int[] values, int size, int key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= key) low = mid + 1; else high = mid;
+        }
+        return low;
+    }
+
+    /** Index of the first value greater than or equal to {@code key}. */
+    private static int lowerBound(int[] values, int size, int key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) low = mid + 1; else high = mid;
+        }
+        return low;
+    }
+}
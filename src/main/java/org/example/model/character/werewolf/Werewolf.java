@@ -2,8 +2,13 @@ package org.example.model.character.werewolf;
 
 import org.example.model.character.AbstractCharacter;
 import org.example.model.character.Interface.Combatant;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 import org.example.model.food.FoodItemType;
 import org.example.model.pack.Pack;
+import org.example.model.random.SimulationRandom;
+
+import java.util.SplittableRandom;
 
 /**
  * Represents a Werewolf character, a complex entity with unique behaviors and attributes.
@@ -22,6 +27,9 @@ import org.example.model.pack.Pack;
  */
 public class Werewolf extends AbstractCharacter implements Combatant {
 
+    private static final int NEWBORN_HEALTH = 100;
+    private static final int NEWBORN_HUNGER = 50;
+
     /** The age category of the werewolf (e.g., YOUNG, ADULT, OLD). */
     private AgeCategory ageCategory = AgeCategory.ADULT;
     /** Flag indicating if the werewolf is currently in human form. */
@@ -34,6 +42,8 @@ public class Werewolf extends AbstractCharacter implements Combatant {
     private double impetuosity;
     /** The pack that this werewolf belongs to. Can be null if they are a lone wolf. */
     private Pack pack;
+    /** Random stream used when the werewolf has no pack, created on first use. */
+    private SplittableRandom loneRandom;
 
     // Managers for handling different aspects of werewolf behavior
     private final WerewolfStats stats = new WerewolfStats(this);
@@ -62,6 +72,30 @@ public class Werewolf extends AbstractCharacter implements Combatant {
         super(name, age, strength, health);
     }
 
+    private Werewolf(String name, Sex sex, int strength, int stamina) {
+        super(name);
+        this.sex = sex;
+        this.strength = strength;
+        this.stamina = stamina;
+        this.health = NEWBORN_HEALTH;
+        this.hunger = NEWBORN_HUNGER;
+        this.ageCategory = AgeCategory.YOUNG;
+    }
+
+    /**
+     * Creates a newborn cub, aged 0 and in the YOUNG category, with full health and half hunger.
+     * The fields are written directly instead of going through the setters, which log and
+     * notify the pack: the cub has no pack yet.
+     * @param name The name of the cub.
+     * @param sex The sex of the cub.
+     * @param strength The strength of the cub.
+     * @param stamina The stamina of the cub.
+     * @return The cub.
+     */
+    public static Werewolf newborn(String name, Sex sex, int strength, int stamina) {
+        return new Werewolf(name, sex, strength, stamina);
+    }
+
     // ====== Delegated Behaviors ======
 
     /**
@@ -79,6 +113,24 @@ public class Werewolf extends AbstractCharacter implements Combatant {
      */
     public void hearHowl(Werewolf sender, HowlType type) { howlManager.hearHowl(sender, type); }
 
+    /**
+     * Reacts to all the howls of a batch at once.
+     * Delegates the action to the {@link WerewolfHowlManager}.
+     * @param batch The howls heard.
+     */
+    public void hearHowls(HowlBatch batch) { howlManager.hearHowls(batch); }
+
+    /**
+     * Reacts to the howls of other packs heard from nearby.
+     * Delegates the action to the {@link WerewolfHowlManager}.
+     * @param nearby The howls sent near the werewolf.
+     * @param own The howls among them sent by its own pack.
+     * @param attenuation The probability that a distant howl is heard.
+     */
+    public void hearDistantHowls(HowlBatch nearby, HowlBatch own, double attenuation) {
+        howlManager.hearDistantHowls(nearby, own, attenuation);
+    }
+
     /**
      * Transforms the werewolf into its human form.
      * Delegates the action to the {@link WerewolfTransformationManager}.
@@ -105,7 +157,8 @@ public class Werewolf extends AbstractCharacter implements Combatant {
 
     /**
      * Calculates the werewolf's overall level based on its stats.
-     * Delegates the calculation to the {@link WerewolfStats}.
+     * Delegates the calculation to the {@link WerewolfStats}, which caches it until one of the
+     * stats it depends on changes.
      * @return The calculated level.
      */
     public double calculateLevel() { return stats.calculateLevel(); }
@@ -123,29 +176,77 @@ public class Werewolf extends AbstractCharacter implements Combatant {
     @Override
     public void combat() {
         if (isHuman) {
-            System.out.println(getName() + " cannot fight effectively in human form!");
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.INFO, getName() + " cannot fight effectively in human form!");
+            }
             return;
         }
 
-        System.out.println(getName() + " fights with savage werewolf ferocity!");
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.INFO, getName() + " fights with savage werewolf ferocity!");
+        }
         setBelligerence(getBelligerence() + 20);
 
         // Werewolves are naturally more aggressive in combat
         if (calculateLevel() > 50) {
-            System.out.println("  → " + getName() + " unleashes devastating attacks!");
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.INFO, "  → " + getName() + " unleashes devastating attacks!");
+            }
         }
     }
 
     // ====== Getters and Setters ======
 
     public AgeCategory getAgeCategory() { return ageCategory; }
-    public void setAgeCategory(AgeCategory c) { this.ageCategory = c; }
+    public void setAgeCategory(AgeCategory c) { this.ageCategory = c; invalidateLevel(); }
 
     public int getDominationFactor() { return dominationFactor; }
-    public void setDominationFactor(int v) { dominationFactor = v; }
+    public void setDominationFactor(int v) { dominationFactor = v; invalidateLevel(); }
 
     public int getRank() { return rank; }
-    public void setRank(int v) { rank = v; }
+    public void setRank(int v) { rank = v; invalidateLevel(); }
+
+    @Override
+    public void setStrength(int strength) {
+        super.setStrength(strength);
+        invalidateLevel();
+    }
+
+    @Override
+    public void setHealth(int newHealth) {
+        super.setHealth(newHealth);
+        invalidateLevel();
+    }
+
+    @Override
+    public void die() {
+        boolean wasAlive = isAlive();
+        super.die();
+        if (wasAlive && pack != null) {
+            pack.memberDied(this);
+        }
+    }
+
+    @Override
+    public void setSex(Sex sex) {
+        super.setSex(sex);
+        if (pack != null) {
+            pack.memberChanged(this);
+        }
+    }
+
+    /**
+     * Forgets the cached level and tells the pack, which keeps its members ordered by level.
+     * The stats are created after the superclass constructor, which may already call the setters.
+     */
+    private void invalidateLevel() {
+        if (stats != null) {
+            stats.invalidate();
+        }
+        if (pack != null) {
+            pack.memberChanged(this);
+        }
+    }
 
     public boolean isHuman() { return isHuman; }
     public void setHuman(boolean value) { isHuman = value; }
@@ -153,6 +254,21 @@ public class Werewolf extends AbstractCharacter implements Combatant {
     public Pack getPack() { return pack; }
     public void setPack(Pack pack) { this.pack = pack; }
 
+    /**
+     * Gets the random stream for the decisions of this werewolf.
+     * A pack member shares the stream of its pack; a lone wolf has its own.
+     * @return The random stream to use.
+     */
+    public SplittableRandom getRandom() {
+        if (pack != null) {
+            return pack.getRandom();
+        }
+        if (loneRandom == null) {
+            loneRandom = SimulationRandom.split();
+        }
+        return loneRandom;
+    }
+
     public double getImpetuosityFactor() { return impetuosity; }
     public void setImpetuosityFactor(double impetuosity) { this.impetuosity = impetuosity; }
 
@@ -1,8 +1,11 @@
 package org.example.model.character.werewolf;
 
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
+
 /**
  * A helper class responsible for displaying the characteristics of a {@link Werewolf}.
- * This class formats and prints the werewolf's attributes to the console in a readable way.
+ * This class formats the werewolf's attributes in a readable way and publishes them on the simulation log.
  */
 public class WerewolfDisplay {
 
@@ -20,24 +23,24 @@ public class WerewolfDisplay {
     }
 
     /**
-     * Prints the formatted characteristics of the werewolf to the standard output.
+     * Publishes the formatted characteristics of the werewolf on the simulation log.
      * Includes details such as name, stats, rank, pack, and current form.
      */
     public void show() {
-        System.out.println("╔════════════════════════════════════╗");
-        System.out.println("║        Werewolf Characteristics     ║");
-        System.out.println("╚════════════════════════════════════╝");
-        System.out.println("Name: " + w.getName());
-        System.out.println("Sex : " + w.getSex());
-        System.out.println("Age Category: " + w.getAgeCategory().getLabel());
-        System.out.println("Strength: " + w.getStrength());
-        System.out.println("Stamina: " + w.getStamina());
-        System.out.println("Health: " + w.getHealth());
-        System.out.println("Domination: " + w.getDominationFactor());
-        System.out.println("Rank: " + w.getRank());
-        System.out.println("Level: " + String.format("%.2f", w.calculateLevel()));
-        System.out.println("Pack: " + (w.getPack() != null ? w.getPack().getName() : "Solitary"));
-        System.out.println("Form: " + (w.isHuman() ? "Human" : "Werewolf"));
-        System.out.println("╚════════════════════════════════════╝\n");
+        SimulationLog.emit(SimulationEventType.INFO, "╔════════════════════════════════════╗");
+        SimulationLog.emit(SimulationEventType.INFO, "║        Werewolf Characteristics     ║");
+        SimulationLog.emit(SimulationEventType.INFO, "╚════════════════════════════════════╝");
+        SimulationLog.emit(SimulationEventType.INFO, "Name: " + w.getName());
+        SimulationLog.emit(SimulationEventType.INFO, "Sex : " + w.getSex());
+        SimulationLog.emit(SimulationEventType.INFO, "Age Category: " + w.getAgeCategory().getLabel());
+        SimulationLog.emit(SimulationEventType.INFO, "Strength: " + w.getStrength());
+        SimulationLog.emit(SimulationEventType.INFO, "Stamina: " + w.getStamina());
+        SimulationLog.emit(SimulationEventType.INFO, "Health: " + w.getHealth());
+        SimulationLog.emit(SimulationEventType.INFO, "Domination: " + w.getDominationFactor());
+        SimulationLog.emit(SimulationEventType.INFO, "Rank: " + w.getRank());
+        SimulationLog.emit(SimulationEventType.INFO, "Level: " + String.format("%.2f", w.calculateLevel()));
+        SimulationLog.emit(SimulationEventType.INFO, "Pack: " + (w.getPack() != null ? w.getPack().getName() : "Solitary"));
+        SimulationLog.emit(SimulationEventType.INFO, "Form: " + (w.isHuman() ? "Human" : "Werewolf"));
+        SimulationLog.emit(SimulationEventType.INFO, "╚════════════════════════════════════╝\n");
     }
 }
@@ -2,6 +2,8 @@ package org.example.model.character.werewolf;
 
 import java.util.Locale;
 
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 import org.example.model.pack.Pack;
 
 /**
@@ -32,7 +34,7 @@ public class WerewolfHowlManager {
      */
     public void howl(HowlType type) {
         if (!w.isAlive() || w.isHuman()) return;
-        System.out.println(w.getName() + " howls: " + type.getDescription());
+        SimulationLog.publish(SimulationEventType.HOWL, w, null, null, type.getDescription(), 0, 0);
 
         Pack p = w.getPack();
         if (p != null) p.notifyHowl(w, type);
@@ -48,14 +50,82 @@ public class WerewolfHowlManager {
     public void hearHowl(Werewolf sender, HowlType type) {
         if (!w.isAlive() || w.getHealth() < SICK_THRESHOLD) return;
 
-        System.out.println(w.getName() + " hears " + sender.getName() + "'s " + type.name().toLowerCase(Locale.ROOT));
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.COLONY, w.getName() + " hears " + sender.getName() + "'s " + type.name().toLowerCase(Locale.ROOT));
+        }
 
         switch (type) {
             case DOMINATION -> handleDomination(sender);
             case SUBMISSION -> handleSubmission(sender);
             case AGGRESSION -> handleAggression(sender);
             case BELONGING -> handleBelonging(sender);
-            case JOY, SADNESS -> System.out.println(w.getName() + " feels " + type.name().toLowerCase(Locale.ROOT));
+            case JOY, SADNESS -> {
+                if (SimulationLog.isEnabled()) {
+                    SimulationLog.emit(SimulationEventType.COLONY, w.getName() + " feels " + type.name().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles all the howls of a batch at once.
+     * <p>
+     * The effect is the one of calling {@link #hearHowl(Werewolf, HowlType)} for each howl: the
+     * domination factor loses one point per domination howl from a higher rank and gains one per
+     * submission howl from a lower rank, and belligerence grows for each aggression howl the
+     * werewolf reacts to. One summary line is logged instead of one line per howl.
+     * </p>
+     * @param batch The howls to hear.
+     */
+    public void hearHowls(HowlBatch batch) {
+        if (!w.isAlive() || w.getHealth() < SICK_THRESHOLD || batch.size() == 0) return;
+
+        int rank = w.getRank();
+        int delta = batch.countFromBelow(HowlType.SUBMISSION, rank)
+                - batch.countFromAbove(HowlType.DOMINATION, rank);
+        if (delta != 0) w.setDominationFactor(w.getDominationFactor() + delta);
+
+        int reactions = HowlBatch.successes(w.getRandom(), batch.count(HowlType.AGGRESSION), w.getImpetuosityFactor());
+        if (reactions > 0) w.setBelligerence(w.getBelligerence() + reactions * AGGRESSION_INCREASE);
+
+        if (SimulationLog.isEnabled()) {
+            int answers = w.getPack() == batch.getPack() ? batch.count(HowlType.BELONGING) : 0;
+            SimulationLog.emit(SimulationEventType.COLONY, w.getName() + " hears " + batch.size() + " howls"
+                    + " (domination " + (delta >= 0 ? "+" : "") + delta
+                    + ", belligerence +" + reactions * AGGRESSION_INCREASE
+                    + ", answers " + answers + ")");
+        }
+    }
+
+    /**
+     * Handles the howls of other packs heard from nearby.
+     * <p>
+     * The howls heard are those of {@code nearby} that are not in {@code own}, so that a listener
+     * can share one batch with all the packs of its place. Each of them reaches the werewolf with
+     * probability {@code attenuation}; a domination howl from a higher rank then costs one point
+     * of domination factor, and an aggression howl may raise belligerence as usual.
+     * </p>
+     * @param nearby The howls sent near the werewolf.
+     * @param own The howls among them sent by its own pack.
+     * @param attenuation The probability that a distant howl is heard, between 0 and 1.
+     */
+    public void hearDistantHowls(HowlBatch nearby, HowlBatch own, double attenuation) {
+        if (!w.isAlive() || w.getHealth() < SICK_THRESHOLD) return;
+
+        int rank = w.getRank();
+        int dominations = nearby.countFromAbove(HowlType.DOMINATION, rank) - own.countFromAbove(HowlType.DOMINATION, rank);
+        int aggressions = nearby.count(HowlType.AGGRESSION) - own.count(HowlType.AGGRESSION);
+        if (dominations + aggressions == 0) return;
+
+        int dominated = HowlBatch.successes(w.getRandom(), dominations, attenuation);
+        if (dominated > 0) w.setDominationFactor(w.getDominationFactor() - dominated);
+
+        int reactions = HowlBatch.successes(w.getRandom(), aggressions, attenuation * w.getImpetuosityFactor());
+        if (reactions > 0) w.setBelligerence(w.getBelligerence() + reactions * AGGRESSION_INCREASE);
+
+        if (SimulationLog.isEnabled() && dominated + reactions > 0) {
+            SimulationLog.emit(SimulationEventType.COLONY, w.getName() + " hears rival packs"
+                    + " (domination -" + dominated + ", belligerence +" + reactions * AGGRESSION_INCREASE + ")");
         }
     }
 
@@ -86,7 +156,7 @@ public class WerewolfHowlManager {
      */
     private void handleAggression(Werewolf sender) {
         // sender parameter kept for consistency with other handle methods
-        if (Math.random() < w.getImpetuosityFactor()) {
+        if (w.getRandom().nextDouble() < w.getImpetuosityFactor()) {
             w.setBelligerence(w.getBelligerence() + AGGRESSION_INCREASE);
         }
     }
@@ -96,7 +166,8 @@ public class WerewolfHowlManager {
      * @param sender The pack member who howled.
      */
     private void handleBelonging(Werewolf sender) {
-        if (w.getPack() == sender.getPack())
-            System.out.println(w.getName() + " answers the pack howl");
+        if (w.getPack() == sender.getPack() && SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.COLONY, w.getName() + " answers the pack howl");
+        }
     }
 }
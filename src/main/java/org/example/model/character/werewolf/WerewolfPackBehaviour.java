@@ -1,5 +1,7 @@
 package org.example.model.character.werewolf;
 
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 import org.example.model.pack.Pack;
 
 /**
@@ -31,11 +33,13 @@ public class WerewolfPackBehaviour {
         Pack p = w.getPack();
         if (p == null) return;
 
-        p.removeWerewolf(w);
+        p.releaseWerewolf(w);
         w.setPack(null);
         w.setRank(0);
         w.setDominationFactor(0);
 
-        System.out.println(w.getName() + " leaves pack " + p.getName());
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.COLONY, w.getName() + " leaves pack " + p.getName());
+        }
     }
 }
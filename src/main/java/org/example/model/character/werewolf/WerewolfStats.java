@@ -3,6 +3,11 @@ package org.example.model.character.werewolf;
 /**
  * A helper class responsible for calculating statistics for a {@link Werewolf}.
  * This class encapsulates the logic for determining a werewolf's overall level based on its attributes.
+ * <p>
+ * The level is computed on first use and kept until {@link #invalidate()} is called, which the
+ * setters of {@link Werewolf} do whenever strength, domination factor, rank, health or age
+ * category change. Values written directly into a {@code CharacterStore} row are not seen.
+ * </p>
  */
 public class WerewolfStats {
 
@@ -19,6 +24,10 @@ public class WerewolfStats {
     /** Weight of the health attribute in the level calculation. */
     private static final double W_HEALTH = 0.1;
 
+    /** Last computed level, meaningful only while {@link #levelValid} is set. */
+    private double level;
+    private boolean levelValid;
+
     /**
      * Constructs a stats calculator for a specific werewolf.
      * @param w The werewolf for which to calculate stats.
@@ -36,6 +45,21 @@ public class WerewolfStats {
      * @return The calculated overall level of the werewolf.
      */
     public double calculateLevel() {
+        if (!levelValid) {
+            level = computeLevel();
+            levelValid = true;
+        }
+        return level;
+    }
+
+    /**
+     * Forgets the cached level, so that the next call to {@link #calculateLevel()} computes it again.
+     */
+    public void invalidate() {
+        levelValid = false;
+    }
+
+    private double computeLevel() {
         double base = w.getStrength() * W_STRENGTH
                 + w.getDominationFactor() * W_DOMINATION
                 + w.getRank() * W_RANK
@@ -1,5 +1,7 @@
 package org.example.model.character.werewolf;
 
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 import org.example.model.pack.Pack;
 
 /**
@@ -46,7 +48,9 @@ public class WerewolfTransformationManager {
         werewolf.setStrength((int) (werewolf.getStrength() * STR_MULT));
         werewolf.setStamina((int) (werewolf.getStamina() * STA_MULT));
 
-        System.out.println(werewolf.getName() + " transforms into human form.");
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.COLONY, werewolf.getName() + " transforms into human form.");
+        }
 
         // Check if the werewolf should leave the pack based on its level
         checkPackDeparture();
@@ -65,7 +69,9 @@ public class WerewolfTransformationManager {
         werewolf.setStrength((int) (werewolf.getStrength() / STR_MULT));
         werewolf.setStamina((int) (werewolf.getStamina() / STA_MULT));
 
-        System.out.println(werewolf.getName() + " transforms back into werewolf form!");
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.COLONY, werewolf.getName() + " transforms back into werewolf form!");
+        }
     }
 
     /**
@@ -83,24 +89,32 @@ public class WerewolfTransformationManager {
         
         // Only high-level werewolves have the option to leave
         if (level < LEVEL_THRESHOLD_LEAVE) {
-            System.out.println("  → " + werewolf.getName() 
-                + " is not strong enough to survive alone (level: " 
-                + String.format("%.2f", level) + ")");
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.COLONY, "  → " + werewolf.getName() 
+                    + " is not strong enough to survive alone (level: " 
+                    + String.format("%.2f", level) + ")");
+            }
             return;
         }
 
         // A probability-based chance to leave the pack
-        if (Math.random() < LEAVE_PROBABILITY) {
-            System.out.println("  → " + werewolf.getName() 
-                + " decides to leave the pack permanently!");
+        if (werewolf.getRandom().nextDouble() < LEAVE_PROBABILITY) {
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.COLONY, "  → " + werewolf.getName() 
+                    + " decides to leave the pack permanently!");
+            }
             werewolf.leavePack();
             
             // This signifies the werewolf is now considered "lost" to the pack community
-            System.out.println("  → " + werewolf.getName() 
-                + " is now living as a human, lost to the pack.");
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.COLONY, "  → " + werewolf.getName() 
+                    + " is now living as a human, lost to the pack.");
+            }
         } else {
-            System.out.println("  → " + werewolf.getName() 
-                + " remains loyal to the pack despite transformation.");
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.COLONY, "  → " + werewolf.getName() 
+                    + " remains loyal to the pack despite transformation.");
+            }
         }
     }
 
@@ -11,6 +11,8 @@ import org.example.model.character.roman.Legionary;
 import org.example.model.character.roman.Prefect;
 import org.example.model.character.roman.Roman;
 import org.example.model.character.werewolf.Werewolf;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 import org.example.model.food.FoodItem;
 import org.example.model.places.AbstractPlace;
 import org.example.model.places.Battlefield;
@@ -82,6 +84,7 @@ public final class ClanLeader {
         this.sex = sex;
         this.age = age;
         this.place = place;
+        place.setClanLeader(this);
     }
 
     /**
@@ -90,13 +93,15 @@ public final class ClanLeader {
      */
     public void examinePlace() {
         if (place == null) {
-            System.out.println("No place assigned to this clan leader.");
+            SimulationLog.emit(SimulationEventType.INFO, "No place assigned to this clan leader.");
             return;
         }
 
-        System.out.println("\n" + "=".repeat(60));
-        System.out.println("🏛️  EXAMINATION BY CLAN LEADER: " + name);
-        System.out.println("=".repeat(60));
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.INFO, "\n" + "=".repeat(60));
+            SimulationLog.emit(SimulationEventType.INFO, "🏛️  EXAMINATION BY CLAN LEADER: " + name);
+            SimulationLog.emit(SimulationEventType.INFO, "=".repeat(60));
+        }
         place.displayCharacteristics();
     }
 
@@ -110,7 +115,7 @@ public final class ClanLeader {
      */
     public Gallic createGallicCharacter(String characterName, Class<? extends Gallic> characterType) {
         if (place == null) {
-            System.out.println("❌ Cannot create character: no place assigned.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ Cannot create character: no place assigned.");
             return null;
         }
 
@@ -137,11 +142,15 @@ public final class ClanLeader {
             newCharacter.setOriginPlace(this.place); // Set the origin place
 
             place.addCharacter(newCharacter);
-            System.out.println("✅ Character '" + characterName + "' created successfully!");
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.INFO, "✅ Character '" + characterName + "' created successfully!");
+            }
             return newCharacter;
 
         } catch (IllegalArgumentException e) {
-            System.out.println("❌ Failed to create character: " + e.getMessage());
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.WARNING, "❌ Failed to create character: " + e.getMessage());
+            }
             return null;
         }
     }
@@ -156,7 +165,7 @@ public final class ClanLeader {
      */
     public Roman createRomanCharacter(String characterName, Class<? extends Roman> characterType) {
         if (place == null) {
-            System.out.println("❌ Cannot create character: no place assigned.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ Cannot create character: no place assigned.");
             return null;
         }
 
@@ -179,11 +188,15 @@ public final class ClanLeader {
             newCharacter.setOriginPlace(this.place); // Set the origin place
 
             place.addCharacter(newCharacter);
-            System.out.println("✅ Character '" + characterName + "' created successfully!");
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.INFO, "✅ Character '" + characterName + "' created successfully!");
+            }
             return newCharacter;
 
         } catch (IllegalArgumentException e) {
-            System.out.println("❌ Failed to create character: " + e.getMessage());
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.WARNING, "❌ Failed to create character: " + e.getMessage());
+            }
             return null;
         }
     }
@@ -197,7 +210,7 @@ public final class ClanLeader {
      */
     public Werewolf createWerewolf(String characterName) {
         if (place == null) {
-            System.out.println("❌ Cannot create character: no place assigned.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ Cannot create character: no place assigned.");
             return null;
         }
 
@@ -208,11 +221,15 @@ public final class ClanLeader {
             newWerewolf.setOriginPlace(this.place); // Set the origin place
 
             place.addCharacter(newWerewolf);
-            System.out.println("✅ Werewolf '" + characterName + "' created successfully!");
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.INFO, "✅ Werewolf '" + characterName + "' created successfully!");
+            }
             return newWerewolf;
 
         } catch (Exception e) {
-            System.out.println("❌ Failed to create werewolf: " + e.getMessage());
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.WARNING, "❌ Failed to create werewolf: " + e.getMessage());
+            }
             return null;
         }
     }
@@ -222,18 +239,20 @@ public final class ClanLeader {
      */
     public void healAllCharacters() {
         if (place == null) {
-            System.out.println("❌ No place assigned.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ No place assigned.");
             return;
         }
 
         int count = place.getNumberPresentCharacters();
         if (count == 0) {
-            System.out.println("ℹ️  No characters to heal.");
+            SimulationLog.emit(SimulationEventType.INFO, "ℹ️  No characters to heal.");
             return;
         }
 
         place.healAllCharacters();
-        System.out.println("✅ All " + count + " character(s) have been healed!");
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.INFO, "✅ All " + count + " character(s) have been healed!");
+        }
     }
 
     /**
@@ -243,24 +262,26 @@ public final class ClanLeader {
      */
     public void healCharacter(AbstractCharacter character) {
         if (place == null) {
-            System.out.println("❌ No place assigned.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ No place assigned.");
             return;
         }
 
         if (character == null) {
-            System.out.println("❌ Character cannot be null.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ Character cannot be null.");
             return;
         }
 
-        if (!place.getPresentCharacters().contains(character)) {
-            System.out.println("❌ Character '" + character.getName() + "' is not in this place.");
+        if (!place.containsCharacter(character)) {
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.WARNING, "❌ Character '" + character.getName() + "' is not in this place.");
+            }
             return;
         }
 
         int healthBefore = character.getHealth();
         place.healCharacter(character);
-        System.out.println("✅ Character '" + character.getName() + "' healed! Health: "
-                          + healthBefore + " → " + character.getHealth());
+        SimulationLog.publish(SimulationEventType.HEAL, character, null, place, null,
+                character.getHealth(), healthBefore);
     }
 
     /**
@@ -270,31 +291,35 @@ public final class ClanLeader {
      */
     public void feedAllCharacters(FoodItem food) {
         if (place == null) {
-            System.out.println("❌ No place assigned.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ No place assigned.");
             return;
         }
 
         if (food == null) {
-            System.out.println("❌ Food cannot be null.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ Food cannot be null.");
             return;
         }
 
         int characterCount = place.getNumberPresentCharacters();
         if (characterCount == 0) {
-            System.out.println("ℹ️  No characters to feed.");
+            SimulationLog.emit(SimulationEventType.INFO, "ℹ️  No characters to feed.");
             return;
         }
 
         int fedCount = 0;
-        for (AbstractCharacter character : place.getPresentCharacters()) {
-            if (character.canEat(food) && place.getPresentFoods().contains(food)) {
+        for (AbstractCharacter character : place.getCharactersView()) {
+            if (character.canEat(food) && place.containsFood(food)) {
+                int hungerBefore = character.getHunger();
                 place.feedCharacter(character, food);
                 fedCount++;
-                System.out.println("  ✓ Fed " + character.getName() + " with " + food.getName());
+                SimulationLog.publish(SimulationEventType.FEED, character, null, place, food.getType().getName(),
+                        character.getHunger(), hungerBefore);
             }
         }
 
-        System.out.println("✅ Fed " + fedCount + " character(s) with " + food.getName());
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.INFO, "✅ Fed " + fedCount + " character(s) with " + food.getName());
+        }
     }
 
     /**
@@ -305,33 +330,39 @@ public final class ClanLeader {
      */
     public void feedCharacter(AbstractCharacter character, FoodItem food) {
         if (place == null) {
-            System.out.println("❌ No place assigned.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ No place assigned.");
             return;
         }
 
         if (character == null || food == null) {
-            System.out.println("❌ Character and food cannot be null.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ Character and food cannot be null.");
             return;
         }
 
-        if (!place.getPresentCharacters().contains(character)) {
-            System.out.println("❌ Character '" + character.getName() + "' is not in this place.");
+        if (!place.containsCharacter(character)) {
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.WARNING, "❌ Character '" + character.getName() + "' is not in this place.");
+            }
             return;
         }
 
-        if (!place.getPresentFoods().contains(food)) {
-            System.out.println("❌ Food '" + food.getName() + "' is not available in this place.");
+        if (!place.containsFood(food)) {
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.WARNING, "❌ Food '" + food.getName() + "' is not available in this place.");
+            }
             return;
         }
 
         if (!character.canEat(food)) {
-            System.out.println("⚠️  Warning: " + character.getName() + " cannot eat " + food.getName());
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.WARNING, "⚠️  Warning: " + character.getName() + " cannot eat " + food.getName());
+            }
         }
 
         int hungerBefore = character.getHunger();
         place.feedCharacter(character, food);
-        System.out.println("✅ " + character.getName() + " ate " + food.getName()
-                          + "! Hunger: " + hungerBefore + " → " + character.getHunger());
+        SimulationLog.publish(SimulationEventType.FEED, character, null, place, food.getType().getName(),
+                character.getHunger(), hungerBefore);
     }
 
     /**
@@ -342,23 +373,27 @@ public final class ClanLeader {
      */
     public Potion askDruidForPotion(Druid druid) {
         if (place == null) {
-            System.out.println("❌ No place assigned.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ No place assigned.");
             return null;
         }
 
         if (druid == null) {
-            System.out.println("❌ Druid cannot be null.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ Druid cannot be null.");
             return null;
         }
 
-        if (!place.getPresentCharacters().contains(druid)) {
-            System.out.println("❌ Druid '" + druid.getName() + "' is not in this place.");
+        if (!place.containsCharacter(druid)) {
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.WARNING, "❌ Druid '" + druid.getName() + "' is not in this place.");
+            }
             return null;
         }
 
         Potion potion = new Potion();
-        System.out.println("✅ Druid '" + druid.getName() + "' has prepared a magic potion!");
-        System.out.println("   " + potion.toString());
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.INFO, "✅ Druid '" + druid.getName() + "' has prepared a magic potion!");
+            SimulationLog.emit(SimulationEventType.INFO, "   " + potion.toString());
+        }
         return potion;
     }
 
@@ -370,25 +405,27 @@ public final class ClanLeader {
      */
     public void givePotionToCharacter(AbstractCharacter character, Potion potion) {
         if (place == null) {
-            System.out.println("❌ No place assigned.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ No place assigned.");
             return;
         }
 
         if (character == null || potion == null) {
-            System.out.println("❌ Character and potion cannot be null.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ Character and potion cannot be null.");
             return;
         }
 
-        if (!place.getPresentCharacters().contains(character)) {
-            System.out.println("❌ Character '" + character.getName() + "' is not in this place.");
+        if (!place.containsCharacter(character)) {
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.WARNING, "❌ Character '" + character.getName() + "' is not in this place.");
+            }
             return;
         }
 
         int magicBefore = character.getLevelMagicPotion();
         character.drinkPotion(potion);
-        System.out.println("✅ " + character.getName() + " drank the magic potion!");
-        System.out.println("   Magic level: " + magicBefore + " → " + character.getLevelMagicPotion());
-        System.out.println("   Effects: " + potion.drinkDose());
+        String effects = potion.drinkDose();
+        SimulationLog.publish(SimulationEventType.POTION, character, null, place, effects,
+                character.getLevelMagicPotion(), magicBefore);
     }
 
     /**
@@ -399,27 +436,30 @@ public final class ClanLeader {
      */
     public void transferToBattlefield(AbstractCharacter character, Battlefield battlefield) {
         if (place == null) {
-            System.out.println("❌ No place assigned.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ No place assigned.");
             return;
         }
 
         if (character == null || battlefield == null) {
-            System.out.println("❌ Character and battlefield cannot be null.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ Character and battlefield cannot be null.");
             return;
         }
 
-        if (!place.getPresentCharacters().contains(character)) {
-            System.out.println("❌ Character '" + character.getName() + "' is not in this place.");
+        if (!place.containsCharacter(character)) {
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.WARNING, "❌ Character '" + character.getName() + "' is not in this place.");
+            }
             return;
         }
 
         try {
             place.deleteCharacter(character);
             battlefield.addCharacter(character);
-            System.out.println("✅ " + character.getName() + " transferred to battlefield '"
-                              + battlefield.getName() + "'");
+            SimulationLog.publish(SimulationEventType.TRANSFER, character, null, battlefield, place.getName(), 0, 0);
         } catch (Exception e) {
-            System.out.println("❌ Transfer failed: " + e.getMessage());
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.WARNING, "❌ Transfer failed: " + e.getMessage());
+            }
             // Re-add character to original place if transfer failed
             place.addCharacter(character);
         }
@@ -434,32 +474,35 @@ public final class ClanLeader {
      */
     public void transferToEnclosure(AbstractCharacter character, Enclosure enclosure) {
         if (place == null) {
-            System.out.println("❌ No place assigned.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ No place assigned.");
             return;
         }
 
         if (character == null || enclosure == null) {
-            System.out.println("❌ Character and enclosure cannot be null.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ Character and enclosure cannot be null.");
             return;
         }
 
         if (!(character instanceof Werewolf)) {
-            System.out.println("❌ Only Werewolves can be transferred to enclosures!");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ Only Werewolves can be transferred to enclosures!");
             return;
         }
 
-        if (!place.getPresentCharacters().contains(character)) {
-            System.out.println("❌ Character '" + character.getName() + "' is not in this place.");
+        if (!place.containsCharacter(character)) {
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.WARNING, "❌ Character '" + character.getName() + "' is not in this place.");
+            }
             return;
         }
 
         try {
             place.deleteCharacter(character);
             enclosure.addCharacter(character);
-            System.out.println("✅ Werewolf '" + character.getName() + "' transferred to enclosure '"
-                              + enclosure.getName() + "'");
+            SimulationLog.publish(SimulationEventType.TRANSFER, character, null, enclosure, place.getName(), 0, 0);
         } catch (Exception e) {
-            System.out.println("❌ Transfer failed: " + e.getMessage());
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.WARNING, "❌ Transfer failed: " + e.getMessage());
+            }
             // Re-add character to original place if transfer failed
             place.addCharacter(character);
         }
@@ -472,31 +515,45 @@ public final class ClanLeader {
      * @param sourcePlace The place the character is currently in.
      */
     public void returnCharacter(AbstractCharacter character, AbstractPlace sourcePlace) {
-        System.out.println("DEBUG: returnCharacter called for " + (character != null ? character.getName() : "null") +
-                           " from " + (sourcePlace != null ? sourcePlace.getName() : "null") +
-                           " to leader's place " + (this.place != null ? this.place.getName() : "null"));
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.DEBUG, "DEBUG: returnCharacter called for " + (character != null ? character.getName() : "null") +
+                               " from " + (sourcePlace != null ? sourcePlace.getName() : "null") +
+                               " to leader's place " + (this.place != null ? this.place.getName() : "null"));
+        }
         if (character == null || sourcePlace == null) {
-            System.out.println("DEBUG: returnCharacter - Character or source place is null. Aborting.");
+            SimulationLog.emit(SimulationEventType.DEBUG, "DEBUG: returnCharacter - Character or source place is null. Aborting.");
             return;
         }
 
-        if (!sourcePlace.getPresentCharacters().contains(character)) {
-            System.out.println("DEBUG: returnCharacter - Character '" + character.getName() + "' is not in the source place '" + sourcePlace.getName() + "'. Aborting.");
+        if (!sourcePlace.containsCharacter(character)) {
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.DEBUG, "DEBUG: returnCharacter - Character '" + character.getName() + "' is not in the source place '" + sourcePlace.getName() + "'. Aborting.");
+            }
             return;
         }
 
         try {
-            System.out.println("DEBUG: Attempting to delete " + character.getName() + " from " + sourcePlace.getName());
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.DEBUG, "DEBUG: Attempting to delete " + character.getName() + " from " + sourcePlace.getName());
+            }
             sourcePlace.deleteCharacter(character);
-            System.out.println("DEBUG: Successfully deleted " + character.getName() + " from " + sourcePlace.getName());
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.DEBUG, "DEBUG: Successfully deleted " + character.getName() + " from " + sourcePlace.getName());
+            }
             
-            System.out.println("DEBUG: Attempting to add " + character.getName() + " to " + this.place.getName());
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.DEBUG, "DEBUG: Attempting to add " + character.getName() + " to " + this.place.getName());
+            }
             this.place.addCharacter(character);
-            System.out.println("DEBUG: Successfully added " + character.getName() + " to " + this.place.getName());
-            System.out.println("✅ " + character.getName() + " has returned to " + this.place.getName());
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.DEBUG, "DEBUG: Successfully added " + character.getName() + " to " + this.place.getName());
+            }
+            SimulationLog.publish(SimulationEventType.TRANSFER, character, null, this.place, sourcePlace.getName(), 0, 0);
         } catch (Exception e) {
-            System.out.println("DEBUG: returnCharacter - Exception during return: " + e.getMessage());
-            System.out.println("❌ Return failed: " + e.getMessage());
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.DEBUG, "DEBUG: returnCharacter - Exception during return: " + e.getMessage());
+                SimulationLog.emit(SimulationEventType.WARNING, "❌ Return failed: " + e.getMessage());
+            }
             // Re-add character to original place if return failed
             sourcePlace.addCharacter(character);
         }
@@ -547,7 +604,11 @@ public final class ClanLeader {
         if (place == null) {
             throw new IllegalArgumentException("Place cannot be null");
         }
+        if (this.place != null && this.place.getClanLeader() == this) {
+            this.place.setClanLeader(null);
+        }
         this.place = place;
+        place.setClanLeader(this);
     }
 
     @Override
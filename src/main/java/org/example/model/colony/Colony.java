@@ -2,14 +2,20 @@ package org.example.model.colony;
 
 import org.example.model.character.AbstractCharacter;
 import org.example.model.character.werewolf.AgeCategory;
+import org.example.model.character.werewolf.HowlBatch;
 import org.example.model.character.werewolf.HowlType;
 import org.example.model.character.werewolf.Werewolf;
+import org.example.model.concurrent.TurnExecutor;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 import org.example.model.pack.Pack;
+import org.example.model.pack.PopulationStatistics;
 import org.example.model.pack.Rank;
+import org.example.model.random.SimulationRandom;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Represents a colony of werewolf packs.
@@ -25,14 +31,20 @@ public class Colony {
 
     private final String name;
     private final List<Pack> packs;
-    private final Random random;
+    private final SplittableRandom random;
     private int seasonCounter;
+    private double howlAttenuation = DEFAULT_HOWL_ATTENUATION;
+    private TurnExecutor<PackTurn> seasonExecutor = new TurnExecutor<>(1);
+    private final PopulationStatistics statistics = new PopulationStatistics();
+    private final PackSplitter packSplitter = new PackSplitter(PACK_CREATION_THRESHOLD, MIN_ALPHA_LEVEL);
 
     private static final int MATING_SEASON_INTERVAL = 12;
     private static final int PACK_CREATION_THRESHOLD = 15;
+    private static final double MIN_ALPHA_LEVEL = 30;
     private static final double AGING_PROBABILITY = 0.1;
     private static final double HOWL_PROBABILITY = 0.2;
     private static final double TRANSFORM_PROBABILITY = 0.05;
+    private static final double DEFAULT_HOWL_ATTENUATION = 0;
 
     /**
      * Creates a new colony of werewolves.
@@ -40,9 +52,19 @@ public class Colony {
      * @param name The name of the colony
      */
     public Colony(String name) {
+        this(name, SimulationRandom.split());
+    }
+
+    /**
+     * Creates a new colony of werewolves drawing its random events from a given stream.
+     *
+     * @param name   The name of the colony
+     * @param random The random stream of the colony
+     */
+    public Colony(String name, SplittableRandom random) {
         this.name = name;
         this.packs = new ArrayList<>();
-        this.random = new Random();
+        this.random = random;
         this.seasonCounter = 0;
     }
 
@@ -54,7 +76,10 @@ public class Colony {
     public void addPack(Pack pack) {
         if (pack != null && !packs.contains(pack)) {
             packs.add(pack);
-            System.out.println("✅ Pack '" + pack.getName() + "' added to colony '" + name + "'");
+            pack.setStatistics(statistics);
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.COLONY, "✅ Pack '" + pack.getName() + "' added to colony '" + name + "'");
+            }
         }
     }
 
@@ -65,23 +90,69 @@ public class Colony {
      */
     public void removePack(Pack pack) {
         if (packs.remove(pack)) {
-            System.out.println("❌ Pack '" + pack.getName() + "' removed from colony");
+            pack.setStatistics(null);
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.COLONY, "❌ Pack '" + pack.getName() + "' removed from colony");
+            }
+        }
+    }
+
+    /**
+     * Sets the probability that an aggression or domination howl is heard by another pack
+     * standing in the same place. 0, the default, keeps every howl within its pack.
+     *
+     * @param attenuation A probability between 0 and 1
+     * @throws IllegalArgumentException if the attenuation is outside [0, 1]
+     */
+    public void setHowlAttenuation(double attenuation) {
+        if (attenuation < 0 || attenuation > 1) {
+            throw new IllegalArgumentException("Attenuation must be between 0 and 1: " + attenuation);
+        }
+        this.howlAttenuation = attenuation;
+    }
+
+    public double getHowlAttenuation() {
+        return howlAttenuation;
+    }
+
+    /**
+     * Sets the number of threads evolving the packs during a season.
+     * <p>
+     * With 1 (the default) every pack is processed on the calling thread. Each pack draws from
+     * its own random stream and the colony-wide effects are merged in pack order, so the
+     * outcome of a season does not depend on this setting. Log lines of different packs may
+     * interleave.
+     * </p>
+     *
+     * @param parallelism The number of worker threads
+     * @throws IllegalArgumentException if the parallelism is lower than 1
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism == seasonExecutor.getParallelism()) {
+            return;
         }
+        TurnExecutor<PackTurn> previous = seasonExecutor;
+        seasonExecutor = new TurnExecutor<>(parallelism);
+        previous.shutdown();
+    }
+
+    public int getParallelism() {
+        return seasonExecutor.getParallelism();
     }
 
     /**
      * Displays all werewolves across all packs in the colony.
      */
     public void displayAllWerewolves() {
-        System.out.println("\n╔══════════════════════════════════════════════════╗");
-        System.out.println("║        COLONY: " + name + " - ALL WEREWOLVES        ║");
-        System.out.println("╚══════════════════════════════════════════════════╝");
-        System.out.println("Number of packs: " + packs.size());
-        System.out.println("Total werewolves: " + getTotalWerewolfCount());
-        System.out.println();
+        SimulationLog.emit(SimulationEventType.INFO, "\n╔══════════════════════════════════════════════════╗");
+        SimulationLog.emit(SimulationEventType.INFO, "║        COLONY: " + name + " - ALL WEREWOLVES        ║");
+        SimulationLog.emit(SimulationEventType.INFO, "╚══════════════════════════════════════════════════╝");
+        SimulationLog.emit(SimulationEventType.INFO, "Number of packs: " + packs.size());
+        SimulationLog.emit(SimulationEventType.INFO, "Total werewolves: " + getTotalWerewolfCount());
+        SimulationLog.emit(SimulationEventType.INFO, "");
 
         for (Pack pack : packs) {
-            System.out.println("--- Pack: " + pack.getName() + " ---");
+            SimulationLog.emit(SimulationEventType.INFO, "--- Pack: " + pack.getName() + " ---");
             pack.displayMembers();
         }
     }
@@ -90,28 +161,50 @@ public class Colony {
      * Displays colony statistics.
      */
     public void displayColonyStats() {
-        System.out.println("\n╔══════════════════════════════════════════════════╗");
-        System.out.println("║         COLONY STATISTICS: " + name + "              ║");
-        System.out.println("╚══════════════════════════════════════════════════╝");
-        System.out.println("Total packs: " + packs.size());
-        System.out.println("Total werewolves: " + getTotalWerewolfCount());
-        System.out.println("Season counter: " + seasonCounter);
-        System.out.println();
+        SimulationLog.emit(SimulationEventType.INFO, "\n╔══════════════════════════════════════════════════╗");
+        SimulationLog.emit(SimulationEventType.INFO, "║         COLONY STATISTICS: " + name + "              ║");
+        SimulationLog.emit(SimulationEventType.INFO, "╚══════════════════════════════════════════════════╝");
+        SimulationLog.emit(SimulationEventType.INFO, "Total packs: " + packs.size());
+        SimulationLog.emit(SimulationEventType.INFO, "Total werewolves: " + getTotalWerewolfCount());
+        SimulationLog.emit(SimulationEventType.INFO, "Season counter: " + seasonCounter);
+        SimulationLog.emit(SimulationEventType.INFO, "Males / Females: " + statistics.getCount(AbstractCharacter.Sex.MALE)
+                + " / " + statistics.getCount(AbstractCharacter.Sex.FEMALE));
+        SimulationLog.emit(SimulationEventType.INFO, "Young / Adult / Old: " + statistics.getCount(AgeCategory.YOUNG)
+                + " / " + statistics.getCount(AgeCategory.ADULT) + " / " + statistics.getCount(AgeCategory.OLD));
+        SimulationLog.emit(SimulationEventType.INFO, "Average level: " + String.format("%.2f", statistics.getAverageLevel()));
+        SimulationLog.emit(SimulationEventType.INFO, "Births / Deaths / Departures: " + statistics.getBirths()
+                + " / " + statistics.getDeaths() + " / " + statistics.getDepartures());
+
+        SimulationLog.emit(SimulationEventType.INFO, "\n----- Hierarchy Distribution -----");
+        for (Rank rank : Rank.values()) {
+            int count = statistics.getCount(rank);
+            if (count > 0) {
+                SimulationLog.emit(SimulationEventType.INFO, rank.getSymbol() + " (" + rank.name() + ") : " + count + " members");
+            }
+        }
 
+        SimulationLog.emit(SimulationEventType.INFO, "\n----- Packs -----");
         for (Pack pack : packs) {
-            pack.displayPack();
+            SimulationLog.emit(SimulationEventType.INFO, "🏷 " + pack.getName() + " : " + pack.getMemberCount() + " members");
         }
     }
 
     /**
      * Main simulation loop - advances time by one interval.
      * This is the temporal management method that should be called regularly.
+     * <p>
+     * Pack creation and mating change the set of packs and run first, on the calling thread.
+     * The phases that only touch one pack then run pack by pack, possibly in parallel
+     * (see {@link #setParallelism(int)}), before their colony-wide effects are merged.
+     * </p>
      */
     public void advanceTime() {
         seasonCounter++;
-        System.out.println("\n" + "=".repeat(70));
-        System.out.println("⏰ COLONY TIME ADVANCE - Season " + seasonCounter);
-        System.out.println("=".repeat(70));
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.COLONY, "\n" + "=".repeat(70));
+            SimulationLog.emit(SimulationEventType.COLONY, "⏰ COLONY TIME ADVANCE - Season " + seasonCounter);
+            SimulationLog.emit(SimulationEventType.COLONY, "=".repeat(70));
+        }
 
         // 1. Check if new pack should be created
         checkAndCreateNewPack();
@@ -121,239 +214,214 @@ public class Colony {
             triggerMatingSession();
         }
 
-        // 3. Evolve pack hierarchies naturally
-        evolveHierarchies();
-
-        // 4. Age some werewolves
-        ageWerewolves();
-
-        // 5. Generate random howls
-        generateRandomHowls();
-
-        // 6. Transform some werewolves to humans
-        transformWerewolves();
+        // 3 to 6. Evolve hierarchies, age, howl and transform, pack by pack
+        PackTurn[] turns = new PackTurn[packs.size()];
+        for (int i = 0; i < turns.length; i++) {
+            turns[i] = new PackTurn(packs.get(i), random.split());
+        }
+        SimulationLog.emit(SimulationEventType.COLONY, "\n⚔️ Evolving pack hierarchies, aging, howling and transformations...");
+        seasonExecutor.run(turns, this::runPackTurn);
+        mergeTurns(turns);
 
         // 7. Clean up empty packs
         cleanUpEmptyPacks();
 
-        System.out.println("=".repeat(70) + "\n");
+        // Bring the statistics up to date with this season's stat changes
+        for (Pack pack : packs) {
+            pack.refreshStatistics();
+        }
+
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.COLONY, "=".repeat(70) + "\n");
+        }
     }
 
     /**
-     * Checks if a new pack should be created based on population.
+     * Splits the packs that have grown too large, each into as many packs as its size calls for.
      */
     private void checkAndCreateNewPack() {
-        System.out.println("\n🔍 Checking for pack creation...");
+        SimulationLog.emit(SimulationEventType.COLONY, "\n🔍 Checking for pack creation...");
 
         for (Pack pack : new ArrayList<>(packs)) {
-            if (pack.getMembers().size() > PACK_CREATION_THRESHOLD) {
-                System.out.println("📦 Pack '" + pack.getName() 
-                    + "' has grown too large (" + pack.getMembers().size() + " members)");
-                
-                // Find suitable alpha candidates
-                List<Werewolf> candidates = findAlphaCandidates(pack);
-                
-                if (candidates.size() >= 2) {
-                    createNewPackFromSplit(pack, candidates);
-                } else {
-                    System.out.println("  → Not enough alpha candidates for split");
+            if (!packSplitter.isTooLarge(pack)) {
+                continue;
+            }
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.COLONY, "📦 Pack '" + pack.getName()
+                    + "' has grown too large (" + pack.getMemberCount() + " members)");
+            }
+
+            List<Pack> daughters = packSplitter.split(pack, pack.getName() + "-Split-" + seasonCounter);
+            if (daughters.isEmpty()) {
+                SimulationLog.emit(SimulationEventType.COLONY, "  → Not enough alpha candidates for split");
+            }
+            for (Pack daughter : daughters) {
+                addPack(daughter);
+                if (SimulationLog.isEnabled()) {
+                    SimulationLog.emit(SimulationEventType.COLONY, "✅ New pack '" + daughter.getName() + "' created with "
+                        + daughter.getMemberCount() + " members!");
                 }
             }
         }
     }
 
     /**
-     * Finds suitable candidates for alpha positions.
+     * Triggers mating season for all packs.
      */
-    private List<Werewolf> findAlphaCandidates(Pack pack) {
-        List<Werewolf> candidates = new ArrayList<>();
+    private void triggerMatingSession() {
+        SimulationLog.emit(SimulationEventType.COLONY, "\n💕 MATING SEASON HAS ARRIVED!");
         
-        for (Werewolf w : pack.getMembers()) {
-            if (w.getAgeCategory() == AgeCategory.ADULT 
-                && w.calculateLevel() > 30
-                && w != pack.getAlphaMale() 
-                && w != pack.getAlphaFemale()) {
-                candidates.add(w);
+        for (Pack pack : packs) {
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.COLONY, "\n--- Pack: " + pack.getName() + " ---");
+            }
+            List<Werewolf> cubs = pack.reproduce();
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.COLONY, "  → " + cubs.size() + " cubs born!");
             }
         }
-        
-        return candidates;
     }
 
     /**
-     * Creates a new pack by splitting an existing one.
+     * Runs the phases of a season that only concern one pack.
+     * Several packs may run at the same time, each with its own random stream.
+     *
+     * @param turn The turn of the pack.
      */
-    private void createNewPackFromSplit(Pack originalPack, List<Werewolf> candidates) {
-        // Select new alphas
-        Werewolf newAlphaMale = null;
-        Werewolf newAlphaFemale = null;
-
-        for (Werewolf w : candidates) {
-            if (newAlphaMale == null && w.getSex() == AbstractCharacter.Sex.MALE) {
-                newAlphaMale = w;
-            } else if (newAlphaFemale == null && w.getSex() == AbstractCharacter.Sex.FEMALE) {
-                newAlphaFemale = w;
-            }
-
-            if (newAlphaMale != null && newAlphaFemale != null) {
-                break;
-            }
-        }
-
-        if (newAlphaMale == null || newAlphaFemale == null) {
-            return;
-        }
-
-        // Create new pack
-        String newPackName = originalPack.getName() + "-Split-" + seasonCounter;
-        Pack newPack = new Pack(newPackName, newAlphaMale, newAlphaFemale);
+    private void runPackTurn(PackTurn turn) {
+        evolveHierarchy(turn);
+        ageWerewolves(turn);
+        generateRandomHowls(turn);
+        transformWerewolves(turn);
+    }
 
-        // Move werewolves to new pack (approximately half)
-        List<Werewolf> toTransfer = new ArrayList<>();
-        List<Werewolf> members = new ArrayList<>(originalPack.getMembers());
-        
-        int transferCount = members.size() / 2;
-        for (int i = 0; i < transferCount && i < members.size(); i++) {
-            Werewolf w = members.get(i);
-            if (w != originalPack.getAlphaMale() && w != originalPack.getAlphaFemale()) {
-                toTransfer.add(w);
+    /**
+     * Applies what the pack turns left for the colony, in pack order:
+     * the howls heard across packs, then the counters and departures of the season.
+     *
+     * @param turns The turns of the season.
+     */
+    private void mergeTurns(PackTurn[] turns) {
+        int agedCount = 0;
+        int howlCount = 0;
+        int transformCount = 0;
+        int leaverCount = 0;
+        HowlRange range = howlAttenuation > 0 ? new HowlRange(howlAttenuation) : null;
+
+        for (PackTurn turn : turns) {
+            agedCount += turn.getAgedCount();
+            howlCount += turn.getHowlCount();
+            transformCount += turn.getTransformCount();
+            leaverCount += turn.getLeavers().size();
+            if (range != null) {
+                for (Werewolf w : turn.getPack().getMembers()) {
+                    range.addListener(w);
+                }
+                for (int i = 0; i < turn.getHowlers().size(); i++) {
+                    range.addHowl(turn.getHowlers().get(i), turn.getHowlTypes().get(i));
+                }
             }
         }
+        if (range != null) range.deliver();
 
-        // Transfer werewolves
-        for (Werewolf w : toTransfer) {
-            originalPack.removeWerewolf(w);
-            newPack.addWerewolf(w, Rank.GAMMA);
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.COLONY, "  → " + agedCount + " werewolves aged");
+            SimulationLog.emit(SimulationEventType.COLONY, "  → " + howlCount + " howls generated");
+            SimulationLog.emit(SimulationEventType.COLONY, "  → " + transformCount + " werewolves transformed");
+            SimulationLog.emit(SimulationEventType.COLONY, "  → " + leaverCount + " werewolves left their packs");
         }
-
-        // Reorganize both packs
-        newPack.createHierarchy(newPack.getMembers());
-        originalPack.createHierarchy(originalPack.getMembers());
-
-        addPack(newPack);
-        System.out.println("✅ New pack '" + newPackName + "' created with " 
-            + newPack.getMembers().size() + " members!");
     }
 
     /**
-     * Triggers mating season for all packs.
+     * Evolves the hierarchy of a pack through domination attempts.
      */
-    private void triggerMatingSession() {
-        System.out.println("\n💕 MATING SEASON HAS ARRIVED!");
-        
-        for (Pack pack : packs) {
-            System.out.println("\n--- Pack: " + pack.getName() + " ---");
-            List<Werewolf> cubs = pack.reproduce();
-            System.out.println("  → " + cubs.size() + " cubs born!");
-        }
-    }
+    private void evolveHierarchy(PackTurn turn) {
+        Pack pack = turn.getPack();
+        SplittableRandom random = turn.getRandom();
+        List<Werewolf> members = pack.getMembers();
+
+        // Random domination attempts
+        for (int i = 0; i < 3; i++) {
+            if (members.size() < 2) {
+                break;
+            }
 
-    /**
-     * Evolves pack hierarchies through domination attempts.
-     */
-    private void evolveHierarchies() {
-        System.out.println("\n⚔️ Evolving pack hierarchies...");
-        
-        for (Pack pack : packs) {
-            List<Werewolf> members = new ArrayList<>(pack.getMembers());
-            
-            // Random domination attempts
-            for (int i = 0; i < 3; i++) {
-                if (members.size() < 2) {
-                    break;
-                }
-                
-                Werewolf aggressor = members.get(random.nextInt(members.size()));
-                Werewolf target = members.get(random.nextInt(members.size()));
-                
-                if (aggressor != target && random.nextDouble() < 0.3) {
-                    pack.attemptDomination(aggressor, target);
-                }
+            Werewolf aggressor = members.get(random.nextInt(members.size()));
+            Werewolf target = members.get(random.nextInt(members.size()));
+
+            if (aggressor != target && random.nextDouble() < 0.3) {
+                pack.attemptDomination(aggressor, target);
             }
-            
-            // Identify omega werewolves
-            pack.identifyOmegas();
         }
+
+        // Identify omega werewolves
+        pack.identifyOmegas();
     }
 
     /**
-     * Ages some werewolves randomly.
+     * Ages some werewolves of a pack randomly.
      */
-    private void ageWerewolves() {
-        System.out.println("\n🎂 Aging process...");
-        int agedCount = 0;
-        
-        for (Pack pack : packs) {
-            for (Werewolf w : pack.getMembers()) {
-                if (random.nextDouble() < AGING_PROBABILITY) {
-                    int currentAge = w.getAge();
-                    w.setAge(currentAge + 1);
-                    
-                    // Update age category
-                    if (currentAge < 2 && w.getAge() >= 2) {
-                        w.setAgeCategory(AgeCategory.YOUNG);
-                    } else if (currentAge < 10 && w.getAge() >= 10) {
-                        w.setAgeCategory(AgeCategory.ADULT);
-                    } else if (currentAge < 20 && w.getAge() >= 20) {
-                        w.setAgeCategory(AgeCategory.OLD);
-                    }
-                    
-                    agedCount++;
+    private void ageWerewolves(PackTurn turn) {
+        SplittableRandom random = turn.getRandom();
+
+        for (Werewolf w : turn.getPack().getMembers()) {
+            if (random.nextDouble() < AGING_PROBABILITY) {
+                int currentAge = w.getAge();
+                w.setAge(currentAge + 1);
+
+                // Update age category
+                if (currentAge < 2 && w.getAge() >= 2) {
+                    w.setAgeCategory(AgeCategory.YOUNG);
+                } else if (currentAge < 10 && w.getAge() >= 10) {
+                    w.setAgeCategory(AgeCategory.ADULT);
+                } else if (currentAge < 20 && w.getAge() >= 20) {
+                    w.setAgeCategory(AgeCategory.OLD);
                 }
+
+                turn.countAged();
             }
         }
-        
-        System.out.println("  → " + agedCount + " werewolves aged");
     }
 
     /**
-     * Generates random howls between werewolves.
+     * Generates random howls in a pack.
+     * The howls are collected first, then every member hears them all at once.
+     * Aggression and domination howls are also recorded for the other packs of the same place,
+     * which hear them during the merge (see {@link HowlRange}).
      */
-    private void generateRandomHowls() {
-        System.out.println("\n🐺 Random howling...");
-        int howlCount = 0;
-        
-        for (Pack pack : packs) {
-            List<Werewolf> members = pack.getMembers();
-            
-            for (Werewolf w : members) {
-                if (random.nextDouble() < HOWL_PROBABILITY) {
-                    HowlType[] types = HowlType.values();
-                    HowlType randomType = types[random.nextInt(types.length)];
-                    w.howl(randomType);
-                    howlCount++;
-                }
+    private void generateRandomHowls(PackTurn turn) {
+        Pack pack = turn.getPack();
+        SplittableRandom random = turn.getRandom();
+        HowlBatch batch = new HowlBatch(pack);
+        HowlType[] types = HowlType.values();
+
+        for (Werewolf w : pack.getMembers()) {
+            if (random.nextDouble() < HOWL_PROBABILITY) {
+                HowlType randomType = types[random.nextInt(types.length)];
+                if (batch.add(w, randomType)) turn.recordHowl(w, randomType);
+                turn.countHowl();
             }
         }
-        
-        System.out.println("  → " + howlCount + " howls generated");
+        pack.notifyHowls(batch);
     }
 
     /**
-     * Transforms some werewolves into humans.
+     * Transforms some werewolves of a pack into humans.
      */
-    private void transformWerewolves() {
-        System.out.println("\n🌙 Transformation phase...");
-        int transformCount = 0;
-        
-        List<Werewolf> toRemove = new ArrayList<>();
-        
-        for (Pack pack : packs) {
-            for (Werewolf w : new ArrayList<>(pack.getMembers())) {
-                if (!w.isHuman() && random.nextDouble() < TRANSFORM_PROBABILITY) {
-                    w.transformToHuman();
-                    transformCount++;
-                    
-                    // Check if werewolf left pack
-                    if (w.getPack() == null) {
-                        toRemove.add(w);
-                    }
+    private void transformWerewolves(PackTurn turn) {
+        SplittableRandom random = turn.getRandom();
+
+        for (Werewolf w : turn.getPack().getMembers()) {
+            if (!w.isHuman() && random.nextDouble() < TRANSFORM_PROBABILITY) {
+                w.transformToHuman();
+                turn.countTransform();
+
+                // Check if werewolf left pack
+                if (w.getPack() == null) {
+                    turn.recordLeaver(w);
                 }
             }
         }
-        
-        System.out.println("  → " + transformCount + " werewolves transformed");
-        System.out.println("  → " + toRemove.size() + " werewolves left their packs");
     }
 
     /**
@@ -363,7 +431,7 @@ public class Colony {
         List<Pack> toRemove = new ArrayList<>();
         
         for (Pack pack : packs) {
-            if (pack.getMembers().isEmpty()) {
+            if (pack.getMemberCount() == 0) {
                 toRemove.add(pack);
             }
         }
@@ -379,11 +447,17 @@ public class Colony {
      * @return total count
      */
     public int getTotalWerewolfCount() {
-        int count = 0;
-        for (Pack pack : packs) {
-            count += pack.getMembers().size();
-        }
-        return count;
+        return statistics.getPopulation();
+    }
+
+    /**
+     * Gets the population statistics of the colony, maintained as the packs change.
+     * They can be read at any time, including from another thread.
+     *
+     * @return the statistics
+     */
+    public PopulationStatistics getStatistics() {
+        return statistics;
     }
 
     /**
@@ -0,0 +1,145 @@
+package org.example.model.colony;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.example.model.character.werewolf.HowlBatch;
+import org.example.model.character.werewolf.HowlType;
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.pack.Pack;
+import org.example.model.places.AbstractPlace;
+import org.example.model.registry.EntityRegistry;
+
+/**
+ * Carries the howls of a season beyond their own pack, to the other packs of the same place.
+ * <p>
+ * Werewolves are sorted into buckets keyed by place and pack. Only {@link HowlType#AGGRESSION}
+ * and {@link HowlType#DOMINATION} howls travel between packs. Each place keeps one
+ * {@link HowlBatch} with every such howl sent there, and each bucket keeps the share sent by
+ * its own pack, so a listener hears the difference between the two. Delivering a season costs
+ * one visit per werewolf, whatever the number of packs sharing a place, and never looks at
+ * the buckets of other places.
+ * </p>
+ * <p>
+ * A distant howl reaches each listener with probability {@code attenuation}. Werewolves that
+ * stand in no place hear their own pack only.
+ * </p>
+ */
+public class HowlRange {
+
+    private final double attenuation;
+    private final Map<AbstractPlace, Neighborhood> neighborhoods = new LinkedHashMap<>();
+
+    /**
+     * Creates an empty range model.
+     *
+     * @param attenuation The probability that a howl is heard by another pack, between 0 and 1.
+     * @throws IllegalArgumentException if the attenuation is outside [0, 1].
+     */
+    public HowlRange(double attenuation) {
+        if (attenuation < 0 || attenuation > 1) {
+            throw new IllegalArgumentException("Attenuation must be between 0 and 1: " + attenuation);
+        }
+        this.attenuation = attenuation;
+    }
+
+    /**
+     * Registers a werewolf as a potential listener of the packs around it.
+     * Does nothing for lone werewolves and werewolves standing in no place.
+     *
+     * @param w The werewolf.
+     */
+    public void addListener(Werewolf w) {
+        Bucket bucket = bucketOf(w);
+        if (bucket != null) {
+            bucket.listeners.add(w);
+        }
+    }
+
+    /**
+     * Records a howl already sent to the pack of its sender. Howls of other types than
+     * aggression and domination stay within the pack and are ignored.
+     *
+     * @param sender The werewolf who howled.
+     * @param type   The type of howl.
+     */
+    public void addHowl(Werewolf sender, HowlType type) {
+        if (type != HowlType.AGGRESSION && type != HowlType.DOMINATION) {
+            return;
+        }
+        Bucket bucket = bucketOf(sender);
+        if (bucket != null) {
+            bucket.neighborhood.howls.record(sender, type);
+            bucket.howls.record(sender, type);
+        }
+    }
+
+    /**
+     * Lets every registered listener hear the howls of the other packs of its place.
+     */
+    public void deliver() {
+        if (attenuation == 0) {
+            return;
+        }
+        for (Neighborhood neighborhood : neighborhoods.values()) {
+            if (neighborhood.buckets.size() < 2 || neighborhood.howls.size() == 0) {
+                continue;
+            }
+            for (Bucket bucket : neighborhood.buckets.values()) {
+                if (bucket.howls.size() == neighborhood.howls.size()) {
+                    continue; // Only its own pack howled here
+                }
+                for (Werewolf w : bucket.listeners) {
+                    w.hearDistantHowls(neighborhood.howls, bucket.howls, attenuation);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of packs having at least one registered werewolf in a place.
+     *
+     * @param place The place.
+     * @return The number of packs.
+     */
+    public int getPackCount(AbstractPlace place) {
+        Neighborhood neighborhood = neighborhoods.get(place);
+        return neighborhood == null ? 0 : neighborhood.buckets.size();
+    }
+
+    private Bucket bucketOf(Werewolf w) {
+        Pack pack = w.getPack();
+        AbstractPlace place = EntityRegistry.placeOf(w);
+        if (pack == null || place == null) {
+            return null;
+        }
+        Neighborhood neighborhood = neighborhoods.computeIfAbsent(place, p -> new Neighborhood());
+        return neighborhood.buckets.computeIfAbsent(pack, p -> new Bucket(neighborhood, p));
+    }
+
+    /**
+     * The packs present in one place and the howls sent there.
+     */
+    private static final class Neighborhood {
+
+        private final Map<Pack, Bucket> buckets = new LinkedHashMap<>();
+        private final HowlBatch howls = new HowlBatch(null);
+    }
+
+    /**
+     * The werewolves of one pack in one place, and the howls they sent.
+     */
+    private static final class Bucket {
+
+        private final Neighborhood neighborhood;
+        private final List<Werewolf> listeners = new ArrayList<>();
+        private final HowlBatch howls;
+
+        private Bucket(Neighborhood neighborhood, Pack pack) {
+            this.neighborhood = neighborhood;
+            this.howls = new HowlBatch(pack);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.model.colony;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.pack.Pack;
+
+/**
+ * Splits a pack that has grown too large into several packs in one go.
+ * <p>
+ * A pack of {@code n} members is cut into {@code ceil(n / maxSize)} parts, at least two: the
+ * pack itself and daughter packs, each led by a new alpha couple. The couples are the best adult
+ * males and females above a minimum level, read from the level index of the pack. The other
+ * members are then dealt to the parts by decreasing level, back and forth, so that every part
+ * gets its share of strong and weak werewolves. Each member is looked at once, the leavers are
+ * removed from the pack in one batch, and each daughter ranks its members once.
+ * </p>
+ * <p>
+ * There is one daughter per available couple, so a pack lacking candidates gives fewer, larger
+ * daughters, which are split again in the following seasons.
+ * </p>
+ */
+class PackSplitter {
+
+    private final int maxSize;
+    private final double minAlphaLevel;
+
+    /**
+     * Creates a splitter.
+     *
+     * @param maxSize       The largest pack that is not split
+     * @param minAlphaLevel The level a werewolf must exceed to lead a daughter pack
+     */
+    PackSplitter(int maxSize, double minAlphaLevel) {
+        if (maxSize < 2) {
+            throw new IllegalArgumentException("Max pack size must be at least 2: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.minAlphaLevel = minAlphaLevel;
+    }
+
+    /**
+     * Tells whether a pack has grown beyond the largest size.
+     */
+    boolean isTooLarge(Pack pack) {
+        return pack.getMemberCount() > maxSize;
+    }
+
+    /**
+     * Splits a pack if it is too large.
+     *
+     * @param pack The pack to split
+     * @param name The name of the daughter pack, suffixed by its number when there are several
+     * @return The daughter packs, not yet added to any colony; empty if the pack was not split
+     */
+    List<Pack> split(Pack pack, String name) {
+        List<Pack> daughters = new ArrayList<>();
+        if (!isTooLarge(pack)) {
+            return daughters;
+        }
+
+        int parts = Math.max(2, (pack.getMemberCount() + maxSize - 1) / maxSize);
+
+        // New alpha couples, best candidates first
+        List<Werewolf> males = new ArrayList<>();
+        List<Werewolf> females = new ArrayList<>();
+        for (Werewolf w : pack.findAdultsAboveLevel(minAlphaLevel)) {
+            if (w == pack.getAlphaMale() || w == pack.getAlphaFemale()) {
+                continue;
+            }
+            if (w.getSex() == AbstractCharacter.Sex.MALE && males.size() < parts - 1) {
+                males.add(w);
+            } else if (w.getSex() == AbstractCharacter.Sex.FEMALE && females.size() < parts - 1) {
+                females.add(w);
+            }
+        }
+        int couples = Math.min(males.size(), females.size());
+        if (couples == 0) {
+            return daughters;
+        }
+        parts = couples + 1;
+
+        // Deal the other members by level: 0 1 2 2 1 0 0 1 2...; part 0 stays
+        List<List<Werewolf>> shares = new ArrayList<>(parts);
+        for (int i = 0; i < parts; i++) {
+            shares.add(new ArrayList<>());
+        }
+        List<Werewolf> leaving = new ArrayList<>();
+        Set<Integer> leaders = new HashSet<>();
+        for (int i = 0; i < couples; i++) {
+            leaving.add(males.get(i));
+            leaving.add(females.get(i));
+            leaders.add(males.get(i).getId());
+            leaders.add(females.get(i).getId());
+        }
+        int dealt = 0;
+        for (Werewolf w : pack.getMembersByLevel()) {
+            if (w == pack.getAlphaMale() || w == pack.getAlphaFemale() || leaders.contains(w.getId())) {
+                continue;
+            }
+            int round = dealt / parts;
+            int position = dealt % parts;
+            int part = round % 2 == 0 ? position : parts - 1 - position;
+            dealt++;
+            if (part > 0) {
+                shares.get(part).add(w);
+                leaving.add(w);
+            }
+        }
+
+        pack.removeWerewolves(leaving);
+        for (int i = 0; i < couples; i++) {
+            String daughterName = couples == 1 ? name : name + "-" + (i + 1);
+            Pack daughter = new Pack(daughterName, males.get(i), females.get(i));
+            daughter.createHierarchy(shares.get(i + 1));
+            daughters.add(daughter);
+        }
+        pack.updateHierarchy(pack.getMembers());
+        return daughters;
+    }
+}
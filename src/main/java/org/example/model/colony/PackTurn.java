@@ -0,0 +1,102 @@
+package org.example.model.colony;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.example.model.character.werewolf.HowlType;
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.pack.Pack;
+
+/**
+ * The work of one pack during one season.
+ * <p>
+ * A pack turn only changes its own pack. What concerns the whole colony (the howls
+ * heard by the other packs, the werewolves that left, the counters of the season)
+ * is recorded here and applied by the colony once every pack is done, in pack
+ * order, so that the packs can be processed in parallel without changing the
+ * outcome of the season.
+ * </p>
+ */
+final class PackTurn {
+
+    private final Pack pack;
+    private final SplittableRandom random;
+
+    private final List<Werewolf> howlers = new ArrayList<>();
+    private final List<HowlType> howlTypes = new ArrayList<>();
+    private final List<Werewolf> leavers = new ArrayList<>();
+    private int agedCount;
+    private int howlCount;
+    private int transformCount;
+
+    /**
+     * Creates the turn of a pack.
+     *
+     * @param pack   The pack processed.
+     * @param random The random stream reserved to this pack for this season.
+     */
+    PackTurn(Pack pack, SplittableRandom random) {
+        this.pack = pack;
+        this.random = random;
+    }
+
+    Pack getPack() {
+        return pack;
+    }
+
+    SplittableRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Records a howl that may be heard by the other packs.
+     */
+    void recordHowl(Werewolf sender, HowlType type) {
+        howlers.add(sender);
+        howlTypes.add(type);
+    }
+
+    List<Werewolf> getHowlers() {
+        return howlers;
+    }
+
+    List<HowlType> getHowlTypes() {
+        return howlTypes;
+    }
+
+    /**
+     * Records a werewolf that left the pack during the turn.
+     */
+    void recordLeaver(Werewolf w) {
+        leavers.add(w);
+    }
+
+    List<Werewolf> getLeavers() {
+        return leavers;
+    }
+
+    void countAged() {
+        agedCount++;
+    }
+
+    int getAgedCount() {
+        return agedCount;
+    }
+
+    void countHowl() {
+        howlCount++;
+    }
+
+    int getHowlCount() {
+        return howlCount;
+    }
+
+    void countTransform() {
+        transformCount++;
+    }
+
+    int getTransformCount() {
+        return transformCount;
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.model.concurrent;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Runs the turns of a step of the simulation, such as the place turns of a cycle or the pack
+ * turns of a season, either one after the other or on a fork-join pool.
+ * <p>
+ * The pool threads are daemons, so an executor that is never shut down does not
+ * keep the application alive.
+ * </p>
+ *
+ * @param <T> The type of the turns.
+ */
+public final class TurnExecutor<T> {
+
+    private final int parallelism;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates an executor.
+     *
+     * @param parallelism The number of worker threads; 1 runs every turn on the calling thread.
+     * @throws IllegalArgumentException if the parallelism is lower than 1.
+     */
+    public TurnExecutor(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.pool = parallelism == 1 ? null : new ForkJoinPool(parallelism);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Applies the work to every turn and waits for all of them to finish.
+     *
+     * @param turns The turns of the step.
+     * @param work  The work to run for each turn.
+     */
+    public void run(T[] turns, Consumer<? super T> work) {
+        if (pool == null || turns.length < 2) {
+            for (T turn : turns) {
+                work.accept(turn);
+            }
+        } else {
+            pool.invoke(new TurnsAction<>(turns, 0, turns.length, work));
+        }
+    }
+
+    /**
+     * Stops the worker threads, if any.
+     */
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Splits a range of turns in halves until a single turn is left.
+     */
+    private static final class TurnsAction<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] turns;
+        private final int from;
+        private final int to;
+        private final Consumer<? super T> work;
+
+        TurnsAction(T[] turns, int from, int to, Consumer<? super T> work) {
+            this.turns = turns;
+            this.from = from;
+            this.to = to;
+            this.work = work;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                work.accept(turns[from]);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TurnsAction<>(turns, from, middle, work), new TurnsAction<>(turns, middle, to, work));
+        }
+    }
+}
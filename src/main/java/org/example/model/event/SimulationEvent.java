@@ -0,0 +1,190 @@
+package org.example.model.event;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.places.AbstractPlace;
+
+/**
+ * A single event published on a {@link SimulationEventBus}.
+ * <p>
+ * Events are not created for each publication: the bus owns a fixed number of
+ * instances (its ring-buffer slots) and overwrites them in turn. A listener must
+ * therefore read what it needs during {@link SimulationEventListener#onEvent}
+ * and never keep a reference to the event itself; {@link #copy()} gives a
+ * detached snapshot when one is really needed.
+ * </p>
+ * <p>
+ * An event either carries structured data (actor, target, place, detail and two
+ * integer values) or a free-form text. The human-readable form is only built
+ * when {@link #describe()} is called, so subscribers that just count or filter
+ * events never pay for string formatting.
+ * </p>
+ */
+public final class SimulationEvent {
+
+    private long sequence = -1;
+    private SimulationEventType type;
+    private AbstractCharacter actor;
+    private AbstractCharacter target;
+    private AbstractPlace place;
+    private String detail;
+    private int value;
+    private int otherValue;
+    private String text;
+
+    /**
+     * Creates an empty event. Only the bus and {@link #copy()} create events.
+     */
+    SimulationEvent() {
+    }
+
+    /**
+     * Fills this slot with structured data.
+     */
+    void set(long sequence, SimulationEventType type, AbstractCharacter actor, AbstractCharacter target,
+             AbstractPlace place, String detail, int value, int otherValue) {
+        this.sequence = sequence;
+        this.type = type;
+        this.actor = actor;
+        this.target = target;
+        this.place = place;
+        this.detail = detail;
+        this.value = value;
+        this.otherValue = otherValue;
+        this.text = null;
+    }
+
+    /**
+     * Fills this slot with a free-form message.
+     */
+    void setText(long sequence, SimulationEventType type, String text) {
+        set(sequence, type, null, null, null, null, 0, 0);
+        this.text = text;
+    }
+
+    /**
+     * Gets the position of this event in the stream of the bus (0 for the first event).
+     *
+     * @return The sequence number.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public SimulationEventType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the character the event is about (the fighter, the dead, the drinker...).
+     *
+     * @return The main character, or {@code null}.
+     */
+    public AbstractCharacter getActor() {
+        return actor;
+    }
+
+    /**
+     * Gets the second character involved, such as the opponent of a fight.
+     *
+     * @return The other character, or {@code null}.
+     */
+    public AbstractCharacter getTarget() {
+        return target;
+    }
+
+    public AbstractPlace getPlace() {
+        return place;
+    }
+
+    /**
+     * Gets the extra label of the event (food name, howl description, rank symbol, pack name...).
+     *
+     * @return The detail, or {@code null}.
+     */
+    public String getDetail() {
+        return detail;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public int getOtherValue() {
+        return otherValue;
+    }
+
+    /**
+     * Gets the free-form message of the event.
+     *
+     * @return The message, or {@code null} for a structured event.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Tells whether this event only carries a free-form message.
+     *
+     * @return {@code true} if the event was published as text.
+     */
+    public boolean isText() {
+        return text != null;
+    }
+
+    /**
+     * Creates a detached copy of this event, safe to keep after the listener returns.
+     *
+     * @return A new event with the same content.
+     */
+    public SimulationEvent copy() {
+        SimulationEvent copy = new SimulationEvent();
+        copy.set(sequence, type, actor, target, place, detail, value, otherValue);
+        copy.text = text;
+        return copy;
+    }
+
+    /**
+     * Builds the human-readable form of this event.
+     *
+     * @return The message of the event.
+     */
+    public String describe() {
+        if (text != null) {
+            return text;
+        }
+        return switch (type) {
+            case FIGHT -> "⚔️ Fight in " + nameOf(place) + " : " + nameOf(actor) + " (HP: " + value + ") vs "
+                    + nameOf(target) + " (HP: " + otherValue + ")";
+            case DEATH -> "💀 " + nameOf(actor) + " has passed away.";
+            case FLEE -> "🏃 " + nameOf(actor) + " flees back to " + nameOf(place);
+            case VICTORY -> "🏆 " + nameOf(actor) + " is the sole survivor of the battle! They are victorious!"
+                    + " (Strength +" + value + ", Fully Healed)";
+            case TRANSFER -> "🚚 " + nameOf(actor) + " moved to " + nameOf(place)
+                    + (detail != null ? " (from " + detail + ")" : "");
+            case FOOD_SPAWN -> "🍎 A " + detail + " appeared in " + nameOf(place);
+            case FOOD_ROT -> "   (Rotten " + detail + " removed from " + nameOf(place) + ")";
+            case POTION -> "🧪 " + nameOf(actor) + " drank the magic potion! Magic level: " + otherValue + " → " + value
+                    + (detail != null ? ". " + detail : "");
+            case HEAL -> "💚 " + nameOf(actor) + " healed! Health: " + otherValue + " → " + value;
+            case FEED -> "🍖 " + nameOf(actor) + " ate " + detail + "! Hunger: " + otherValue + " → " + value;
+            case HOWL -> "🐺 " + nameOf(actor) + " howls: " + detail;
+            case BIRTH -> "👶 " + nameOf(actor) + " is born with rank " + detail;
+            case RANK_CHANGE -> "📌 " + nameOf(actor) + " is now " + detail;
+            default -> type + " " + nameOf(actor) + (target != null ? " / " + nameOf(target) : "")
+                    + (place != null ? " @ " + nameOf(place) : "") + (detail != null ? " " + detail : "");
+        };
+    }
+
+    private static String nameOf(AbstractCharacter character) {
+        return character != null ? character.getName() : "?";
+    }
+
+    private static String nameOf(AbstractPlace place) {
+        return place != null ? place.getName() : "?";
+    }
+
+    @Override
+    public String toString() {
+        return "#" + sequence + " " + type + " " + describe();
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.model.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.places.AbstractPlace;
+
+/**
+ * Typed publish/subscribe channel for simulation events, backed by a ring buffer.
+ * <p>
+ * The bus preallocates {@code capacity} {@link SimulationEvent} slots. Each
+ * publication claims the next sequence number, fills the matching slot and
+ * hands it to every subscribed {@link SimulationEventListener}, in
+ * subscription order and on the publishing thread. Publishing does not allocate
+ * and does not format any text.
+ * </p>
+ * <p>
+ * The last {@code capacity} events also stay readable in the ring, so a
+ * consumer living on another thread (the GUI for instance) can catch up later
+ * with {@link #drain(long, SimulationEventListener)} instead of being called
+ * for every single event. A consumer that falls more than {@code capacity}
+ * events behind loses the oldest ones.
+ * </p>
+ * <p>
+ * Publication and draining are synchronized, so events may be published from
+ * several threads: they are simply serialized in sequence order.
+ * </p>
+ */
+public final class SimulationEventBus {
+
+    /** Number of slots used by the process-wide bus of {@link SimulationLog}. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final SimulationEvent[] slots;
+    private final int mask;
+    private final List<SimulationEventListener> listeners = new CopyOnWriteArrayList<>();
+    private long nextSequence;
+
+    /**
+     * Creates a bus with the given number of ring-buffer slots.
+     *
+     * @param capacity The number of slots, a power of two.
+     * @throws IllegalArgumentException if the capacity is not a positive power of two.
+     */
+    public SimulationEventBus(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+        }
+        this.slots = new SimulationEvent[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new SimulationEvent();
+        }
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Registers a listener called for every following event.
+     *
+     * @param listener The listener to add.
+     * @throws IllegalArgumentException if the listener is null.
+     */
+    public void subscribe(SimulationEventListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener. Does nothing if it was not subscribed.
+     *
+     * @param listener The listener to remove.
+     */
+    public void unsubscribe(SimulationEventListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Tells whether at least one listener is subscribed.
+     * <p>
+     * Publications made while nobody listens are dropped, so callers may skip
+     * any work needed to prepare an event when this returns {@code false}.
+     * </p>
+     *
+     * @return {@code true} if events are currently delivered.
+     */
+    public boolean hasSubscribers() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Publishes a structured event.
+     *
+     * @param type       The category of the event.
+     * @param actor      The main character, or {@code null}.
+     * @param target     The second character, or {@code null}.
+     * @param place      The place of the event, or {@code null}.
+     * @param detail     An extra label, or {@code null}.
+     * @param value      A first numeric value, meaning depends on the type.
+     * @param otherValue A second numeric value, meaning depends on the type.
+     */
+    public synchronized void publish(SimulationEventType type, AbstractCharacter actor, AbstractCharacter target,
+                                     AbstractPlace place, String detail, int value, int otherValue) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        SimulationEvent slot = slots[(int) (nextSequence & mask)];
+        slot.set(nextSequence++, type, actor, target, place, detail, value, otherValue);
+        dispatch(slot);
+    }
+
+    /**
+     * Publishes a free-form message.
+     *
+     * @param type The category of the message.
+     * @param text The text of the message.
+     */
+    public synchronized void publishText(SimulationEventType type, String text) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        SimulationEvent slot = slots[(int) (nextSequence & mask)];
+        slot.setText(nextSequence++, type, text);
+        dispatch(slot);
+    }
+
+    private void dispatch(SimulationEvent slot) {
+        for (SimulationEventListener listener : listeners) {
+            listener.onEvent(slot);
+        }
+    }
+
+    /**
+     * Replays the events still held by the ring, starting at a given sequence.
+     * <p>
+     * Events older than {@link #getOldestSequence()} have been overwritten and
+     * are skipped.
+     * </p>
+     *
+     * @param fromSequence The sequence of the first event wanted.
+     * @param consumer     The listener receiving each available event, in order.
+     * @return The sequence to pass to the next call.
+     */
+    public synchronized long drain(long fromSequence, SimulationEventListener consumer) {
+        long sequence = Math.max(fromSequence, getOldestSequence());
+        for (; sequence < nextSequence; sequence++) {
+            consumer.onEvent(slots[(int) (sequence & mask)]);
+        }
+        return sequence;
+    }
+
+    /**
+     * Gets the sequence number the next published event will receive.
+     *
+     * @return The number of events published so far.
+     */
+    public synchronized long getNextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * Gets the sequence of the oldest event still readable in the ring.
+     *
+     * @return The oldest available sequence.
+     */
+    public synchronized long getOldestSequence() {
+        return Math.max(0, nextSequence - slots.length);
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.model.event;
+
+/**
+ * Subscriber of a {@link SimulationEventBus}.
+ * <p>
+ * The event passed to {@link #onEvent} is a ring-buffer slot that will be
+ * reused by a later publication: read it, do not keep it.
+ * </p>
+ */
+@FunctionalInterface
+public interface SimulationEventListener {
+
+    /**
+     * Handles one published event.
+     *
+     * @param event The event, only valid for the duration of the call.
+     */
+    void onEvent(SimulationEvent event);
+}
@@ -0,0 +1,20 @@
+package org.example.model.event;
+
+/**
+ * Receives the messages produced by the simulation engine.
+ * <p>
+ * Implementations decide what to do with each message: print it, display it
+ * in the GUI, write it to a file, count it, or simply drop it.
+ * </p>
+ */
+@FunctionalInterface
+public interface SimulationEventSink {
+
+    /**
+     * Handles a single simulation message.
+     *
+     * @param type    The category of the message.
+     * @param message The human-readable text of the message.
+     */
+    void accept(SimulationEventType type, String message);
+}
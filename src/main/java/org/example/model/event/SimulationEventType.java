@@ -0,0 +1,49 @@
+package org.example.model.event;
+
+/**
+ * Categories of messages produced by the simulation engine.
+ * <p>
+ * Subscribers can use the category to filter or style events without
+ * having to parse their text.
+ * </p>
+ */
+public enum SimulationEventType {
+    /** Start of a new game cycle. */
+    CYCLE,
+    /** Phase announcements inside a cycle ("Sounds of battle...", etc.). */
+    PHASE,
+    /** A fight between two characters. */
+    FIGHT,
+    /** A character died. */
+    DEATH,
+    /** A wounded character fled the battlefield. */
+    FLEE,
+    /** A character won a battle. */
+    VICTORY,
+    /** A character moved from one place to another. */
+    TRANSFER,
+    /** Food appeared in a place. */
+    FOOD_SPAWN,
+    /** Food rotted and was removed from a place. */
+    FOOD_ROT,
+    /** A character drank a magic potion. */
+    POTION,
+    /** A character was healed. */
+    HEAL,
+    /** A character ate some food. */
+    FEED,
+    /** A werewolf howled. */
+    HOWL,
+    /** A cub was born in a pack. */
+    BIRTH,
+    /** A werewolf changed rank inside its pack. */
+    RANK_CHANGE,
+    /** Colony and pack life (seasons, births, hierarchy, howls, transformations). */
+    COLONY,
+    /** General information (reports, confirmations, displays). */
+    INFO,
+    /** Unexpected situation that does not stop the simulation. */
+    WARNING,
+    /** Low-level tracing of character state changes. */
+    DEBUG
+}
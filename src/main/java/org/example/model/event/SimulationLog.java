@@ -0,0 +1,136 @@
+package org.example.model.event;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.places.AbstractPlace;
+
+/**
+ * Process-wide entry point for simulation events.
+ * <p>
+ * The model classes never write to {@code System.out} directly: they publish
+ * their events on the shared {@link SimulationEventBus} returned by
+ * {@link #getBus()}. Typed events ({@link #publish}) carry the characters,
+ * place and values involved; plain messages ({@link #emit}) carry a text.
+ * </p>
+ * <p>
+ * For text-oriented consumers, a single {@link SimulationEventSink} can be
+ * installed: it is subscribed to the bus and receives the description of each
+ * event. By default this sink prints to the console, which keeps the
+ * interactive modes unchanged.
+ * </p>
+ * <p>
+ * When nobody listens to the bus, {@link #isEnabled()} returns {@code false}.
+ * Callers that build their message by concatenation must check it first, so
+ * that a headless run does not pay for any string formatting.
+ * </p>
+ */
+public final class SimulationLog {
+
+    /** Sink printing every message on the standard output, one per line. */
+    public static final SimulationEventSink CONSOLE = (type, message) -> System.out.println(message);
+
+    private static final SimulationEventBus BUS = new SimulationEventBus(SimulationEventBus.DEFAULT_CAPACITY);
+
+    /** The current sink, or {@code null} when no text consumer is installed. */
+    private static SimulationEventSink sink;
+
+    /** The bus subscription forwarding event descriptions to {@link #sink}. */
+    private static SimulationEventListener sinkListener;
+
+    static {
+        setSink(CONSOLE);
+    }
+
+    private SimulationLog() {
+    }
+
+    /**
+     * Gets the bus every simulation event is published on.
+     *
+     * @return The shared event bus.
+     */
+    public static SimulationEventBus getBus() {
+        return BUS;
+    }
+
+    /**
+     * Tells whether events are currently delivered to someone.
+     *
+     * @return {@code true} if the bus has at least one subscriber.
+     */
+    public static boolean isEnabled() {
+        return BUS.hasSubscribers();
+    }
+
+    /**
+     * Publishes a plain message.
+     *
+     * @param type    The category of the message.
+     * @param message The text of the message.
+     */
+    public static void emit(SimulationEventType type, String message) {
+        BUS.publishText(type, message);
+    }
+
+    /**
+     * Publishes a typed event about one character.
+     *
+     * @param type  The category of the event.
+     * @param actor The character concerned.
+     * @param place The place of the event, or {@code null}.
+     */
+    public static void publish(SimulationEventType type, AbstractCharacter actor, AbstractPlace place) {
+        BUS.publish(type, actor, null, place, null, 0, 0);
+    }
+
+    /**
+     * Publishes a typed event with all its fields.
+     *
+     * @param type       The category of the event.
+     * @param actor      The main character, or {@code null}.
+     * @param target     The second character, or {@code null}.
+     * @param place      The place of the event, or {@code null}.
+     * @param detail     An extra label, or {@code null}.
+     * @param value      A first numeric value.
+     * @param otherValue A second numeric value.
+     */
+    public static void publish(SimulationEventType type, AbstractCharacter actor, AbstractCharacter target,
+                               AbstractPlace place, String detail, int value, int otherValue) {
+        BUS.publish(type, actor, target, place, detail, value, otherValue);
+    }
+
+    /**
+     * Gets the current sink.
+     *
+     * @return The installed sink, or {@code null} when none is installed.
+     */
+    public static synchronized SimulationEventSink getSink() {
+        return sink;
+    }
+
+    /**
+     * Installs a new sink in place of the current one.
+     * <p>
+     * Other bus subscribers are not affected.
+     * </p>
+     *
+     * @param newSink The sink receiving the following messages, or {@code null} to remove it.
+     */
+    public static synchronized void setSink(SimulationEventSink newSink) {
+        if (sinkListener != null) {
+            BUS.unsubscribe(sinkListener);
+            sinkListener = null;
+        }
+        sink = newSink;
+        if (newSink != null) {
+            sinkListener = event -> newSink.accept(event.getType(), event.describe());
+            BUS.subscribe(sinkListener);
+        }
+    }
+
+    /**
+     * Removes the current sink until another one is installed.
+     */
+    public static void disable() {
+        setSink(null);
+    }
+}
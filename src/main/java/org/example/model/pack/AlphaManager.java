@@ -1,6 +1,5 @@
 package org.example.model.pack;
 
-import java.util.Comparator;
 import org.example.model.character.AbstractCharacter;
 import org.example.model.character.werewolf.Werewolf;
 import org.example.model.character.werewolf.AgeCategory;
@@ -58,13 +57,10 @@ public class AlphaManager {
         alphaMale = newMale;
 
         // Find the strongest adult female to be the new alpha female
-        Werewolf newFemale = hierarchy.getMembers().stream()
-                .filter(w -> w.getSex() == AbstractCharacter.Sex.FEMALE &&
-                             w.getAgeCategory() == AgeCategory.ADULT)
-                .max(Comparator.comparingDouble(Werewolf::calculateLevel))
-                .orElse(alphaFemale); // Fallback to the old alpha female if no other is found
-
-        alphaFemale = newFemale;
+        Werewolf newFemale = hierarchy.getLevelIndex().best(AbstractCharacter.Sex.FEMALE, AgeCategory.ADULT);
+        if (newFemale != null) {
+            alphaFemale = newFemale;
+        } // Otherwise the old alpha female keeps her place
 
         // Promote the new couple to Alpha rank
         hierarchy.addMember(alphaMale, Rank.ALPHA);
@@ -1,15 +1,26 @@
 package org.example.model.pack;
 
 import org.example.model.character.werewolf.Werewolf;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
+import org.example.model.random.SimulationRandom;
+
+import java.util.SplittableRandom;
 
 public class DominationManager {
 
     private final HierarchyManager hierarchy;
     private final AlphaManager alphaManager;
+    private final SplittableRandom random;
 
     public DominationManager(HierarchyManager hierarchy, AlphaManager alphaManager) {
+        this(hierarchy, alphaManager, SimulationRandom.split());
+    }
+
+    public DominationManager(HierarchyManager hierarchy, AlphaManager alphaManager, SplittableRandom random) {
         this.hierarchy = hierarchy;
         this.alphaManager = alphaManager;
+        this.random = random;
     }
 
     public boolean attemptDomination(Werewolf aggressor, Werewolf target) {
@@ -19,20 +30,24 @@ public class DominationManager {
 
         if (!hierarchy.containsMember(aggressor) ||
             !hierarchy.containsMember(target)) {
-            System.out.println("❌ Both werewolves must belong to the same pack.");
+            SimulationLog.emit(SimulationEventType.COLONY, "❌ Both werewolves must belong to the same pack.");
             return false;
         }
 
         // Cannot dominate alpha female
         if (target == alphaManager.getAlphaFemale()) {
-            System.out.println("⚠ " + aggressor.getName() + " cannot dominate the alpha female!");
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.COLONY, "⚠ " + aggressor.getName() + " cannot dominate the alpha female!");
+            }
             return false;
         }
 
         // Check impetuosity + strength
         if (target.getStrength() > aggressor.getStrength() &&
-            Math.random() > aggressor.getImpetuosityFactor()) {
-            System.out.println("⚠ " + aggressor.getName() + " lacks confidence to dominate " + target.getName());
+            random.nextDouble() > aggressor.getImpetuosityFactor()) {
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.COLONY, "⚠ " + aggressor.getName() + " lacks confidence to dominate " + target.getName());
+            }
             return false;
         }
 
@@ -50,7 +65,9 @@ public class DominationManager {
 
 
     private void handleSuccess(Werewolf aggressor, Werewolf target) {
-        System.out.println("💥 " + aggressor.getName() + " successfully dominates " + target.getName());
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.COLONY, "💥 " + aggressor.getName() + " successfully dominates " + target.getName());
+        }
 
         aggressor.setDominationFactor(aggressor.getDominationFactor() + 1);
         target.setDominationFactor(target.getDominationFactor() - 1);
@@ -65,21 +82,22 @@ public class DominationManager {
             hierarchy.addMember(aggressor, rankT);
             hierarchy.addMember(target, rankA);
 
-            System.out.println("📌 Rank swap: "
-                    + aggressor.getName() + " is now " + rankT.getSymbol() + ", "
-                    + target.getName() + " is now " + rankA.getSymbol());
+            SimulationLog.publish(SimulationEventType.RANK_CHANGE, aggressor, target, null, rankT.name(), 0, 0);
+            SimulationLog.publish(SimulationEventType.RANK_CHANGE, target, aggressor, null, rankA.name(), 0, 0);
         }
     }
 
     private void handleFailure(Werewolf aggressor, Werewolf target) {
-        System.out.println("❌ Domination failed: " + aggressor.getName() + " → " + target.getName());
-        System.out.println("🔥 " + target.getName() + " becomes aggressive!");
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.COLONY, "❌ Domination failed: " + aggressor.getName() + " → " + target.getName());
+            SimulationLog.emit(SimulationEventType.COLONY, "🔥 " + target.getName() + " becomes aggressive!");
+        }
 
         target.setBelligerence(target.getBelligerence() + 15);
         aggressor.setDominationFactor(aggressor.getDominationFactor() - 1);
     }
 
     private boolean isOmega(Werewolf w) {
-        return hierarchy.getWerewolvesByRank(Rank.OMEGA).contains(w);
+        return hierarchy.getRankOf(w) == Rank.OMEGA;
     }
 }
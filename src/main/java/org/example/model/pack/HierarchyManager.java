@@ -1,24 +1,51 @@
 package org.example.model.pack;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.example.model.character.CharacterRoster;
 import org.example.model.character.werewolf.Werewolf;
 
+/**
+ * Keeps the members of a pack and the rank of each of them.
+ * <p>
+ * Every member has at most one rank. A map from werewolf id to rank answers
+ * {@link #getRankOf(Werewolf)}, and each rank keeps its werewolves in a
+ * {@link CharacterRoster}, so adding, removing, moving and looking up a member
+ * are O(1) whatever the size of the pack. Members are identified by id, not by
+ * {@code equals}, which depends on their stats. The members are also kept ordered by level
+ * in a {@link PackLevelIndex}.
+ * </p>
+ */
 public class HierarchyManager {
 
-    private final Map<Rank, List<Werewolf>> hierarchy;
-    private final List<Werewolf> members;
+    private final Map<Rank, CharacterRoster<Werewolf>> hierarchy;
+    private final Map<Integer, Rank> rankById;
+    private final CharacterRoster<Werewolf> members;
+    private final PackLevelIndex levelIndex;
+    private final Pack owner;
+    private PopulationStatistics statistics;
 
     public HierarchyManager() {
+        this(null);
+    }
+
+    /**
+     * Creates the hierarchy of a pack. Members added to it get this pack as
+     * their pack, and lose it when they are removed.
+     */
+    public HierarchyManager(Pack owner) {
+        this.owner = owner;
         hierarchy = new EnumMap<>(Rank.class);
-        members = new ArrayList<>();
+        rankById = new HashMap<>();
+        members = new CharacterRoster<>();
+        levelIndex = new PackLevelIndex();
 
         for (Rank rank : Rank.values()) {
-            hierarchy.put(rank, new ArrayList<>());
+            hierarchy.put(rank, new CharacterRoster<>());
         }
     }
 
@@ -27,10 +54,9 @@ public class HierarchyManager {
      * Use dedicated methods for modifications.
      */
     public Map<Rank, List<Werewolf>> getHierarchy() {
-        // Return a deep unmodifiable view
         Map<Rank, List<Werewolf>> result = new EnumMap<>(Rank.class);
-        for (Map.Entry<Rank, List<Werewolf>> entry : hierarchy.entrySet()) {
-            result.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+        for (Map.Entry<Rank, CharacterRoster<Werewolf>> entry : hierarchy.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().asList());
         }
         return Collections.unmodifiableMap(result);
     }
@@ -40,14 +66,14 @@ public class HierarchyManager {
      * Use dedicated methods for modifications.
      */
     public List<Werewolf> getMembers() {
-        return Collections.unmodifiableList(members);
+        return members.asList();
     }
 
     /**
-     * Returns werewolves of a specific rank.
+     * Returns werewolves of a specific rank, as an unmodifiable view.
      */
     public List<Werewolf> getWerewolvesByRank(Rank rank) {
-        return Collections.unmodifiableList(hierarchy.get(rank));
+        return hierarchy.get(rank).asList();
     }
 
     /**
@@ -65,11 +91,15 @@ public class HierarchyManager {
     }
 
     /**
-     * Clears all ranks except ALPHA.
+     * Takes their rank from all members except the ALPHA ones. They stay members.
      */
     public void clearNonAlphaRanks() {
-        for (Map.Entry<Rank, List<Werewolf>> entry : hierarchy.entrySet()) {
+        for (Map.Entry<Rank, CharacterRoster<Werewolf>> entry : hierarchy.entrySet()) {
             if (entry.getKey() != Rank.ALPHA) {
+                for (Werewolf w : entry.getValue()) {
+                    rankById.remove(w.getId());
+                    if (statistics != null) statistics.rankChanged(entry.getKey(), null);
+                }
                 entry.getValue().clear();
             }
         }
@@ -79,25 +109,136 @@ public class HierarchyManager {
      * Removes all members except the specified alpha pair.
      */
     public void retainOnlyAlphas(Werewolf alphaMale, Werewolf alphaFemale) {
-        members.removeIf(w -> w != alphaMale && w != alphaFemale);
+        for (Werewolf w : members.toList()) {
+            if (w != alphaMale && w != alphaFemale) {
+                removeMember(w);
+            }
+        }
     }
 
+    /**
+     * Adds a werewolf with the given rank, or moves it to that rank if it is already a member.
+     */
     public void addMember(Werewolf w, Rank r) {
+        Rank previous = rankById.put(w.getId(), r);
+        if (previous != null && previous != r) {
+            hierarchy.get(previous).remove(w);
+        }
         w.setRank(r.getHierarchyLevel());
         hierarchy.get(r).add(w);
-        if (!members.contains(w)) members.add(w);
+        boolean added = members.add(w);
+        levelIndex.add(w);
+        if (statistics != null) {
+            if (added) statistics.populationChanged(1);
+            if (previous != r) statistics.rankChanged(previous, r);
+        }
+        if (owner != null) w.setPack(owner);
+    }
+
+    /**
+     * Adds new werewolves with the same rank in one pass, such as a litter of cubs.
+     * Werewolves that are already members are moved to that rank as with
+     * {@link #addMember(Werewolf, Rank)}.
+     */
+    public void addMembers(List<Werewolf> werewolves, Rank r) {
+        CharacterRoster<Werewolf> roster = hierarchy.get(r);
+        int added = 0;
+        for (Werewolf w : werewolves) {
+            if (members.contains(w)) {
+                addMember(w, r);
+                continue;
+            }
+            rankById.put(w.getId(), r);
+            w.setRank(r.getHierarchyLevel());
+            roster.add(w);
+            members.add(w);
+            added++;
+        }
+        levelIndex.addAll(werewolves);
+        if (statistics != null && added > 0) {
+            statistics.populationChanged(added);
+            statistics.rankCountChanged(r, added);
+        }
+        if (owner != null) {
+            for (Werewolf w : werewolves) {
+                w.setPack(owner);
+            }
+        }
     }
 
     public void removeMember(Werewolf w) {
-        hierarchy.values().forEach(list -> list.remove(w));
-        members.remove(w);
+        Rank previous = rankById.remove(w.getId());
+        if (previous != null) {
+            hierarchy.get(previous).remove(w);
+        }
+        boolean removed = members.remove(w);
+        levelIndex.remove(w);
+        if (statistics != null) {
+            if (removed) statistics.populationChanged(-1);
+            statistics.rankChanged(previous, null);
+        }
+        if (owner != null && w.getPack() == owner) w.setPack(null);
     }
 
+    /**
+     * Removes several members in one pass, such as the members leaving for another pack.
+     * Werewolves that are not members are skipped.
+     */
+    public void removeMembers(List<Werewolf> werewolves) {
+        int removed = 0;
+        for (Werewolf w : werewolves) {
+            if (!members.remove(w)) {
+                continue;
+            }
+            removed++;
+            Rank previous = rankById.remove(w.getId());
+            if (previous != null) {
+                hierarchy.get(previous).remove(w);
+                if (statistics != null) statistics.rankCountChanged(previous, -1);
+            }
+            if (owner != null && w.getPack() == owner) w.setPack(null);
+        }
+        levelIndex.removeAll(werewolves);
+        if (statistics != null && removed > 0) statistics.populationChanged(-removed);
+    }
+
+    /**
+     * Counts the members in other statistics, taking them out of the previous ones.
+     *
+     * @param statistics The new statistics, or {@code null} to stop counting the members.
+     */
+    void setStatistics(PopulationStatistics statistics) {
+        if (this.statistics != null) count(this.statistics, -1);
+        this.statistics = statistics;
+        if (statistics != null) count(statistics, 1);
+        levelIndex.setStatistics(statistics);
+    }
+
+    /**
+     * Returns the statistics the members are counted in, or null.
+     */
+    PopulationStatistics getStatistics() {
+        return statistics;
+    }
+
+    private void count(PopulationStatistics target, int sign) {
+        target.populationChanged(sign * members.size());
+        for (Map.Entry<Rank, CharacterRoster<Werewolf>> entry : hierarchy.entrySet()) {
+            target.rankCountChanged(entry.getKey(), sign * entry.getValue().size());
+        }
+    }
+
+    /**
+     * Returns the level index of the members.
+     */
+    PackLevelIndex getLevelIndex() {
+        return levelIndex;
+    }
+
+    /**
+     * Returns the rank of a member, or null if it has none.
+     */
     public Rank getRankOf(Werewolf w) {
-        return hierarchy.entrySet().stream()
-                .filter(e -> e.getValue().contains(w))
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElse(null);
+        return rankById.get(w.getId());
     }
 }
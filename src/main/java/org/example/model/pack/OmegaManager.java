@@ -5,6 +5,8 @@ import java.util.List;
 
 import org.example.model.character.werewolf.AgeCategory;
 import org.example.model.character.werewolf.Werewolf;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 
 public class OmegaManager {
 
@@ -18,17 +20,13 @@ public class OmegaManager {
 
     public void identifyOmegaWerewolves() {
 
-        List<Werewolf> members = hierarchy.getMembers();
-
-        double avg = members.stream()
-                .filter(w -> w.getAgeCategory() == AgeCategory.ADULT)
-                .mapToInt(Werewolf::getStrength)
-                .average()
-                .orElse(0);
+        double avg = hierarchy.getLevelIndex().averageAdultStrength();
 
         double threshold = avg * OMEGA_STRENGTH_RATIO;
 
-        System.out.println("🔍 Identifying omega werewolves (strength < " + String.format("%.2f", threshold) + ")");
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.COLONY, "🔍 Identifying omega werewolves (strength < " + String.format("%.2f", threshold) + ")");
+        }
 
         for (Rank rank : Rank.values()) {
             if (rank == Rank.ALPHA || rank == Rank.OMEGA)
@@ -43,7 +41,7 @@ public class OmegaManager {
                     hierarchy.removeMember(w);
                     hierarchy.addMember(w, Rank.OMEGA);
 
-                    System.out.println("⬇ " + w.getName() + " is now " + Rank.OMEGA.getSymbol() + " (omega)");
+                    SimulationLog.publish(SimulationEventType.RANK_CHANGE, w, null, null, Rank.OMEGA.name(), 0, 0);
                 }
             }
         }
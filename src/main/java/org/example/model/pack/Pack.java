@@ -1,15 +1,22 @@
 package org.example.model.pack;
 
+import org.example.model.character.werewolf.AgeCategory;
+import org.example.model.character.werewolf.HowlBatch;
 import org.example.model.character.werewolf.HowlType;
 import org.example.model.character.werewolf.Werewolf;
+import org.example.model.random.SimulationRandom;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 public class Pack {
 
     private final String name;
 
+    // Random stream shared by the pack and its members
+    private final SplittableRandom random;
+
     // Managers
     private final HierarchyManager hierarchyManager;
     private final AlphaManager alphaManager;
@@ -25,13 +32,14 @@ public class Pack {
         new PackValidator().validatePackCreation(name, alphaMale, alphaFemale);
 
         this.name = name;
+        this.random = SimulationRandom.split();
 
         // Initialize internal managers
-        this.hierarchyManager = new HierarchyManager();
+        this.hierarchyManager = new HierarchyManager(this);
         this.alphaManager = new AlphaManager(hierarchyManager, alphaMale, alphaFemale);
         this.rankAssigner = new RankAssigner(hierarchyManager);
-        this.reproductionManager = new ReproductionManager(hierarchyManager);
-        this.dominationManager = new DominationManager(hierarchyManager, alphaManager);
+        this.reproductionManager = new ReproductionManager(hierarchyManager, random);
+        this.dominationManager = new DominationManager(hierarchyManager, alphaManager, random);
         this.omegaManager = new OmegaManager(hierarchyManager);
         this.packDisplay = new PackDisplay(hierarchyManager, alphaManager);
     }
@@ -57,6 +65,13 @@ public class Pack {
                 alphaManager.getAlphaFemale());
     }
 
+    /** Updates the hierarchy, only re-ranking werewolves whose level changed since the last one */
+    public void updateHierarchy(List<Werewolf> werewolves) {
+        rankAssigner.updateHierarchy(werewolves,
+                alphaManager.getAlphaMale(),
+                alphaManager.getAlphaFemale());
+    }
+
     /** Declare the omega werewolves */
     public void identifyOmegas() {
         omegaManager.identifyOmegaWerewolves();
@@ -89,11 +104,44 @@ public class Pack {
         hierarchyManager.removeMember(w);
     }
 
+    /** Remove several werewolves at once */
+    public void removeWerewolves(List<Werewolf> werewolves) {
+        hierarchyManager.removeMembers(werewolves);
+    }
+
+    /** Remove a werewolf leaving the pack of its own accord, counting it as a departure */
+    public void releaseWerewolf(Werewolf w) {
+        if (!hierarchyManager.containsMember(w)) return;
+        hierarchyManager.removeMember(w);
+        PopulationStatistics statistics = hierarchyManager.getStatistics();
+        if (statistics != null) statistics.recordDeparture();
+    }
+
     /** Get all members of the pack */
     public List<Werewolf> getMembers() {
         return new ArrayList<>(hierarchyManager.getMembers());
     }
 
+    /** Get the number of members, without copying them */
+    public int getMemberCount() {
+        return hierarchyManager.getMemberCount();
+    }
+
+    /**
+     * Counts the members of the pack in colony-wide statistics, moving them out of the
+     * statistics they were counted in before.
+     *
+     * @param statistics The statistics, or {@code null} to stop counting the members.
+     */
+    public void setStatistics(PopulationStatistics statistics) {
+        hierarchyManager.setStatistics(statistics);
+    }
+
+    /** Brings the statistics up to date with the stat changes of the members */
+    public void refreshStatistics() {
+        hierarchyManager.getLevelIndex().refreshAll();
+    }
+
     public Werewolf getAlphaMale() {
         return alphaManager.getAlphaMale();
     }
@@ -106,9 +154,45 @@ public class Pack {
         return name;
     }
 
+    /** Random stream of the pack, used by its managers and by its members */
+    public SplittableRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Finds the adult members whose level is above a threshold, using the level index of the pack.
+     * The result is sorted by sex, then by decreasing level.
+     */
+    public List<Werewolf> findAdultsAboveLevel(double level) {
+        return hierarchyManager.getLevelIndex().above(AgeCategory.ADULT, level);
+    }
+
+    /** Get all members of the pack by decreasing level, read from the level index */
+    public List<Werewolf> getMembersByLevel() {
+        return hierarchyManager.getLevelIndex().ordered();
+    }
+
+    /** Called by a member when one of the stats its level depends on changes */
+    public void memberChanged(Werewolf w) {
+        hierarchyManager.getLevelIndex().changed(w);
+    }
+
+    /** Called by a member when it dies */
+    public void memberDied(Werewolf w) {
+        PopulationStatistics statistics = hierarchyManager.getStatistics();
+        if (statistics != null && hierarchyManager.containsMember(w)) statistics.recordDeath();
+    }
+
     public void notifyHowl(Werewolf w, HowlType type) {
         for (Werewolf member : hierarchyManager.getMembers()) {
             member.hearHowl(w, type);
         }
     }
+
+    /** Delivers a whole batch of howls, each member handling them all in one call */
+    public void notifyHowls(HowlBatch batch) {
+        for (Werewolf member : hierarchyManager.getMembers()) {
+            member.hearHowls(batch);
+        }
+    }
 }
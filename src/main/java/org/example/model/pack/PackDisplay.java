@@ -3,6 +3,8 @@ package org.example.model.pack;
 import java.util.List;
 
 import org.example.model.character.werewolf.Werewolf;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 
 public class PackDisplay {
 
@@ -15,44 +17,44 @@ public class PackDisplay {
     }
 
     public void displayPack(String packName) {
-        System.out.println("\n╔══════════════════════════════════════╗");
-        System.out.println("║           PACK INFORMATION           ║");
-        System.out.println("╚══════════════════════════════════════╝");
+        SimulationLog.emit(SimulationEventType.INFO, "\n╔══════════════════════════════════════╗");
+        SimulationLog.emit(SimulationEventType.INFO, "║           PACK INFORMATION           ║");
+        SimulationLog.emit(SimulationEventType.INFO, "╚══════════════════════════════════════╝");
 
-        System.out.println("🏷 Pack Name : " + packName);
-        System.out.println("🐺 Members   : " + hierarchy.getMemberCount());
+        SimulationLog.emit(SimulationEventType.INFO, "🏷 Pack Name : " + packName);
+        SimulationLog.emit(SimulationEventType.INFO, "🐺 Members   : " + hierarchy.getMemberCount());
 
-        System.out.println("♂ Alpha Male   : " + alphaManager.getAlphaMale().getName()
+        SimulationLog.emit(SimulationEventType.INFO, "♂ Alpha Male   : " + alphaManager.getAlphaMale().getName()
                 + " (Strength: " + alphaManager.getAlphaMale().getStrength() + ")");
 
-        System.out.println("♀ Alpha Female : " + alphaManager.getAlphaFemale().getName()
+        SimulationLog.emit(SimulationEventType.INFO, "♀ Alpha Female : " + alphaManager.getAlphaFemale().getName()
                 + " (Strength: " + alphaManager.getAlphaFemale().getStrength() + ")");
 
-        System.out.println("\n----- Hierarchy Distribution -----");
+        SimulationLog.emit(SimulationEventType.INFO, "\n----- Hierarchy Distribution -----");
         for (Rank rank : Rank.values()) {
             List<Werewolf> list = hierarchy.getWerewolvesByRank(rank);
             if (!list.isEmpty()) {
-                System.out.println(rank.getSymbol() + " (" + rank.name() + ") : " + list.size() + " members");
+                SimulationLog.emit(SimulationEventType.INFO, rank.getSymbol() + " (" + rank.name() + ") : " + list.size() + " members");
             }
         }
 
-        System.out.println("══════════════════════════════════════════\n");
+        SimulationLog.emit(SimulationEventType.INFO, "══════════════════════════════════════════\n");
     }
 
     public void displayMembers() {
 
-        System.out.println("\n╔══════════════════════════════════════╗");
-        System.out.println("║         PACK MEMBERS DETAILS         ║");
-        System.out.println("╚══════════════════════════════════════╝");
+        SimulationLog.emit(SimulationEventType.INFO, "\n╔══════════════════════════════════════╗");
+        SimulationLog.emit(SimulationEventType.INFO, "║         PACK MEMBERS DETAILS         ║");
+        SimulationLog.emit(SimulationEventType.INFO, "╚══════════════════════════════════════╝");
 
         for (Rank rank : Rank.values()) {
             List<Werewolf> list = hierarchy.getWerewolvesByRank(rank);
 
             if (!list.isEmpty()) {
-                System.out.println("\n--- Rank " + rank.getSymbol() + " (" + rank.name() + ") ---");
+                SimulationLog.emit(SimulationEventType.INFO, "\n--- Rank " + rank.getSymbol() + " (" + rank.name() + ") ---");
 
                 for (Werewolf w : list) {
-                    System.out.println("• " + w.getName()
+                    SimulationLog.emit(SimulationEventType.INFO, "• " + w.getName()
                             + " | " + w.getSex()
                             + " | Strength: " + w.getStrength()
                             + " | Level: " + String.format("%.2f", w.calculateLevel())
@@ -61,6 +63,6 @@ public class PackDisplay {
             }
         }
 
-        System.out.println("══════════════════════════════════════════\n");
+        SimulationLog.emit(SimulationEventType.INFO, "══════════════════════════════════════════\n");
     }
 }
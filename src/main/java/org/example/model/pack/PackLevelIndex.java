@@ -0,0 +1,264 @@
+package org.example.model.pack;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.werewolf.AgeCategory;
+import org.example.model.character.werewolf.Werewolf;
+
+/**
+ * Keeps the members of a pack ordered by level, per sex and age category, along with the
+ * total strength of the adults.
+ * <p>
+ * Members are added and removed by the {@link HierarchyManager}. When a stat of a member
+ * changes, its {@link Werewolf} setters tell the pack, which only marks the member as stale
+ * here: the member is put back at its new place the next time the index is queried. A member
+ * whose stats change many times between two queries is therefore re-indexed once.
+ * </p>
+ * <p>
+ * When the pack is attached to {@link PopulationStatistics}, the index also reports to them the
+ * sex, age category and level of its members. A stale member keeps counting in the totals with
+ * its former values until it is put back.
+ * </p>
+ * <p>
+ * Changes are reported by the members of the owning pack only, so the index of a hierarchy
+ * without a pack reflects the stats its members had when they were added. The methods are
+ * synchronized because members fighting in different places may report changes at the same time.
+ * </p>
+ */
+final class PackLevelIndex {
+
+    /** Highest level first, then by id so that two members never compare equal */
+    private static final Comparator<Entry> BY_LEVEL = (a, b) -> {
+        int byLevel = Double.compare(b.level, a.level);
+        return byLevel != 0 ? byLevel : Integer.compare(a.werewolf.getId(), b.werewolf.getId());
+    };
+
+    // One tree per sex (plus one for members without a sex) and age category
+    private final TreeSet<Entry>[][] trees;
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final List<Entry> stale = new ArrayList<>();
+
+    private long adultStrength;
+    private int adultCount;
+    private PopulationStatistics statistics;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    PackLevelIndex() {
+        int sexes = AbstractCharacter.Sex.values().length + 1;
+        int ages = AgeCategory.values().length;
+        trees = new TreeSet[sexes][ages];
+        for (int s = 0; s < sexes; s++) {
+            for (int a = 0; a < ages; a++) {
+                trees[s][a] = new TreeSet<>(BY_LEVEL);
+            }
+        }
+    }
+
+    /**
+     * Adds a member. Does nothing if it is already indexed.
+     */
+    synchronized void add(Werewolf w) {
+        if (entries.containsKey(w.getId())) {
+            return;
+        }
+        Entry e = new Entry(w);
+        entries.put(w.getId(), e);
+        insert(e);
+    }
+
+    /**
+     * Adds several members at once. Members already indexed are skipped.
+     */
+    synchronized void addAll(List<Werewolf> werewolves) {
+        for (Werewolf w : werewolves) {
+            add(w);
+        }
+    }
+
+    /**
+     * Removes a member. Does nothing if it is not indexed.
+     */
+    synchronized void remove(Werewolf w) {
+        Entry e = entries.remove(w.getId());
+        if (e != null) {
+            if (!e.stale) {
+                tree(e.sex, e.age).remove(e);
+            }
+            account(e, -1);
+        }
+    }
+
+    /**
+     * Removes several members at once. Members not indexed are skipped.
+     */
+    synchronized void removeAll(List<Werewolf> werewolves) {
+        for (Werewolf w : werewolves) {
+            remove(w);
+        }
+    }
+
+    /**
+     * Marks a member as stale after one of its stats changed. It keeps counting in the
+     * aggregates with its former values until the next refresh.
+     */
+    synchronized void changed(Werewolf w) {
+        Entry e = entries.get(w.getId());
+        if (e != null && !e.stale) {
+            tree(e.sex, e.age).remove(e);
+            e.stale = true;
+            stale.add(e);
+        }
+    }
+
+    /**
+     * Puts the stale members back at their place and updates the aggregates.
+     */
+    synchronized void refreshAll() {
+        refresh();
+    }
+
+    /**
+     * Sets the statistics the members are counted in, moving them out of the previous ones.
+     *
+     * @param statistics The new statistics, or {@code null}.
+     */
+    synchronized void setStatistics(PopulationStatistics statistics) {
+        for (Entry e : entries.values()) {
+            if (this.statistics != null) this.statistics.indexed(e.sex, e.age, e.level, -1);
+            if (statistics != null) statistics.indexed(e.sex, e.age, e.level, 1);
+        }
+        this.statistics = statistics;
+    }
+
+    /**
+     * Gets the member with the highest level.
+     *
+     * @param sex The sex of the member.
+     * @param age The age category of the member.
+     * @return The best member, or {@code null} if there is none.
+     */
+    synchronized Werewolf best(AbstractCharacter.Sex sex, AgeCategory age) {
+        refresh();
+        TreeSet<Entry> tree = tree(sex, age);
+        return tree.isEmpty() ? null : tree.first().werewolf;
+    }
+
+    /**
+     * Gets the members of an age category whose level is strictly above a threshold,
+     * by sex and then by decreasing level.
+     *
+     * @param age   The age category.
+     * @param level The level to exceed.
+     * @return The matching members.
+     */
+    synchronized List<Werewolf> above(AgeCategory age, double level) {
+        refresh();
+        List<Werewolf> result = new ArrayList<>();
+        for (TreeSet<Entry>[] bySex : trees) {
+            for (Entry e : bySex[age.ordinal()]) {
+                if (e.level <= level) {
+                    break;
+                }
+                result.add(e.werewolf);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets all the members by decreasing level, whatever their sex and age category.
+     *
+     * @return The members.
+     */
+    synchronized List<Werewolf> ordered() {
+        refresh();
+        List<Entry> all = new ArrayList<>(entries.size());
+        for (TreeSet<Entry>[] bySex : trees) {
+            for (TreeSet<Entry> tree : bySex) {
+                all.addAll(tree);
+            }
+        }
+        all.sort(BY_LEVEL);
+        List<Werewolf> result = new ArrayList<>(all.size());
+        for (Entry e : all) {
+            result.add(e.werewolf);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the average strength of the adult members.
+     *
+     * @return The average, or 0 if there is no adult.
+     */
+    synchronized double averageAdultStrength() {
+        refresh();
+        return adultCount == 0 ? 0 : (double) adultStrength / adultCount;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void refresh() {
+        for (Entry e : stale) {
+            // Skip the members removed, and possibly added again, since they became stale
+            if (entries.get(e.werewolf.getId()) != e) {
+                continue;
+            }
+            e.stale = false;
+            account(e, -1);
+            insert(e);
+        }
+        stale.clear();
+    }
+
+    private void insert(Entry e) {
+        Werewolf w = e.werewolf;
+        e.level = w.calculateLevel();
+        e.sex = w.getSex();
+        e.age = w.getAgeCategory();
+        e.strength = w.getStrength();
+        tree(e.sex, e.age).add(e);
+        account(e, 1);
+    }
+
+    /** Adds ({@code sign} 1) or removes ({@code sign} -1) a member from the aggregates */
+    private void account(Entry e, int sign) {
+        if (e.age == AgeCategory.ADULT) {
+            adultStrength += sign * e.strength;
+            adultCount += sign;
+        }
+        if (statistics != null) {
+            statistics.indexed(e.sex, e.age, e.level, sign);
+        }
+    }
+
+    private TreeSet<Entry> tree(AbstractCharacter.Sex sex, AgeCategory age) {
+        int s = sex == null ? trees.length - 1 : sex.ordinal();
+        return trees[s][age.ordinal()];
+    }
+
+    /**
+     * A member with the values it was indexed under.
+     */
+    private static final class Entry {
+
+        private final Werewolf werewolf;
+        private double level;
+        private AbstractCharacter.Sex sex;
+        private AgeCategory age;
+        private int strength;
+        private boolean stale;
+
+        private Entry(Werewolf werewolf) {
+            this.werewolf = werewolf;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.model.pack;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.werewolf.AgeCategory;
+
+/**
+ * Population counters shared by the packs of a colony, kept up to date as members come and go.
+ * <p>
+ * A pack attached with {@link Pack#setStatistics(PopulationStatistics)} reports every member
+ * added to or removed from its hierarchy, every rank change, birth, death and departure. Every
+ * getter is therefore O(1), and may be called from any thread, even while packs are evolving
+ * in parallel. Two getters called one after the other may see the population at slightly
+ * different times.
+ * </p>
+ * <p>
+ * Counts by rank and the cumulative counters are exact. Counts by sex and age category and the
+ * average level follow the level index of each pack, which takes the stat changes of a member
+ * into account the next time it is refreshed: the colony refreshes it at the end of every season.
+ * </p>
+ */
+public class PopulationStatistics {
+
+    private final AtomicInteger population = new AtomicInteger();
+    private final AtomicIntegerArray byRank = new AtomicIntegerArray(Rank.values().length);
+    // One more slot for the members without a sex
+    private final AtomicIntegerArray bySex = new AtomicIntegerArray(AbstractCharacter.Sex.values().length + 1);
+    private final AtomicIntegerArray byAge = new AtomicIntegerArray(AgeCategory.values().length);
+    private final AtomicInteger indexed = new AtomicInteger();
+    private final DoubleAdder levelSum = new DoubleAdder();
+    private final LongAdder births = new LongAdder();
+    private final LongAdder deaths = new LongAdder();
+    private final LongAdder departures = new LongAdder();
+
+    /**
+     * Gets the number of members of all the attached packs.
+     */
+    public int getPopulation() {
+        return population.get();
+    }
+
+    /**
+     * Gets the number of members holding a rank.
+     */
+    public int getCount(Rank rank) {
+        return byRank.get(rank.ordinal());
+    }
+
+    /**
+     * Gets the number of members of a sex, or without a sex if {@code sex} is {@code null}.
+     */
+    public int getCount(AbstractCharacter.Sex sex) {
+        return bySex.get(sexSlot(sex));
+    }
+
+    /**
+     * Gets the number of members of an age category.
+     */
+    public int getCount(AgeCategory age) {
+        return byAge.get(age.ordinal());
+    }
+
+    /**
+     * Gets the average level of the members.
+     *
+     * @return The average, or 0 if there is no member.
+     */
+    public double getAverageLevel() {
+        int count = indexed.get();
+        return count == 0 ? 0 : levelSum.sum() / count;
+    }
+
+    /** Gets the number of cubs born since the statistics were created. */
+    public long getBirths() {
+        return births.sum();
+    }
+
+    /** Gets the number of members who died since the statistics were created. */
+    public long getDeaths() {
+        return deaths.sum();
+    }
+
+    /** Gets the number of members who left their pack since the statistics were created. */
+    public long getDepartures() {
+        return departures.sum();
+    }
+
+    void populationChanged(int delta) {
+        population.addAndGet(delta);
+    }
+
+    /**
+     * Moves a member from a rank to another. Either may be {@code null} for no rank.
+     */
+    void rankChanged(Rank previous, Rank current) {
+        if (previous != null) byRank.decrementAndGet(previous.ordinal());
+        if (current != null) byRank.incrementAndGet(current.ordinal());
+    }
+
+    /**
+     * Adds {@code delta} members to the count of a rank.
+     */
+    void rankCountChanged(Rank rank, int delta) {
+        byRank.addAndGet(rank.ordinal(), delta);
+    }
+
+    /**
+     * Counts or uncounts, depending on {@code sign}, a member with the values it was indexed under.
+     */
+    void indexed(AbstractCharacter.Sex sex, AgeCategory age, double level, int sign) {
+        bySex.addAndGet(sexSlot(sex), sign);
+        byAge.addAndGet(age.ordinal(), sign);
+        indexed.addAndGet(sign);
+        levelSum.add(sign * level);
+    }
+
+    void recordBirths(int count) {
+        births.add(count);
+    }
+
+    void recordDeath() {
+        deaths.increment();
+    }
+
+    void recordDeparture() {
+        departures.increment();
+    }
+
+    private static int sexSlot(AbstractCharacter.Sex sex) {
+        return sex == null ? AbstractCharacter.Sex.values().length : sex.ordinal();
+    }
+}
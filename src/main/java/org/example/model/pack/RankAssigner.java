@@ -1,8 +1,12 @@
 package org.example.model.pack;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 import org.example.model.character.AbstractCharacter;
 import org.example.model.character.werewolf.AgeCategory;
@@ -12,11 +16,33 @@ import org.example.model.character.werewolf.Werewolf;
  * The {@code RankAssigner} class is responsible for assigning ranks within a werewolf pack hierarchy.
  * It sorts werewolves into different ranks based on their sex, age category, and overall level,
  * while ensuring that the alpha werewolves (both male and female) remain at the top of the hierarchy.
+ * <p>
+ * The level of each werewolf is computed once per assignment and used as its sort key. The
+ * assigner remembers the order of its last assignment and the levels the werewolves had once
+ * ranked, so that {@link #updateHierarchy(List, Werewolf, Werewolf)} only sorts again the
+ * werewolves whose level changed since then and only moves those whose rank is no longer the
+ * right one.
+ * </p>
  */
 public class RankAssigner {
 
+    private static final Rank[] ADULT_RANKS = {Rank.BETA, Rank.GAMMA, Rank.DELTA, Rank.EPSILON};
+
+    /** Highest sort key first, then in the order of the given werewolves, as a stable sort would */
+    private static final Comparator<Ranked> BY_LEVEL = (a, b) -> {
+        int byKey = Double.compare(b.key, a.key);
+        return byKey != 0 ? byKey : Integer.compare(a.order, b.order);
+    };
+
     private final HierarchyManager hierarchy;
 
+    // Order of the last assignment, best first, and the alphas it was made for
+    private List<Ranked> males = new ArrayList<>();
+    private List<Ranked> females = new ArrayList<>();
+    private Werewolf rankedAlphaMale;
+    private Werewolf rankedAlphaFemale;
+    private boolean assigned;
+
     /**
      * Constructs a {@code RankAssigner} instance with the given {@code HierarchyManager}.
      *
@@ -41,91 +67,201 @@ public class RankAssigner {
         hierarchy.retainOnlyAlphas(alphaMale, alphaFemale);
 
         // Filter adult males and females, and sort them by level
-        List<Werewolf> adultMales = filterAdults(werewolves, AbstractCharacter.Sex.MALE, alphaMale);
-        List<Werewolf> adultFemales = filterAdults(werewolves, AbstractCharacter.Sex.FEMALE, alphaFemale);
-        List<Werewolf> young = werewolves.stream()
-                .filter(w -> w.getAgeCategory() == AgeCategory.YOUNG)
-                .collect(Collectors.toList());
+        males = sortByLevel(filterAdults(werewolves, AbstractCharacter.Sex.MALE, alphaMale));
+        females = sortByLevel(filterAdults(werewolves, AbstractCharacter.Sex.FEMALE, alphaFemale));
 
         // Assign ranks to adult males, adult females, and young werewolves
-        assignRanks(adultMales);
-        assignRanks(adultFemales);
+        assignRanks(males);
+        assignRanks(females);
 
         // All young werewolves are assigned the Gamma rank
-        young.forEach(w -> hierarchy.addMember(w, Rank.GAMMA));
+        for (Werewolf w : werewolves) {
+            if (w.getAgeCategory() == AgeCategory.YOUNG) {
+                hierarchy.addMember(w, Rank.GAMMA);
+            }
+        }
+
+        rankedAlphaMale = alphaMale;
+        rankedAlphaFemale = alphaFemale;
+        assigned = true;
+    }
+
+    /**
+     * Brings the hierarchy up to date with the given werewolves, reusing the last assignment.
+     * <p>
+     * The result is the one {@link #createHierarchy(List, Werewolf, Werewolf)} would give. Only the
+     * werewolves whose level changed, or which are new, are sorted from scratch; the others start
+     * from their previous order, which is almost sorted already. Only the werewolves whose rank
+     * differs from the expected one are moved. Falls back to a full rebuild when nothing was
+     * assigned yet or when the alphas changed.
+     * </p>
+     *
+     * @param werewolves  The list of werewolves to be ranked.
+     * @param alphaMale   The male alpha werewolf.
+     * @param alphaFemale The female alpha werewolf.
+     */
+    public void updateHierarchy(List<Werewolf> werewolves, Werewolf alphaMale, Werewolf alphaFemale) {
+        if (!assigned || alphaMale != rankedAlphaMale || alphaFemale != rankedAlphaFemale) {
+            createHierarchy(werewolves, alphaMale, alphaFemale);
+            return;
+        }
+
+        males = rerank(males, filterAdults(werewolves, AbstractCharacter.Sex.MALE, alphaMale));
+        females = rerank(females, filterAdults(werewolves, AbstractCharacter.Sex.FEMALE, alphaFemale));
+
+        Set<Integer> placed = new HashSet<>();
+        placed.add(alphaMale.getId());
+        placed.add(alphaFemale.getId());
+        assignRanks(males);
+        assignRanks(females);
+        males.forEach(r -> placed.add(r.werewolf.getId()));
+        females.forEach(r -> placed.add(r.werewolf.getId()));
+
+        for (Werewolf w : werewolves) {
+            if (w.getAgeCategory() == AgeCategory.YOUNG) {
+                if (hierarchy.getRankOf(w) != Rank.GAMMA) {
+                    hierarchy.addMember(w, Rank.GAMMA);
+                }
+                placed.add(w.getId());
+            }
+        }
+
+        // Same as a full rebuild: members that were not ranked leave the pack
+        for (Werewolf w : new ArrayList<>(hierarchy.getMembers())) {
+            if (!placed.contains(w.getId())) {
+                hierarchy.removeMember(w);
+            }
+        }
     }
 
     /**
      * Filters and returns the list of adult werewolves of the specified sex, excluding the alpha.
-     * The werewolves are sorted in descending order based on their level.
      *
      * @param list The list of werewolves to filter.
      * @param sex The sex to filter by (male or female).
      * @param alpha The alpha werewolf to exclude from the list.
-     * @return A sorted list of adult werewolves of the specified sex, excluding the alpha.
+     * @return The adult werewolves of the specified sex, excluding the alpha, in list order.
      */
     private List<Werewolf> filterAdults(List<Werewolf> list, AbstractCharacter.Sex sex, Werewolf alpha) {
-        List<Werewolf> filteredList = new ArrayList<>(); // This will store the filtered werewolves.
-
-        // Step 1: Filter the werewolves manually by iterating over the list.
+        List<Werewolf> filteredList = new ArrayList<>();
         for (Werewolf w : list) {
             // Exclude the alpha werewolf, check sex, and age category.
             if (w != alpha && w.getSex() == sex && w.getAgeCategory() == AgeCategory.ADULT) {
-                filteredList.add(w); // Add the werewolf to the filtered list if it matches criteria.
+                filteredList.add(w);
             }
         }
+        return filteredList;
+    }
 
-        // Step 2: Selection Sort to sort by calculated level in descending order
-        for (int i = 0; i < filteredList.size() - 1; i++) {
-            // Find the index of the werewolf with the maximum level in the unsorted part
-            int maxIndex = i;
+    /**
+     * Sorts werewolves in descending order of level. Each level is computed once.
+     *
+     * @param group The werewolves to sort.
+     * @return The sorted entries.
+     */
+    private List<Ranked> sortByLevel(List<Werewolf> group) {
+        List<Ranked> sorted = new ArrayList<>(group.size());
+        for (int i = 0; i < group.size(); i++) {
+            Werewolf w = group.get(i);
+            sorted.add(new Ranked(w, w.calculateLevel(), i));
+        }
+        sorted.sort(BY_LEVEL);
+        return sorted;
+    }
 
-            for (int j = i + 1; j < filteredList.size(); j++) {
-                Werewolf current = filteredList.get(maxIndex);
-                Werewolf next = filteredList.get(j);
+    /**
+     * Rebuilds the order of a group from its previous order.
+     * <p>
+     * Every werewolf is sorted on its current level, as {@link #sortByLevel(List)} would. Previous
+     * entries still in the group whose level did not change since they were ranked are taken in
+     * their previous order and keyed on that level: the order was made on the levels before the
+     * ranks were given, so it may need a few fixes, which the adaptive sort does in about one
+     * pass. The other werewolves are sorted from scratch, and both lists are merged.
+     * </p>
+     *
+     * @param previous The order of the last assignment.
+     * @param group    The current werewolves of the group.
+     * @return The new order.
+     */
+    private List<Ranked> rerank(List<Ranked> previous, List<Werewolf> group) {
+        Map<Integer, Integer> orderById = new HashMap<>(group.size() * 2);
+        for (int i = 0; i < group.size(); i++) {
+            orderById.put(group.get(i).getId(), i);
+        }
 
-                // If the next werewolf has a higher level, update maxIndex
-                if (next.calculateLevel() > current.calculateLevel()) {
-                    maxIndex = j; // Update maxIndex to the index of the werewolf with the higher level
-                }
+        List<Ranked> kept = new ArrayList<>(group.size());
+        Set<Integer> keptIds = new HashSet<>();
+        for (Ranked r : previous) {
+            Integer order = orderById.get(r.werewolf.getId());
+            if (order != null && group.get(order) == r.werewolf && r.werewolf.calculateLevel() == r.settled) {
+                r.key = r.settled;
+                r.order = order;
+                kept.add(r);
+                keptIds.add(r.werewolf.getId());
             }
+        }
+        kept.sort(BY_LEVEL);
 
-            // If the maximum level is not at the current position, swap the werewolves
-            if (maxIndex != i) {
-                Werewolf temp = filteredList.get(i);
-                filteredList.set(i, filteredList.get(maxIndex));
-                filteredList.set(maxIndex, temp);
+        List<Ranked> moved = new ArrayList<>();
+        for (int i = 0; i < group.size(); i++) {
+            Werewolf w = group.get(i);
+            if (!keptIds.contains(w.getId())) {
+                moved.add(new Ranked(w, w.calculateLevel(), i));
             }
         }
+        moved.sort(BY_LEVEL);
 
-        // Return the sorted list
-        return filteredList;
+        // Merge two lists already sorted the same way
+        List<Ranked> merged = new ArrayList<>(kept.size() + moved.size());
+        int i = 0;
+        int j = 0;
+        while (i < kept.size() || j < moved.size()) {
+            if (j == moved.size() || (i < kept.size() && BY_LEVEL.compare(kept.get(i), moved.get(j)) < 0)) {
+                merged.add(kept.get(i++));
+            } else {
+                merged.add(moved.get(j++));
+            }
+        }
+        return merged;
     }
 
     /**
      * Assigns ranks to a list of werewolves based on their level. The ranks are assigned in the following order:
      * {@code BETA}, {@code GAMMA}, {@code DELTA}, {@code EPSILON}. The werewolves are divided equally
-     * among the ranks as much as possible.
+     * among the ranks as much as possible. Werewolves already holding the right rank are left alone.
      *
-     * @param group The list of werewolves to assign ranks to.
+     * @param group The werewolves to assign ranks to, best first.
      */
-    private void assignRanks(List<Werewolf> group) {
-        Rank[] ranks = {Rank.BETA, Rank.GAMMA, Rank.DELTA, Rank.EPSILON};
-        int perRank = Math.max(1, group.size() / ranks.length);
-
-        int index = 0;
-        int count = 0;
-
-        // Assign ranks to each werewolf in the group
-        for (Werewolf w : group) {
-            hierarchy.addMember(w, ranks[index]);
-            count++;
-
-            // Move to the next rank when the current rank is filled
-            if (count >= perRank && index < ranks.length - 1) {
-                index++;
-                count = 0;
+    private void assignRanks(List<Ranked> group) {
+        int perRank = Math.max(1, group.size() / ADULT_RANKS.length);
+
+        for (int i = 0; i < group.size(); i++) {
+            Ranked r = group.get(i);
+            Rank rank = ADULT_RANKS[Math.min(i / perRank, ADULT_RANKS.length - 1)];
+            if (hierarchy.getRankOf(r.werewolf) != rank) {
+                hierarchy.addMember(r.werewolf, rank);
+                r.settled = r.werewolf.calculateLevel();
+            } else if (Double.isNaN(r.settled)) {
+                r.settled = r.werewolf.calculateLevel();
             }
         }
     }
+
+    /**
+     * A werewolf with its sort key, its position among the given werewolves, and its level once
+     * ranked, which depends on its rank.
+     */
+    private static final class Ranked {
+
+        private final Werewolf werewolf;
+        private double key;
+        private int order;
+        private double settled = Double.NaN;
+
+        private Ranked(Werewolf werewolf, double key, int order) {
+            this.werewolf = werewolf;
+            this.key = key;
+            this.order = order;
+        }
+    }
 }
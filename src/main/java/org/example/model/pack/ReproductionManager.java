@@ -3,34 +3,56 @@ package org.example.model.pack;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import org.example.model.character.AbstractCharacter;
-import org.example.model.character.werewolf.AgeCategory;
 import org.example.model.character.werewolf.Werewolf;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
+import org.example.model.random.SimulationRandom;
 
 public class ReproductionManager {
 
     private static final int MIN_LITTER_SIZE = 1;
     private static final int MAX_LITTER_SIZE = 7;
-    private static final Random RANDOM = new Random();
     private static final List<String> CUB_NAMES = Arrays.asList(
             "Lupa", "Fenris", "Skoll", "Hati", "Geri", "Freki", "Amarok", "Raksha", "Akela",
             "Timber", "Shadow", "Ghost", "Nyx", "Luna", "Sol"
     );
 
     private final HierarchyManager hierarchy;
+    private final SplittableRandom random;
+
+    // Reused to build the names of the cubs
+    private final StringBuilder nameBuffer = new StringBuilder();
+    private int cubsBorn;
 
     public ReproductionManager(HierarchyManager hierarchy) {
+        this(hierarchy, SimulationRandom.split());
+    }
+
+    public ReproductionManager(HierarchyManager hierarchy, SplittableRandom random) {
         this.hierarchy = hierarchy;
+        this.random = random;
     }
 
+    /**
+     * Makes the alpha couple give birth to a litter of 1 to 7 cubs.
+     * <p>
+     * The cubs are built in a single pass and added to the hierarchy together, with the rank
+     * BETA if the pack has none yet, GAMMA otherwise.
+     * </p>
+     *
+     * @return The newborn cubs.
+     */
     public List<Werewolf> reproduce() {
-        int litterSize = RANDOM.nextInt(MAX_LITTER_SIZE - MIN_LITTER_SIZE + 1) + MIN_LITTER_SIZE;
+        int litterSize = random.nextInt(MAX_LITTER_SIZE - MIN_LITTER_SIZE + 1) + MIN_LITTER_SIZE;
 
-        System.out.println("🐺 The alpha couple is reproducing! Litter size: " + litterSize);
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.COLONY, "🐺 The alpha couple is reproducing! Litter size: " + litterSize);
+        }
 
-        List<Werewolf> cubs = new ArrayList<>();
+        List<Werewolf> cubs = new ArrayList<>(litterSize);
 
         // If no BETA yet → cubs are BETA, else GAMMA
         Rank cubRank = hierarchy.getWerewolvesByRank(Rank.BETA).isEmpty()
@@ -38,25 +60,37 @@ public class ReproductionManager {
                 : Rank.GAMMA;
 
         for (int i = 0; i < litterSize; i++) {
-            String name = CUB_NAMES.get(RANDOM.nextInt(CUB_NAMES.size()));
-            Werewolf cub = new Werewolf(name + " (Cub)");
-
-            // Assign random characteristics
-            cub.setAge(0);
-            cub.setAgeCategory(AgeCategory.YOUNG);
-            cub.setSex(RANDOM.nextBoolean() ? AbstractCharacter.Sex.MALE : AbstractCharacter.Sex.FEMALE);
-            cub.setStrength(10 + RANDOM.nextInt(20));
-            cub.setStamina(5 + RANDOM.nextInt(15));
-            cub.setHealth(100);
-            cub.setHunger(50);
-
-            hierarchy.addMember(cub, cubRank);
-            cubs.add(cub);
+            String baseName = CUB_NAMES.get(random.nextInt(CUB_NAMES.size()));
+            AbstractCharacter.Sex sex = random.nextBoolean() ? AbstractCharacter.Sex.MALE : AbstractCharacter.Sex.FEMALE;
+            int strength = 10 + random.nextInt(20);
+            int stamina = 5 + random.nextInt(15);
+            cubs.add(Werewolf.newborn(nextCubName(baseName), sex, strength, stamina));
         }
 
-        System.out.println("🐾 " + litterSize + " cubs have been born and assigned rank "
-                + cubRank.getSymbol() + "!");
+        hierarchy.addMembers(cubs, cubRank);
+        for (Werewolf cub : cubs) {
+            SimulationLog.publish(SimulationEventType.BIRTH, cub, null, null, cubRank.name(), 0, 0);
+        }
+
+        PopulationStatistics statistics = hierarchy.getStatistics();
+        if (statistics != null) {
+            statistics.recordBirths(litterSize);
+        }
+
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.COLONY, "🐾 " + litterSize + " cubs have been born and assigned rank "
+                    + cubRank.getSymbol() + "!");
+        }
 
         return cubs;
     }
+
+    /**
+     * Builds a name unique within the pack, made of a name from the list and the number of
+     * the cub among all the cubs born in the pack.
+     */
+    private String nextCubName(String baseName) {
+        nameBuffer.setLength(0);
+        return nameBuffer.append(baseName).append(' ').append(++cubsBorn).append(" (Cub)").toString();
+    }
 }
@@ -1,9 +1,18 @@
 package org.example.model.places;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.random.RandomGenerator;
 
 import org.example.model.character.AbstractCharacter;
+import org.example.model.character.CharacterRoster;
+import org.example.model.character.CharacterStore;
+import org.example.model.clanLeader.ClanLeader;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 import org.example.model.food.FoodItem;
+import org.example.model.registry.EntityRegistry;
 
 /**
  * Abstract base class representing a place that can contain characters and food items.
@@ -14,8 +23,19 @@ public abstract sealed class AbstractPlace permits Battlefield, Enclosure, Galli
     private String name;
     private int surface;
     private String clanChief; // null for battlefields
-    private ArrayList<AbstractCharacter> presentCharacters;
+    private ClanLeader clanLeader; // the leader managing this place, if any
+    private CharacterRoster<AbstractCharacter> presentCharacters; // indexed by character id
+    private CharacterStore characterStore; // columnar stats of the characters entering, if any
     private ArrayList<FoodItem> presentFoods;
+    private final Faction faction = new Faction(this); // the characters coming from this place
+
+    // Read-only views over the lists above, created once
+    private final List<AbstractCharacter> charactersView;
+    private final List<FoodItem> foodsView;
+
+    // Immutable copies shared by all callers until the next modification (null when outdated)
+    private List<AbstractCharacter> charactersSnapshot;
+    private List<FoodItem> foodsSnapshot;
 
     /**
      * Constructor for places with a clan chief
@@ -32,8 +52,13 @@ public abstract sealed class AbstractPlace permits Battlefield, Enclosure, Galli
         this.name = name;
         this.surface = surface;
         this.clanChief = clanChief;
-        this.presentCharacters = presentCharacters != null ? new ArrayList<>(presentCharacters) : new ArrayList<>();
-        this.presentFoods = presentFoods != null ? presentFoods : new ArrayList<>();
+        this.presentCharacters = presentCharacters != null ? new CharacterRoster<>(presentCharacters) : new CharacterRoster<>();
+        this.presentFoods = presentFoods != null ? new ArrayList<>(presentFoods) : new ArrayList<>();
+        this.charactersView = this.presentCharacters.asList();
+        for (AbstractCharacter character : this.presentCharacters) {
+            EntityRegistry.enterPlace(character, this);
+        }
+        this.foodsView = Collections.unmodifiableList(this.presentFoods);
         
         // Note: Initial character validation is deferred to avoid throwing exceptions in constructor
         // Characters added after construction will be validated via addCharacter()
@@ -61,13 +86,36 @@ public abstract sealed class AbstractPlace permits Battlefield, Enclosure, Galli
     protected abstract boolean canContainCharacter(AbstractCharacter character);
 
     /**
-     * Validates and adds a character to this place
+     * Validates and adds a character to this place.
+     * Adding a character that is already present has no effect.
      * @param character The character to add
      * @throws IllegalArgumentException if character is null or not allowed
      */
     public void addCharacter(AbstractCharacter character) {
         validateCharacter(character);
-        presentCharacters.add(character);
+        if (presentCharacters.add(character)) {
+            charactersSnapshot = null;
+            EntityRegistry.enterPlace(character, this);
+            if (characterStore != null) {
+                characterStore.attach(character);
+            }
+            characterEntered(character);
+        }
+    }
+
+    /**
+     * Called after a character entered this place, for places that index their characters.
+     * Not called for the characters given to the constructor.
+     * @param character The character that entered
+     */
+    protected void characterEntered(AbstractCharacter character) {
+    }
+
+    /**
+     * Called after a character left this place.
+     * @param character The character that left
+     */
+    protected void characterLeft(AbstractCharacter character) {
     }
 
     /**
@@ -91,8 +139,14 @@ public abstract sealed class AbstractPlace permits Battlefield, Enclosure, Galli
      */
     public void deleteCharacter(AbstractCharacter character) {
         boolean removed = presentCharacters.remove(character);
-        if (!removed) {
-            System.out.println("⚠️ Warning: Character " + (character != null ? character.getName() : "null") + " was not found in place " + this.getName() + " and could not be removed.");
+        if (removed) {
+            charactersSnapshot = null;
+            EntityRegistry.leavePlace(character, this);
+            characterLeft(character);
+        } else {
+            if (SimulationLog.isEnabled()) {
+                SimulationLog.emit(SimulationEventType.WARNING, "⚠️ Warning: Character " + (character != null ? character.getName() : "null") + " was not found in place " + this.getName() + " and could not be removed.");
+            }
         }
     }
 
@@ -114,7 +168,7 @@ public abstract sealed class AbstractPlace permits Battlefield, Enclosure, Galli
     public void feedCharacter(AbstractCharacter character, FoodItem food) {
         if (presentCharacters.contains(character) && presentFoods.contains(food)) {
             character.eatFood(food);
-            presentFoods.remove(food);
+            removeFood(food);
         }
     }
 
@@ -131,25 +185,25 @@ public abstract sealed class AbstractPlace permits Battlefield, Enclosure, Galli
      * Displays all characteristics of this place, including characters and food
      */
     public void displayCharacteristics() {
-        System.out.println("=== " + name + " ===");
-        System.out.println("Type: " + type);
-        System.out.println("Surface: " + surface + " m²");
+        SimulationLog.emit(SimulationEventType.INFO, "=== " + name + " ===");
+        SimulationLog.emit(SimulationEventType.INFO, "Type: " + type);
+        SimulationLog.emit(SimulationEventType.INFO, "Surface: " + surface + " m²");
         if (clanChief != null) {
-            System.out.println("Clan Chief: " + clanChief);
+            SimulationLog.emit(SimulationEventType.INFO, "Clan Chief: " + clanChief);
         }
-        System.out.println("Number of characters present: " + getNumberPresentCharacters());
+        SimulationLog.emit(SimulationEventType.INFO, "Number of characters present: " + getNumberPresentCharacters());
 
-        System.out.println("\n--- Characters ---");
+        SimulationLog.emit(SimulationEventType.INFO, "\n--- Characters ---");
         for (AbstractCharacter character : presentCharacters) {
-            System.out.println(character.toString());
+            SimulationLog.emit(SimulationEventType.INFO, character.toString());
         }
 
-        System.out.println("\n--- Food Items ---");
-        System.out.println("Number of food items: " + getNumberPresentFoods());
+        SimulationLog.emit(SimulationEventType.INFO, "\n--- Food Items ---");
+        SimulationLog.emit(SimulationEventType.INFO, "Number of food items: " + getNumberPresentFoods());
         for (FoodItem food : presentFoods) {
-            System.out.println("- " + food.toString());
+            SimulationLog.emit(SimulationEventType.INFO, "- " + food.toString());
         }
-        System.out.println("==================\n");
+        SimulationLog.emit(SimulationEventType.INFO, "==================\n");
     }
 
     // Getters
@@ -169,22 +223,213 @@ public abstract sealed class AbstractPlace permits Battlefield, Enclosure, Galli
         return clanChief;
     }
 
+    /**
+     * Gets the clan leader managing this place
+     * @return The clan leader, or null if the place has none
+     */
+    public ClanLeader getClanLeader() {
+        return clanLeader;
+    }
+
+    /**
+     * Gets the faction of the characters whose place of origin is this place
+     * @return The faction, always the same one
+     */
+    public Faction getFaction() {
+        return faction;
+    }
+
+    /**
+     * Gets the columnar store the characters of this place are attached to
+     * @return The store, or null if the characters keep their stats themselves
+     */
+    public CharacterStore getCharacterStore() {
+        return characterStore;
+    }
+
+    /**
+     * Attaches the present characters, and every character entering later, to a columnar store.
+     * Characters already attached stay in the store when they leave the place: the theater
+     * detaches them when they leave it for good.
+     * @param characterStore The store, or null to stop attaching newcomers
+     */
+    public void setCharacterStore(CharacterStore characterStore) {
+        this.characterStore = characterStore;
+        if (characterStore != null) {
+            for (AbstractCharacter character : presentCharacters) {
+                characterStore.attach(character);
+            }
+        }
+    }
+
     public int getNumberPresentCharacters() {
         return presentCharacters.size();
     }
 
+    /**
+     * Gets a modifiable copy of the characters present in this place.
+     * Prefer {@link #getCharactersView()} or {@link #snapshotCharacters()} in loops.
+     * @return A new list of the present characters
+     */
     public ArrayList<AbstractCharacter> getPresentCharacters() {
-        return new ArrayList<>(presentCharacters); // Return a copy for encapsulation
+        return new ArrayList<>(charactersView); // Return a copy for encapsulation
+    }
+
+    /**
+     * Gets a read-only live view of the characters present in this place.
+     * <p>
+     * No copy is made: the view reflects later additions and removals, so it must
+     * not be iterated while the place itself is being modified. Use
+     * {@link #snapshotCharacters()} in that case.
+     * </p>
+     * @return An unmodifiable view of the present characters
+     */
+    public List<AbstractCharacter> getCharactersView() {
+        return charactersView;
+    }
+
+    /**
+     * Gets an immutable copy of the characters present in this place.
+     * <p>
+     * The copy is only rebuilt after the place has changed: successive calls
+     * without modification in between return the same list. It stays valid, and
+     * safe to iterate, whatever happens to the place afterwards.
+     * </p>
+     * @return An immutable list of the present characters
+     */
+    public List<AbstractCharacter> snapshotCharacters() {
+        List<AbstractCharacter> snapshot = charactersSnapshot;
+        if (snapshot == null) {
+            snapshot = presentCharacters.toList();
+            charactersSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Checks whether a character is present in this place
+     * @param character The character to look for
+     * @return true if the character is present
+     */
+    public boolean containsCharacter(AbstractCharacter character) {
+        return presentCharacters.contains(character);
+    }
+
+    /**
+     * Counts the characters of this place that are still alive
+     * @return The number of living characters
+     */
+    public int countAlive() {
+        int count = 0;
+        for (AbstractCharacter character : presentCharacters) {
+            if (character.isAlive()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the characters of this place that are instances of a given type
+     * @param characterType The type to count (e.g. Gallic.class, Druid.class)
+     * @return The number of matching characters
+     */
+    public int countCharactersOfType(Class<? extends AbstractCharacter> characterType) {
+        int count = 0;
+        for (AbstractCharacter character : presentCharacters) {
+            if (characterType.isInstance(character)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the characters of this place that are instances of a given type
+     * @param characterType The type to keep (e.g. Gallic.class, Druid.class)
+     * @param <T> The character type
+     * @return A new list of the matching characters, in presence order
+     */
+    public <T extends AbstractCharacter> List<T> getCharactersOfType(Class<T> characterType) {
+        List<T> result = new ArrayList<>();
+        for (AbstractCharacter character : presentCharacters) {
+            if (characterType.isInstance(character)) {
+                result.add(characterType.cast(character));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the first character of this place that is an instance of a given type
+     * @param characterType The type to look for
+     * @param <T> The character type
+     * @return The first matching character, or null if there is none
+     */
+    public <T extends AbstractCharacter> T findFirstOfType(Class<T> characterType) {
+        for (AbstractCharacter character : presentCharacters) {
+            if (characterType.isInstance(character)) {
+                return characterType.cast(character);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Picks a random character present in this place, without copying the list
+     * @param random The random generator to use
+     * @return A random character, or null if the place is empty
+     */
+    public AbstractCharacter randomCharacter(RandomGenerator random) {
+        return presentCharacters.random(random);
     }
 
     public int getNumberPresentFoods() {
         return presentFoods.size();
     }
 
+    /**
+     * Gets a modifiable copy of the food items present in this place.
+     * Prefer {@link #getFoodsView()} or {@link #snapshotFoods()} in loops.
+     * @return A new list of the present food items
+     */
     public ArrayList<FoodItem> getPresentFoods() {
         return new ArrayList<>(presentFoods); // Return a copy for encapsulation
     }
 
+    /**
+     * Gets a read-only live view of the food items present in this place.
+     * It must not be iterated while food is added or removed; use
+     * {@link #snapshotFoods()} in that case.
+     * @return An unmodifiable view of the present food items
+     */
+    public List<FoodItem> getFoodsView() {
+        return foodsView;
+    }
+
+    /**
+     * Gets an immutable copy of the food items present in this place, shared
+     * between calls until the food stock changes.
+     * @return An immutable list of the present food items
+     */
+    public List<FoodItem> snapshotFoods() {
+        List<FoodItem> snapshot = foodsSnapshot;
+        if (snapshot == null) {
+            snapshot = List.copyOf(presentFoods);
+            foodsSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Checks whether a food item is present in this place
+     * @param food The food item to look for
+     * @return true if the food item is present
+     */
+    public boolean containsFood(FoodItem food) {
+        return presentFoods.contains(food);
+    }
+
     // Setters
     public void setName(String name) {
         this.name = name;
@@ -198,13 +443,24 @@ public abstract sealed class AbstractPlace permits Battlefield, Enclosure, Galli
         this.clanChief = clanChief;
     }
 
+    /**
+     * Sets the clan leader managing this place. Called by {@link ClanLeader} itself.
+     * @param clanLeader The clan leader, or null to detach it
+     */
+    public void setClanLeader(ClanLeader clanLeader) {
+        this.clanLeader = clanLeader;
+    }
+
     public void addFood(FoodItem food) {
         if (food != null) {
             presentFoods.add(food);
+            foodsSnapshot = null;
         }
     }
 
     public void removeFood(FoodItem food) {
-        presentFoods.remove(food);
+        if (presentFoods.remove(food)) {
+            foodsSnapshot = null;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,368 @@
+package org.example.model.places;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+import org.example.model.character.AbstractCharacter;
+
+/**
+ * Positions of the characters on a {@link Battlefield}, and the pairing of neighbours for fights.
+ * <p>
+ * The battlefield is a square whose area is its surface. It is cut into cells as wide as the
+ * engagement range: two characters are neighbours when they stand in the same cell or in two
+ * adjacent ones. A character gets a random position the first time it is seen, then wanders a
+ * few steps at every turn.
+ * </p>
+ * <p>
+ * Pairing uses a spatial hash: the occupied cells are put in an open-addressing table sized
+ * after the number of characters, not the surface, each one with the list of its occupants.
+ * Occupants of a cell are paired at random, then the odd ones out are paired with the odd ones
+ * of the neighbouring cells. A turn is therefore O(n) however large the field is, and the number
+ * of fights grows with the number of characters and their density. The work arrays are kept
+ * from one turn to the next.
+ * </p>
+ * <p>
+ * When the characters belong to sides, only enemies are paired: the occupants of a cell are
+ * grouped by side and occupant {@code i} is paired with occupant {@code i + size/2}, which always
+ * belongs to another side unless one side holds the majority of the cell. The members of such a
+ * majority left without an enemy look for one in the neighbouring cells.
+ * </p>
+ */
+public final class BattleGrid {
+
+    /** Width of a cell, which is also the distance at which two characters can fight */
+    public static final int ENGAGEMENT_RANGE = 10;
+    /** Largest move of a character along each axis during a turn */
+    private static final int STEP = ENGAGEMENT_RANGE / 2;
+    private static final int EMPTY = -1;
+
+    private final int side;
+    private final int cellsPerSide;
+    private final Map<Integer, Position> positions = new HashMap<>();
+    private int turn;
+
+    // Work arrays, reused between turns
+    private AbstractCharacter[] members = new AbstractCharacter[0];
+    private int[] memberCell = new int[0];
+    private int[] next = new int[0];
+    private int[] bucket = new int[0];
+    private int[] slotKey = new int[0];
+    private int[] slotHead = new int[0];
+    private int[] slotLeftover = new int[0];
+    private int[] memberSide = new int[0];
+    private int[] sorted = new int[0];
+    private long[] sortKeys = new long[0];
+
+    /**
+     * Creates the grid of a battlefield.
+     * @param surface The surface of the battlefield.
+     */
+    public BattleGrid(int surface) {
+        this.side = Math.max(1, (int) Math.ceil(Math.sqrt(Math.max(1, surface))));
+        this.cellsPerSide = (side + ENGAGEMENT_RANGE - 1) / ENGAGEMENT_RANGE;
+    }
+
+    /**
+     * Gets the number of cells along a side of the battlefield.
+     * @return The number of cells.
+     */
+    public int getCellsPerSide() {
+        return cellsPerSide;
+    }
+
+    /**
+     * Gets the number of characters with a position.
+     * @return The number of positions.
+     */
+    public int size() {
+        return positions.size();
+    }
+
+    /**
+     * Gets the cell of a character, as {@code row * cellsPerSide + column}.
+     * @param character The character.
+     * @return The cell, or -1 if the character has no position yet.
+     */
+    public int cellOf(AbstractCharacter character) {
+        Position p = positions.get(character.getId());
+        return p == null ? EMPTY : cell(p);
+    }
+
+    /**
+     * Places a character in a cell, at its centre. Mostly meant for tests and scenarios.
+     * @param character The character.
+     * @param column The column of the cell.
+     * @param row The row of the cell.
+     */
+    public void place(AbstractCharacter character, int column, int row) {
+        Position p = positions.computeIfAbsent(character.getId(), id -> new Position());
+        p.x = Math.min(side - 1, column * ENGAGEMENT_RANGE + ENGAGEMENT_RANGE / 2);
+        p.y = Math.min(side - 1, row * ENGAGEMENT_RANGE + ENGAGEMENT_RANGE / 2);
+        p.placed = true;
+    }
+
+    /**
+     * Moves the living characters, then pairs each of them with at most one neighbour.
+     * Characters without a position get a random one; positions of the characters no longer
+     * present are forgotten.
+     *
+     * @param characters The characters present on the battlefield.
+     * @param random The source of randomness.
+     * @return The pairs, as consecutive elements: 0 with 1, 2 with 3, and so on.
+     */
+    public AbstractCharacter[] pairNeighbors(List<? extends AbstractCharacter> characters, RandomGenerator random) {
+        return pairNeighbors(characters, null, random);
+    }
+
+    /**
+     * Moves the living characters, then pairs each of them with at most one neighbour of another side.
+     * Characters without a position get a random one; positions of the characters no longer
+     * present are forgotten.
+     *
+     * @param characters The characters present on the battlefield.
+     * @param sideOf The side of a character, such as its {@link Faction}, compared by identity;
+     *               null if anybody may fight anybody.
+     * @param random The source of randomness.
+     * @return The pairs, as consecutive elements: 0 with 1, 2 with 3, and so on.
+     */
+    public AbstractCharacter[] pairNeighbors(List<? extends AbstractCharacter> characters,
+                                             Function<? super AbstractCharacter, ?> sideOf, RandomGenerator random) {
+        turn++;
+        int n = 0;
+        ensureCapacity(characters.size());
+        Map<Object, Integer> sides = sideOf != null ? new IdentityHashMap<>() : null;
+        Object lastSide = null;
+        int lastSideId = EMPTY;
+        for (AbstractCharacter c : characters) {
+            if (!c.isAlive()) {
+                continue;
+            }
+            Position p = positions.get(c.getId());
+            if (p == null) {
+                p = new Position();
+                p.x = random.nextInt(side);
+                p.y = random.nextInt(side);
+                positions.put(c.getId(), p);
+            } else if (p.placed) {
+                p.placed = false;
+            } else {
+                p.x = clamp(p.x + random.nextInt(2 * STEP + 1) - STEP);
+                p.y = clamp(p.y + random.nextInt(2 * STEP + 1) - STEP);
+            }
+            p.turn = turn;
+            members[n] = c;
+            memberCell[n] = cell(p);
+            if (sides == null) {
+                memberSide[n] = n;
+            } else {
+                Object s = sideOf.apply(c);
+                if (s != lastSide || lastSideId == EMPTY) {
+                    lastSide = s;
+                    lastSideId = sides.computeIfAbsent(s, k -> sides.size());
+                }
+                memberSide[n] = lastSideId;
+            }
+            n++;
+        }
+        positions.values().removeIf(p -> p.turn != turn);
+
+        int mask = buildTable(n);
+        AbstractCharacter[] pairs = new AbstractCharacter[n - n % 2];
+        int paired = 0;
+
+        // Pairs within each cell; the members left over are chained through next
+        for (int s = 0; s <= mask; s++) {
+            if (slotKey[s] == EMPTY) {
+                continue;
+            }
+            int size = 0;
+            for (int i = slotHead[s]; i != EMPTY; i = next[i]) {
+                bucket[size++] = i;
+            }
+            for (int i = size - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = bucket[i];
+                bucket[i] = bucket[j];
+                bucket[j] = tmp;
+            }
+            slotLeftover[s] = EMPTY;
+            if (sides == null) {
+                for (int i = 0; i + 1 < size; i += 2) {
+                    pairs[paired++] = members[bucket[i]];
+                    pairs[paired++] = members[bucket[i + 1]];
+                }
+                if (size % 2 == 1) {
+                    pushLeftover(s, bucket[size - 1]);
+                }
+                continue;
+            }
+
+            // Group the occupants by side, keeping the shuffled order within each side
+            int from = 0;
+            int largest = size == 0 ? 0 : 1;
+            if (size > 1) {
+                sortBySide(size);
+                int run = 1;
+                for (int i = 1; i < size; i++) {
+                    run = memberSide[bucket[i]] == memberSide[bucket[i - 1]] ? run + 1 : 1;
+                    if (run > largest) {
+                        largest = run;
+                        from = i - run + 1;
+                    }
+                }
+            }
+            int half = size / 2;
+            if (largest <= half) {
+                for (int i = 0; i < half; i++) {
+                    pairs[paired++] = members[bucket[i]];
+                    pairs[paired++] = members[bucket[i + half]];
+                }
+                if (size % 2 == 1) {
+                    pushLeftover(s, bucket[size - 1]);
+                }
+            } else {
+                int others = size - largest;
+                for (int k = 0; k < others; k++) {
+                    pairs[paired++] = members[bucket[from + k]];
+                    pairs[paired++] = members[bucket[k < from ? k : k + largest]];
+                }
+                for (int i = from + largest - 1; i >= from + others; i--) {
+                    pushLeftover(s, bucket[i]);
+                }
+            }
+        }
+
+        // Pairs of the members left over in neighbouring cells; the leftovers of a cell share a side
+        for (int s = 0; s <= mask; s++) {
+            if (slotKey[s] == EMPTY || slotLeftover[s] == EMPTY) {
+                continue;
+            }
+            int cell = slotKey[s];
+            int column = cell % cellsPerSide;
+            int row = cell / cellsPerSide;
+            for (int dy = -1; dy <= 1 && slotLeftover[s] != EMPTY; dy++) {
+                for (int dx = -1; dx <= 1 && slotLeftover[s] != EMPTY; dx++) {
+                    int nx = column + dx;
+                    int ny = row + dy;
+                    if ((dx == 0 && dy == 0) || nx < 0 || ny < 0 || nx >= cellsPerSide || ny >= cellsPerSide) {
+                        continue;
+                    }
+                    int other = find(ny * cellsPerSide + nx, mask);
+                    while (other != EMPTY && slotLeftover[other] != EMPTY && slotLeftover[s] != EMPTY
+                            && memberSide[slotLeftover[s]] != memberSide[slotLeftover[other]]) {
+                        pairs[paired++] = members[popLeftover(s)];
+                        pairs[paired++] = members[popLeftover(other)];
+                    }
+                }
+            }
+        }
+
+        Arrays.fill(members, 0, n, null);
+        return paired == pairs.length ? pairs : Arrays.copyOf(pairs, paired);
+    }
+
+    private void pushLeftover(int slot, int member) {
+        next[member] = slotLeftover[slot];
+        slotLeftover[slot] = member;
+    }
+
+    private int popLeftover(int slot) {
+        int member = slotLeftover[slot];
+        slotLeftover[slot] = next[member];
+        return member;
+    }
+
+    /**
+     * Sorts the first occupants of the bucket by side, keeping their order within a side.
+     */
+    private void sortBySide(int size) {
+        for (int k = 0; k < size; k++) {
+            sortKeys[k] = ((long) memberSide[bucket[k]] << 32) | k;
+        }
+        Arrays.sort(sortKeys, 0, size);
+        for (int k = 0; k < size; k++) {
+            sorted[k] = bucket[(int) sortKeys[k]];
+        }
+        System.arraycopy(sorted, 0, bucket, 0, size);
+    }
+
+    /**
+     * Puts the members in the spatial hash, one list per occupied cell.
+     * @return The mask of the table.
+     */
+    private int buildTable(int n) {
+        int capacity = Integer.highestOneBit(Math.max(2, n) * 2 - 1) << 1;
+        if (slotKey.length < capacity) {
+            slotKey = new int[capacity];
+            slotHead = new int[capacity];
+            slotLeftover = new int[capacity];
+        }
+        int mask = capacity - 1;
+        Arrays.fill(slotKey, 0, capacity, EMPTY);
+        for (int i = 0; i < n; i++) {
+            int s = hash(memberCell[i]) & mask;
+            while (slotKey[s] != EMPTY && slotKey[s] != memberCell[i]) {
+                s = (s + 1) & mask;
+            }
+            if (slotKey[s] == EMPTY) {
+                slotKey[s] = memberCell[i];
+                slotHead[s] = EMPTY;
+            }
+            next[i] = slotHead[s];
+            slotHead[s] = i;
+        }
+        return mask;
+    }
+
+    private int find(int cell, int mask) {
+        int s = hash(cell) & mask;
+        while (slotKey[s] != EMPTY) {
+            if (slotKey[s] == cell) {
+                return s;
+            }
+            s = (s + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    private void ensureCapacity(int n) {
+        if (members.length < n) {
+            members = new AbstractCharacter[n];
+            memberCell = new int[n];
+            next = new int[n];
+            bucket = new int[n];
+            memberSide = new int[n];
+            sorted = new int[n];
+            sortKeys = new long[n];
+        }
+    }
+
+    private int cell(Position p) {
+        return (p.y / ENGAGEMENT_RANGE) * cellsPerSide + p.x / ENGAGEMENT_RANGE;
+    }
+
+    private int clamp(int v) {
+        return Math.max(0, Math.min(side - 1, v));
+    }
+
+    private static int hash(int cell) {
+        int h = cell * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * The position of a character and the last turn it was seen.
+     */
+    private static final class Position {
+        private int x;
+        private int y;
+        private int turn;
+        // Set by place(): the character stays put during the next turn
+        private boolean placed;
+    }
+}
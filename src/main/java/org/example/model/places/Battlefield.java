@@ -1,16 +1,33 @@
 package org.example.model.places;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.example.model.character.AbstractCharacter;
+import org.example.model.character.CharacterRoster;
 import org.example.model.food.FoodItem;
 
 /**
  * Represents a battlefield where all types of characters can be present.
  * This is the only place type without a clan chief, as it's a temporary combat zone.
+ * The characters stand on a {@link BattleGrid} and fight their neighbours.
+ * <p>
+ * The characters are also indexed by {@link Faction}, one roster per side present, so that
+ * mass and aggregate battles get their sides without grouping the characters again, and a
+ * battlefield holding a single side is recognised without looking at its characters.
+ * </p>
  */
 public final class Battlefield extends AbstractPlace {
 
+    private final BattleGrid grid;
+    // Rosters of the sides present, in order of arrival, and read-only views over them
+    private final Map<Faction, CharacterRoster<AbstractCharacter>> rosters = new LinkedHashMap<>();
+    private final Map<Faction, List<AbstractCharacter>> rosterViews = new LinkedHashMap<>();
+    private final Map<Faction, List<AbstractCharacter>> rostersView = Collections.unmodifiableMap(rosterViews);
+
     /**
      * Creates a new battlefield
      * @param name The name of the battlefield
@@ -22,6 +39,67 @@ public final class Battlefield extends AbstractPlace {
                       ArrayList<AbstractCharacter> presentCharacters, ArrayList<FoodItem> presentFoods) {
         // Note: no clan chief for battlefields
         super(TypePlace.battlefield, name, surface, presentCharacters, presentFoods);
+        this.grid = new BattleGrid(surface);
+        for (AbstractCharacter character : getCharactersView()) {
+            characterEntered(character);
+        }
+    }
+
+    /**
+     * Gets the positions of the characters on this battlefield.
+     * @return The grid of the battlefield
+     */
+    public BattleGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Gets the number of sides present.
+     * @return The number of factions with at least one character on the battlefield
+     */
+    public int getFactionCount() {
+        return rosters.size();
+    }
+
+    /**
+     * Gets the characters present, side by side.
+     * @return A read-only view, with one read-only list per faction present, in order of arrival
+     */
+    public Map<Faction, List<AbstractCharacter>> getCharactersByFaction() {
+        return rostersView;
+    }
+
+    @Override
+    protected void characterEntered(AbstractCharacter character) {
+        Faction faction = Faction.of(character);
+        CharacterRoster<AbstractCharacter> roster = rosters.get(faction);
+        if (roster == null) {
+            roster = new CharacterRoster<>();
+            rosters.put(faction, roster);
+            rosterViews.put(faction, roster.asList());
+        }
+        roster.add(character);
+    }
+
+    @Override
+    protected void characterLeft(AbstractCharacter character) {
+        Faction faction = Faction.of(character);
+        CharacterRoster<AbstractCharacter> roster = rosters.get(faction);
+        if (roster == null || !roster.remove(character)) {
+            // The character changed of origin while on the battlefield
+            faction = null;
+            for (Map.Entry<Faction, CharacterRoster<AbstractCharacter>> entry : rosters.entrySet()) {
+                if (entry.getValue().remove(character)) {
+                    faction = entry.getKey();
+                    roster = entry.getValue();
+                    break;
+                }
+            }
+        }
+        if (faction != null && roster.isEmpty()) {
+            rosters.remove(faction);
+            rosterViews.remove(faction);
+        }
     }
 
     /**
@@ -0,0 +1,107 @@
+package org.example.model.places;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.gallic.Gallic;
+import org.example.model.character.roman.Roman;
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.clanLeader.ClanLeader;
+
+/**
+ * A side in a battle: the characters coming from the same place, under the same clan leader.
+ * <p>
+ * Every place has its own faction. Characters without a place of origin fall back on one of four
+ * shared factions, according to their kind: Gauls, Romans, werewolves, and everyone else.
+ * Factions are compared by identity.
+ * </p>
+ */
+public final class Faction {
+
+    /** Gauls without a place of origin */
+    public static final Faction GAULS = new Faction("Gauls");
+    /** Romans without a place of origin */
+    public static final Faction ROMANS = new Faction("Romans");
+    /** Werewolves without a place of origin */
+    public static final Faction WEREWOLVES = new Faction("Werewolves");
+    /** Any other character without a place of origin */
+    public static final Faction OTHERS = new Faction("Others");
+
+    private final AbstractPlace home;
+    private final String name;
+
+    /**
+     * Creates the faction of a place. Called by the place itself.
+     * @param home The place.
+     */
+    Faction(AbstractPlace home) {
+        this.home = home;
+        this.name = null;
+    }
+
+    private Faction(String name) {
+        this.home = null;
+        this.name = name;
+    }
+
+    /**
+     * Gets the faction of a character.
+     * @param character The character.
+     * @return The faction of its place of origin, or the shared faction of its kind if it has none.
+     */
+    public static Faction of(AbstractCharacter character) {
+        AbstractPlace origin = character.getOriginPlace();
+        if (origin != null) {
+            return origin.getFaction();
+        }
+        if (character instanceof Gallic) {
+            return GAULS;
+        } else if (character instanceof Roman) {
+            return ROMANS;
+        } else if (character instanceof Werewolf) {
+            return WEREWOLVES;
+        }
+        return OTHERS;
+    }
+
+    /**
+     * Groups characters by faction.
+     * @param characters The characters.
+     * @return The characters of each faction, factions in order of first appearance.
+     */
+    public static Map<Faction, List<AbstractCharacter>> group(List<? extends AbstractCharacter> characters) {
+        Map<Faction, List<AbstractCharacter>> groups = new LinkedHashMap<>();
+        for (AbstractCharacter character : characters) {
+            groups.computeIfAbsent(of(character), f -> new ArrayList<>()).add(character);
+        }
+        return groups;
+    }
+
+    /**
+     * Gets the place the characters of this faction come from.
+     * @return The place, or null for the shared factions.
+     */
+    public AbstractPlace getHome() {
+        return home;
+    }
+
+    /**
+     * Gets the clan leader of this faction.
+     * @return The leader of the home place, or null if there is none.
+     */
+    public ClanLeader getLeader() {
+        return home != null ? home.getClanLeader() : null;
+    }
+
+    public String getName() {
+        return home != null ? home.getName() : name;
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.model.random;
+
+import java.util.SplittableRandom;
+
+/**
+ * Process-wide source of randomness for the simulation.
+ * <p>
+ * Nothing in the model calls {@code Math.random()} or shares a
+ * {@code java.util.Random}: each component that needs random numbers (the
+ * theater, the colony, every pack...) takes its own stream from
+ * {@link #split()} when it is created, and keeps it. Streams never lock and
+ * never interfere with each other, so places and packs can be processed on
+ * different threads.
+ * </p>
+ * <p>
+ * All the streams derive from a single root. After {@link #setSeed(long)},
+ * building the same world in the same order gives the same streams, and
+ * therefore the same run.
+ * </p>
+ */
+public final class SimulationRandom {
+
+    private static SplittableRandom root = new SplittableRandom();
+
+    private SimulationRandom() {
+    }
+
+    /**
+     * Restarts the root stream from a seed.
+     * <p>
+     * Only the streams split afterwards are affected: call it before building
+     * the world to be replayed.
+     * </p>
+     *
+     * @param seed The seed.
+     */
+    public static synchronized void setSeed(long seed) {
+        root = new SplittableRandom(seed);
+    }
+
+    /**
+     * Creates a new independent stream.
+     *
+     * @return A stream reserved to the caller.
+     */
+    public static synchronized SplittableRandom split() {
+        return root.split();
+    }
+}
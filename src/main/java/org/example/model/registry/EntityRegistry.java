@@ -0,0 +1,122 @@
+package org.example.model.registry;
+
+import java.util.Arrays;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.clanLeader.ClanLeader;
+import org.example.model.pack.Pack;
+import org.example.model.places.AbstractPlace;
+
+/**
+ * Process-wide registry of the simulation entities.
+ * <p>
+ * The registry hands out the character ids: small consecutive integers,
+ * starting at 0, that never change during the life of a character. Because
+ * they are dense, the registry (and any other subsystem) can index plain
+ * arrays with them instead of hashing.
+ * </p>
+ * <p>
+ * It also answers, in constant time, the questions that used to require
+ * scanning every place:
+ * </p>
+ * <ul>
+ *     <li>{@link #placeOf} - the place a character was last added to and has not left;</li>
+ *     <li>{@link #leaderOf} - the clan leader of the character's place of origin;</li>
+ *     <li>{@link #packOf} - the pack of a werewolf.</li>
+ * </ul>
+ * <p>
+ * Places keep the registry up to date when characters enter or leave them,
+ * clan leaders attach themselves to their place, and packs set the pack of
+ * their members.
+ * </p>
+ */
+public final class EntityRegistry {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static int nextId;
+    private static AbstractPlace[] placeById = new AbstractPlace[INITIAL_CAPACITY];
+
+    private EntityRegistry() {
+    }
+
+    /**
+     * Reserves the id of a new character.
+     *
+     * @return A new id, one more than the previous one.
+     */
+    public static synchronized int nextCharacterId() {
+        return nextId++;
+    }
+
+    /**
+     * Gets the number of ids handed out so far. Every id is lower than this value.
+     *
+     * @return The number of characters created.
+     */
+    public static synchronized int getCharacterCount() {
+        return nextId;
+    }
+
+    /**
+     * Records that a character entered a place.
+     *
+     * @param character The character.
+     * @param place     The place it entered.
+     */
+    public static synchronized void enterPlace(AbstractCharacter character, AbstractPlace place) {
+        int id = character.getId();
+        if (id >= placeById.length) {
+            placeById = Arrays.copyOf(placeById, Math.max(placeById.length * 2, id + 1));
+        }
+        placeById[id] = place;
+    }
+
+    /**
+     * Records that a character left a place. Does nothing if the character is
+     * currently recorded in another place.
+     *
+     * @param character The character.
+     * @param place     The place it left.
+     */
+    public static synchronized void leavePlace(AbstractCharacter character, AbstractPlace place) {
+        int id = character.getId();
+        if (id < placeById.length && placeById[id] == place) {
+            placeById[id] = null;
+        }
+    }
+
+    /**
+     * Gets the place a character currently stands in.
+     *
+     * @param character The character.
+     * @return The place, or {@code null} if the character is in no place.
+     */
+    public static synchronized AbstractPlace placeOf(AbstractCharacter character) {
+        int id = character.getId();
+        return id < placeById.length ? placeById[id] : null;
+    }
+
+    /**
+     * Gets the clan leader responsible for a character, that is the leader of
+     * its place of origin.
+     *
+     * @param character The character.
+     * @return The leader, or {@code null} if the character has no origin or the origin has no leader.
+     */
+    public static ClanLeader leaderOf(AbstractCharacter character) {
+        AbstractPlace origin = character.getOriginPlace();
+        return origin != null ? origin.getClanLeader() : null;
+    }
+
+    /**
+     * Gets the pack of a character.
+     *
+     * @param character The character.
+     * @return The pack of the werewolf, or {@code null} for other characters and lone werewolves.
+     */
+    public static Pack packOf(AbstractCharacter character) {
+        return character instanceof Werewolf werewolf ? werewolf.getPack() : null;
+    }
+}
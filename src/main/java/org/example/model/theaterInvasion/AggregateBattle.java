@@ -0,0 +1,157 @@
+package org.example.model.theaterInvasion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.places.Faction;
+
+/**
+ * One turn of an aggregate battle, in the manner of Lanchester's laws: the losses of each side are
+ * computed from its numbers and average stats, without a single fight being played.
+ * <p>
+ * The characters come grouped by {@link Faction}, and each side is summed up by its head count and
+ * its mean strength, stamina and health. As in a mass battle, every combatant strikes an enemy,
+ * spread over the enemy sides in proportion to their numbers. The damage side {@code a} deals to
+ * side {@code b} is then {@code Na * Nb / Ea * max(0, Sa - Tb)}, where {@code Ea} is the number of
+ * enemies of {@code a}, and the expected losses of {@code b} are the damage it takes divided by its
+ * mean health: losses grow with the enemy numbers, which is the square law.
+ * </p>
+ * <p>
+ * Only the losses are made real: for each side, the number of dead is drawn around its expected
+ * value and the dead are picked at random among its members. The survivors keep their health.
+ * Summing up the sides is one pass over the characters; everything else depends on the number of
+ * sides and of dead only.
+ * </p>
+ */
+final class AggregateBattle {
+
+    private final List<Side> sides = new ArrayList<>();
+    private int total;
+
+    /**
+     * Sums up the living characters of a battlefield, side by side, and computes their expected losses.
+     *
+     * @param sides The characters present on the battlefield, by faction.
+     */
+    AggregateBattle(Map<Faction, ? extends List<? extends AbstractCharacter>> sides) {
+        for (Map.Entry<Faction, ? extends List<? extends AbstractCharacter>> entry : sides.entrySet()) {
+            Side side = new Side(entry.getKey(), entry.getValue().size());
+            for (AbstractCharacter c : entry.getValue()) {
+                if (c.isAlive()) {
+                    side.add(c);
+                }
+            }
+            if (side.count > 0) {
+                this.sides.add(side);
+                total += side.count;
+            }
+        }
+        computeLosses();
+    }
+
+    /**
+     * Gets the number of sides on the battlefield.
+     * @return The number of factions with at least one living character.
+     */
+    int getSideCount() {
+        return sides.size();
+    }
+
+    Faction getFaction(int side) {
+        return sides.get(side).faction;
+    }
+
+    int getCount(int side) {
+        return sides.get(side).count;
+    }
+
+    /**
+     * Gets the number of characters a side is expected to lose this turn.
+     * @param side The index of the side, in the order of the map given to the constructor.
+     * @return The expected losses, at most the size of the side.
+     */
+    double getExpectedLosses(int side) {
+        return sides.get(side).expectedLosses;
+    }
+
+    /**
+     * Draws the dead of the turn. Each side loses the whole part of its expected losses, plus one
+     * more with a probability equal to the fractional part.
+     *
+     * @param random The source of randomness.
+     * @return The characters killed this turn, not yet dead.
+     */
+    List<AbstractCharacter> sampleLosses(RandomGenerator random) {
+        List<AbstractCharacter> dead = new ArrayList<>();
+        for (Side side : sides) {
+            double expected = side.expectedLosses;
+            int losses = (int) expected;
+            if (random.nextDouble() < expected - losses) {
+                losses++;
+            }
+            losses = Math.min(losses, side.count);
+            // Partial Fisher-Yates: the first picks are moved to the end of the members
+            for (int i = 0; i < losses; i++) {
+                int last = side.count - 1 - i;
+                int j = random.nextInt(last + 1);
+                AbstractCharacter picked = side.members[j];
+                side.members[j] = side.members[last];
+                side.members[last] = picked;
+                dead.add(picked);
+            }
+        }
+        return dead;
+    }
+
+    private void computeLosses() {
+        double[] damage = new double[sides.size()];
+        for (Side a : sides) {
+            int enemies = total - a.count;
+            if (enemies == 0) {
+                continue;
+            }
+            double strength = (double) a.strengthSum / a.count;
+            for (int b = 0; b < sides.size(); b++) {
+                Side target = sides.get(b);
+                if (target == a) {
+                    continue;
+                }
+                double stamina = (double) target.staminaSum / target.count;
+                damage[b] += (double) a.count * target.count / enemies * Math.max(0, strength - stamina);
+            }
+        }
+        for (int b = 0; b < sides.size(); b++) {
+            Side side = sides.get(b);
+            double health = Math.max(1.0, (double) side.healthSum / side.count);
+            side.expectedLosses = Math.min(side.count, damage[b] / health);
+        }
+    }
+
+    /**
+     * The members of a faction and the sums of their stats.
+     */
+    private static final class Side {
+        private final Faction faction;
+        private final AbstractCharacter[] members;
+        private int count;
+        private long strengthSum;
+        private long staminaSum;
+        private long healthSum;
+        private double expectedLosses;
+
+        private Side(Faction faction, int capacity) {
+            this.faction = faction;
+            this.members = new AbstractCharacter[capacity];
+        }
+
+        private void add(AbstractCharacter c) {
+            members[count++] = c;
+            strengthSum += c.getStrength();
+            staminaSum += c.getStamina();
+            healthSum += c.getHealth();
+        }
+    }
+}
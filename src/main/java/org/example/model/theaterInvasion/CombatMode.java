@@ -0,0 +1,24 @@
+package org.example.model.theaterInvasion;
+
+/**
+ * The ways the fights of a battlefield are resolved during a cycle.
+ */
+public enum CombatMode {
+    /**
+     * Neighbours on the battle grid are paired, and each pair may fight a duel.
+     */
+    DUELS,
+
+    /**
+     * Every living combatant strikes an enemy of another faction at every turn,
+     * and all the blows of the turn land at once.
+     */
+    MASS,
+
+    /**
+     * No fight is played: each faction loses the number of characters its enemies are expected
+     * to kill, computed from the numbers and average stats of the sides. Meant for armies of
+     * millions; switch back to {@link #MASS} or {@link #DUELS} for exact fights.
+     */
+    AGGREGATE
+}
@@ -0,0 +1,202 @@
+package org.example.model.theaterInvasion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.places.Faction;
+
+/**
+ * One round of a mass battle: every living combatant strikes an enemy, and all the blows land at once.
+ * <p>
+ * The combatants are lined up side by side, largest {@link Faction} first, and shuffled within
+ * their side. Combatant {@code i} is then paired with combatant {@code i + n/2}: as no side fills
+ * more than half of the line, the two are always enemies. When one side outnumbers all the others,
+ * each of its extra members attacks a random enemy instead, and an odd combatant out does the same;
+ * as the sides are contiguous, drawing an enemy takes a single draw. Pairing is O(n).
+ * </p>
+ * <p>
+ * The stats are copied into primitive arrays before any blow is struck. The damage of every
+ * combatant, {@code max(0, strength - stamina of its target)}, is computed in one loop over these
+ * arrays, summed per target in a second one, and only then written back to the characters. The
+ * outcome therefore does not depend on the order of the blows, as in a {@code mutualFight}.
+ * </p>
+ */
+final class MassBattle {
+
+    private static final int NONE = -1;
+
+    private final AbstractCharacter[] fighters;
+    private final int[] target;
+    private final int[] strength;
+    private final int[] stamina;
+    private final int[] health;
+    private final int[] damage;
+    private final int size;
+
+    /**
+     * Lines up the living characters of a battlefield and picks the target of each of them.
+     *
+     * @param sides  The characters present on the battlefield, by faction.
+     * @param random The source of randomness.
+     */
+    MassBattle(Map<Faction, ? extends List<? extends AbstractCharacter>> sides, RandomGenerator random) {
+        List<List<? extends AbstractCharacter>> bySize = new ArrayList<>(sides.values());
+        // Largest side first; the sort is stable, so equal sides keep their order of arrival
+        bySize.sort((a, b) -> Integer.compare(b.size(), a.size()));
+        int capacity = 0;
+        for (List<? extends AbstractCharacter> side : bySize) {
+            capacity += side.size();
+        }
+        AbstractCharacter[] line = new AbstractCharacter[capacity];
+        int[] sideStart = new int[capacity];
+        int[] sideEnd = new int[capacity];
+        int n = 0;
+        int largest = 0;
+        for (List<? extends AbstractCharacter> side : bySize) {
+            int from = n;
+            for (AbstractCharacter c : side) {
+                if (c.isAlive()) {
+                    line[n++] = c;
+                }
+            }
+            shuffle(line, from, n - from, random);
+            Arrays.fill(sideStart, from, n, from);
+            Arrays.fill(sideEnd, from, n, n);
+            largest = Math.max(largest, n - from);
+        }
+        this.size = n;
+        this.fighters = n == capacity ? line : Arrays.copyOf(line, n);
+        this.target = new int[n];
+        this.strength = new int[n];
+        this.stamina = new int[n];
+        this.health = new int[n];
+        this.damage = new int[n];
+        for (int i = 0; i < n; i++) {
+            AbstractCharacter c = fighters[i];
+            strength[i] = c.getStrength();
+            stamina[i] = c.getStamina();
+            health[i] = c.getHealth();
+        }
+        pair(largest, sideStart, sideEnd, random);
+    }
+
+    /**
+     * Strikes every blow of the round, then writes the new health of the characters that were hit.
+     * Characters brought down to 0 die.
+     */
+    void strike() {
+        int[] dealt = new int[size];
+        for (int i = 0; i < size; i++) {
+            int t = target[i];
+            dealt[i] = t == NONE ? 0 : Math.max(0, strength[i] - stamina[t]);
+        }
+        for (int i = 0; i < size; i++) {
+            if (target[i] != NONE) {
+                damage[target[i]] += dealt[i];
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (damage[i] > 0) {
+                fighters[i].setHealth(health[i] - damage[i]);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of combatants.
+     * @return The number of living characters at the start of the round.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets a combatant.
+     * @param i The index of the combatant.
+     * @return The character.
+     */
+    AbstractCharacter fighter(int i) {
+        return fighters[i];
+    }
+
+    /**
+     * Gets the index of the enemy a combatant strikes.
+     * @param i The index of the combatant.
+     * @return The index of its target, or -1 if the battlefield holds a single side.
+     */
+    int targetOf(int i) {
+        return target[i];
+    }
+
+    /**
+     * Gets the damage a combatant received during the round.
+     * @param i The index of the combatant.
+     * @return The damage, before the health was clamped at 0.
+     */
+    int damageTo(int i) {
+        return damage[i];
+    }
+
+    /**
+     * Pairs the combatants lined up side by side.
+     *
+     * @param largest   The size of the largest side.
+     * @param sideStart The first index of the side of each combatant.
+     * @param sideEnd   The index following the last one of the side of each combatant.
+     */
+    private void pair(int largest, int[] sideStart, int[] sideEnd, RandomGenerator random) {
+        Arrays.fill(target, NONE);
+        int n = size;
+        if (largest == n) {
+            return;
+        }
+        int half = n / 2;
+        if (largest <= half) {
+            for (int i = 0; i < half; i++) {
+                target[i] = i + half;
+                target[i + half] = i;
+            }
+            if (n % 2 == 1) {
+                target[n - 1] = randomEnemy(n - 1, sideStart, sideEnd, random);
+            }
+        } else {
+            // Once the dead are left out, the largest side is not always the first one
+            int from = 0;
+            while (sideEnd[from] - from != largest) {
+                from = sideEnd[from];
+            }
+            int others = n - largest;
+            for (int k = 0; k < others; k++) {
+                int enemy = k < from ? k : k + largest;
+                target[from + k] = enemy;
+                target[enemy] = from + k;
+            }
+            for (int i = from + others; i < from + largest; i++) {
+                target[i] = randomEnemy(i, sideStart, sideEnd, random);
+            }
+        }
+    }
+
+    /**
+     * Draws an enemy uniformly among the combatants outside the side of a combatant.
+     */
+    private int randomEnemy(int i, int[] sideStart, int[] sideEnd, RandomGenerator random) {
+        int from = sideStart[i];
+        int length = sideEnd[i] - from;
+        int pick = random.nextInt(size - length);
+        return pick < from ? pick : pick + length;
+    }
+
+    private static void shuffle(AbstractCharacter[] line, int from, int length, RandomGenerator random) {
+        for (int i = length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            AbstractCharacter tmp = line[from + i];
+            line[from + i] = line[from + j];
+            line[from + j] = tmp;
+        }
+    }
+}
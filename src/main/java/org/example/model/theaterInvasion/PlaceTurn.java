@@ -0,0 +1,77 @@
+package org.example.model.theaterInvasion;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.example.model.places.AbstractPlace;
+
+/**
+ * The work of one place during one game cycle.
+ * <p>
+ * A place turn only changes its own place. Everything that reaches outside of it
+ * (a character fleeing to its origin, a winner going home) and every typed event
+ * it wants to publish is recorded with {@link #defer(Phase, Runnable)} instead,
+ * and replayed by {@link #merge(Phase)} once all the places are done. This is what
+ * allows the places to be processed in any order, or in parallel, while the end
+ * of the cycle stays the same.
+ * </p>
+ */
+final class PlaceTurn {
+
+    /**
+     * The phases of a cycle, in the order their deferred actions are merged.
+     */
+    enum Phase {
+        COMBAT, STATE, SPAWN, ROT
+    }
+
+    private final AbstractPlace place;
+    private final SplittableRandom random;
+    private final Map<Phase, List<Runnable>> deferred = new EnumMap<>(Phase.class);
+
+    /**
+     * Creates the turn of a place.
+     *
+     * @param place  The place processed.
+     * @param random The random stream reserved to this place for this cycle.
+     */
+    PlaceTurn(AbstractPlace place, SplittableRandom random) {
+        this.place = place;
+        this.random = random;
+    }
+
+    AbstractPlace getPlace() {
+        return place;
+    }
+
+    SplittableRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Records an action to run during the merge of a phase.
+     *
+     * @param phase  The phase the action belongs to.
+     * @param action The action.
+     */
+    void defer(Phase phase, Runnable action) {
+        deferred.computeIfAbsent(phase, p -> new ArrayList<>()).add(action);
+    }
+
+    /**
+     * Runs the actions recorded for a phase, in the order they were recorded.
+     *
+     * @param phase The phase to merge.
+     */
+    void merge(Phase phase) {
+        List<Runnable> actions = deferred.get(phase);
+        if (actions != null) {
+            for (Runnable action : actions) {
+                action.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package org.example.model.theaterInvasion;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
+
+/**
+ * Runs a tick, typically a game cycle, over and over on its own thread, at a configurable rate.
+ * <p>
+ * The tick rate is given as a period between the starts of two ticks; a period of
+ * {@link #AS_FAST_AS_POSSIBLE} runs the ticks back to back. Waiting for the next tick, pausing and
+ * resuming all go through a single {@link Condition}: the thread sleeps until it is due or until
+ * someone changes the state, so a paused scheduler costs no CPU at all, and pausing, resuming,
+ * stopping or changing the rate take effect at once instead of at the next poll.
+ * </p>
+ * <p>
+ * By default a tick that runs late pushes the following ones back. In catch-up mode the ticks keep
+ * a fixed timestep instead: after a slow tick, the missed ones run back to back until the schedule
+ * is met again, up to {@value #MAX_CATCH_UP} of them, after which the schedule is reset rather than
+ * chased forever.
+ * </p>
+ * <p>
+ * The thread is a daemon, so a scheduler that is never stopped does not keep the application alive.
+ * </p>
+ */
+public final class SimulationScheduler {
+
+    /** Period meaning that every tick starts as soon as the previous one is over. */
+    public static final long AS_FAST_AS_POSSIBLE = 0;
+
+    /** Largest number of late ticks run back to back in catch-up mode. */
+    static final int MAX_CATCH_UP = 10;
+
+    private enum State { NEW, RUNNING, PAUSED, STOPPED }
+
+    private final String name;
+    private final Runnable tick;
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Signalled whenever the state, the period or the ticking flag changes. */
+    private final Condition changed = lock.newCondition();
+
+    private State state = State.NEW;
+    private long periodNanos;
+    private boolean catchUp;
+    private boolean ticking;
+    /** Set by {@link #setPeriod(long)}, so that the worker reschedules the next tick. */
+    private boolean periodChanged;
+    private long tickCount;
+    private Thread worker;
+
+    /**
+     * Creates a scheduler, not started yet.
+     *
+     * @param name         The name of the thread.
+     * @param tick         The work to run at every tick.
+     * @param periodMillis The time between the starts of two ticks, or {@link #AS_FAST_AS_POSSIBLE}.
+     * @throws IllegalArgumentException if the period is negative.
+     */
+    public SimulationScheduler(String name, Runnable tick, long periodMillis) {
+        this.name = name;
+        this.tick = tick;
+        this.periodNanos = toNanos(periodMillis);
+    }
+
+    /**
+     * Changes the time between the starts of two ticks. Takes effect at once, even while the
+     * scheduler waits for the next tick: the next tick is then due one new period after the start
+     * of the last one, or right away if that time is already past.
+     *
+     * @param periodMillis The period, or {@link #AS_FAST_AS_POSSIBLE}.
+     * @throws IllegalArgumentException if the period is negative.
+     */
+    public void setPeriod(long periodMillis) {
+        long nanos = toNanos(periodMillis);
+        lock.lock();
+        try {
+            periodNanos = nanos;
+            periodChanged = true;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getPeriod() {
+        lock.lock();
+        try {
+            return TimeUnit.NANOSECONDS.toMillis(periodNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Chooses between a fixed timestep, where late ticks are caught up, and a fixed delay.
+     *
+     * @param catchUp True to catch up on late ticks.
+     */
+    public void setCatchUp(boolean catchUp) {
+        lock.lock();
+        try {
+            this.catchUp = catchUp;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Starts ticking. The first tick runs at once.
+     *
+     * @throws IllegalStateException if the scheduler was already started.
+     */
+    public void start() {
+        lock.lock();
+        try {
+            if (state != State.NEW) {
+                throw new IllegalStateException("Scheduler already started: " + name);
+            }
+            state = State.RUNNING;
+            worker = new Thread(this::loop, name);
+            worker.setDaemon(true);
+            worker.start();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Pauses the ticks. A tick in progress is not interrupted: see {@link #awaitIdle()}.
+     */
+    public void pause() {
+        lock.lock();
+        try {
+            if (state == State.RUNNING) {
+                state = State.PAUSED;
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Resumes the ticks after a pause. The next tick runs at once, and the ticks missed while
+     * paused are not caught up.
+     */
+    public void resume() {
+        lock.lock();
+        try {
+            if (state == State.PAUSED) {
+                state = State.RUNNING;
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the ticks for good. A tick in progress is not interrupted: see {@link #awaitTermination()}.
+     */
+    public void stop() {
+        lock.lock();
+        try {
+            state = State.STOPPED;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for the tick in progress, if any, to be over. After a {@link #pause()}, the caller can
+     * then safely change the simulation. Returns at once when called from a tick.
+     */
+    public void awaitIdle() {
+        lock.lock();
+        try {
+            if (Thread.currentThread() == worker) {
+                return;
+            }
+            boolean interrupted = false;
+            while (ticking) {
+                try {
+                    changed.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the scheduler is stopped, by {@link #stop()} or by a failing tick.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while waiting.
+     */
+    public void awaitTermination() throws InterruptedException {
+        lock.lock();
+        try {
+            while (state != State.STOPPED || ticking) {
+                changed.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isPaused() {
+        lock.lock();
+        try {
+            return state == State.PAUSED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isStopped() {
+        lock.lock();
+        try {
+            return state == State.STOPPED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of ticks run so far.
+     *
+     * @return The number of ticks over.
+     */
+    public long getTickCount() {
+        lock.lock();
+        try {
+            return tickCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void loop() {
+        // The next tick is due one period after the start of the last one, or at once if asked
+        long lastStart = 0;
+        boolean immediate = true;
+        int late = 0;
+        try {
+            while (true) {
+                lock.lock();
+                try {
+                    // Wait for the next tick, or for a pause to end
+                    while (true) {
+                        if (state == State.STOPPED) {
+                            return;
+                        }
+                        if (state == State.PAUSED) {
+                            changed.await();
+                            immediate = true;
+                            late = 0;
+                            continue;
+                        }
+                        long now = System.nanoTime();
+                        if (periodChanged) {
+                            // The missed ticks of a shorter period are not caught up
+                            periodChanged = false;
+                            late = 0;
+                            immediate |= lastStart + periodNanos - now <= 0;
+                        }
+                        if (immediate || periodNanos == AS_FAST_AS_POSSIBLE) {
+                            lastStart = now;
+                            break;
+                        }
+                        long due = lastStart + periodNanos;
+                        long wait = due - now;
+                        if (wait <= 0) {
+                            lastStart = due;
+                            break;
+                        }
+                        changed.awaitNanos(wait);
+                    }
+                    immediate = false;
+                    ticking = true;
+                } finally {
+                    lock.unlock();
+                }
+
+                tick.run();
+
+                lock.lock();
+                try {
+                    ticking = false;
+                    tickCount++;
+                    changed.signalAll();
+                    long now = System.nanoTime();
+                    if (lastStart + periodNanos - now < 0) {
+                        // Behind schedule: catch up, or start counting again from now
+                        late++;
+                        if (!catchUp || late > MAX_CATCH_UP) {
+                            lastStart = now;
+                            late = 0;
+                        }
+                    } else {
+                        late = 0;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            SimulationLog.emit(SimulationEventType.WARNING, "Simulation stopped: " + e);
+        } finally {
+            lock.lock();
+            try {
+                state = State.STOPPED;
+                ticking = false;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static long toNanos(long periodMillis) {
+        if (periodMillis < 0) {
+            throw new IllegalArgumentException("Period must not be negative: " + periodMillis);
+        }
+        return TimeUnit.MILLISECONDS.toNanos(periodMillis);
+    }
+}
@@ -2,23 +2,33 @@ package org.example.model.theaterInvasion;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.Scanner;
 
 import org.example.model.character.AbstractCharacter;
+import org.example.model.character.CharacterStore;
 import org.example.model.character.gallic.Druid;
 import org.example.model.character.gallic.Gallic;
 import org.example.model.character.roman.Legionary;
+import org.example.model.character.werewolf.Werewolf;
 import org.example.model.clanLeader.ClanLeader;
 import org.example.model.colony.Colony;
+import org.example.model.concurrent.TurnExecutor;
+import org.example.model.event.SimulationEventSink;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 import org.example.model.food.FoodItem;
 import org.example.model.food.FoodItemType;
+import org.example.model.pack.Pack;
 import org.example.model.places.AbstractPlace;
+import org.example.model.places.BattleGrid;
 import org.example.model.places.Battlefield;
 import org.example.model.places.Enclosure;
+import org.example.model.places.Faction;
 import org.example.model.potion.Potion;
+import org.example.model.random.SimulationRandom;
+import org.example.model.registry.EntityRegistry;
 
 /**
  * Manages the main logic of the "Theater Invasion" simulation.
@@ -30,23 +40,37 @@ import org.example.model.potion.Potion;
  */
 public class TheaterInvasion {
 
-    private static final Random RANDOM = new Random();
     private String theaterName;
     private ArrayList<AbstractPlace> existantsPlaces;
     private ArrayList<ClanLeader> clanLeaders;
     private Colony colony;
 
-    /**
-     * Flag to control the main loop of the simulation thread.
-     * Declared volatile to ensure visibility across threads.
-     */
-    private volatile boolean isSimulationRunning = true;
+    /** Columnar store holding the stats of every character, or {@code null} in the default object mode. */
+    private CharacterStore characterStore;
 
-    /**
-     * Flag to pause the logic execution within the simulation thread without stopping it.
-     * Declared volatile to ensure visibility across threads.
-     */
-    private volatile boolean isSimulationPaused = false;
+    /** Default time between two turns of the real-time modes, in milliseconds. */
+    public static final long DEFAULT_TURN_PERIOD = 2000;
+
+    /** Time between two turns of the real-time modes, or {@link SimulationScheduler#AS_FAST_AS_POSSIBLE}. */
+    private long turnPeriod = DEFAULT_TURN_PERIOD;
+
+    /** Whether the real-time modes catch up on late turns. */
+    private boolean catchUp;
+
+    /** Number of the last turn executed by the engine. */
+    private int currentTurn;
+
+    /** Root of the random streams handed to the places at each cycle. */
+    private SplittableRandom random = SimulationRandom.split();
+
+    /** Chance, in percent, that two neighbours on a battlefield fight during a turn. */
+    private static final int ENGAGE_CHANCE = 80;
+
+    /** Runs the place turns of each cycle. */
+    private TurnExecutor<PlaceTurn> cycleExecutor = new TurnExecutor<>(1);
+
+    /** How the fights of the battlefields are resolved. */
+    private CombatMode combatMode = CombatMode.DUELS;
 
     /**
      * Constructs a new TheaterInvasion instance.
@@ -76,39 +100,128 @@ public class TheaterInvasion {
      * <li>Aging and rotting existing food items.</li>
      * </ul>
      * </p>
+     * <p>
+     * Each place is processed on its own, with its own random stream split from
+     * the theater one, possibly in parallel (see {@link #setParallelism(int)}).
+     * Moves between places and the typed events are applied afterwards, place by
+     * place in list order, so a given seed always gives the same cycle whatever
+     * the number of threads.
+     * </p>
      *
      * @param turn The current turn number (for display purposes).
      */
     public void runGameCycle(int turn) {
-        System.out.println("\n╔════════════════════════════════════╗");
-        System.out.println("║        NOUVEAU CYCLE (Tour " + turn + ")        ║");
-        System.out.println("╚════════════════════════════════════╝");
+        this.currentTurn = turn;
+        if (SimulationLog.isEnabled()) {
+            SimulationLog.emit(SimulationEventType.CYCLE, "\n╔════════════════════════════════════╗");
+            SimulationLog.emit(SimulationEventType.CYCLE, "║        NOUVEAU CYCLE (Tour " + turn + ")        ║");
+            SimulationLog.emit(SimulationEventType.CYCLE, "╚════════════════════════════════════╝");
+        }
 
-        handleCombats();
-        updateCharactersState();
-        spawnFood();
-        rotFood();
+        PlaceTurn[] turns = new PlaceTurn[existantsPlaces.size()];
+        for (int i = 0; i < turns.length; i++) {
+            turns[i] = new PlaceTurn(existantsPlaces.get(i), random.split());
+        }
+        SplittableRandom storeRandom = random.split();
+
+        cycleExecutor.run(turns, this::runPlaceTurn);
+        if (characterStore != null) {
+            characterStore.passTime(storeRandom, 5, 5);
+        }
+        mergeTurns(turns);
 
         if (this.colony != null) {
             this.colony.advanceTime();
+            placeNewborns();
+        }
+    }
 
-            for (AbstractPlace place : existantsPlaces) {
-                if (place instanceof Enclosure) {
-                    for (org.example.model.pack.Pack pack : colony.getPacks()) {
-                        for (org.example.model.character.werewolf.Werewolf w : pack.getMembers()) {
-                            if (!place.getPresentCharacters().contains(w)) {
-                                try {
-                                    place.addCharacter(w);
-                                    System.out.println("👶 Le nouveau-né " + w.getName() + " rejoint l'enclos !");
-                                } catch (Exception e) { System.err.println("Error adding new-born werewolf to enclosure: " + e.getMessage()); }
-                            }
-                        }
+    /**
+     * Puts the werewolves standing in no place, that is the new-born ones, into the enclosure of
+     * their pack: the enclosure of another member, or the first enclosure of the theater.
+     * The werewolves already in a place stay where they are, so each one is in a single place.
+     */
+    private void placeNewborns() {
+        Enclosure fallback = null;
+        for (AbstractPlace place : existantsPlaces) {
+            if (place instanceof Enclosure enclosure) {
+                fallback = enclosure;
+                break;
+            }
+        }
+        if (fallback == null) {
+            return;
+        }
+        for (Pack pack : colony.getPacks()) {
+            AbstractPlace home = null;
+            List<Werewolf> newborns = new ArrayList<>();
+            for (Werewolf w : pack.getMembers()) {
+                AbstractPlace place = EntityRegistry.placeOf(w);
+                if (place == null) {
+                    if (w.isAlive()) {
+                        newborns.add(w);
                     }
+                } else if (home == null && place instanceof Enclosure) {
+                    home = place;
                 }
             }
+            for (Werewolf w : newborns) {
+                AbstractPlace target = home != null ? home : fallback;
+                try {
+                    target.addCharacter(w);
+                    SimulationLog.publish(SimulationEventType.TRANSFER, w, target);
+                } catch (Exception e) { System.err.println("Error adding new-born werewolf to enclosure: " + e.getMessage()); }
+            }
         }
     }
 
+    /**
+     * Runs the cycle following the last one executed.
+     *
+     * @return The number of the turn that was just executed.
+     */
+    public int runNextCycle() {
+        runGameCycle(currentTurn + 1);
+        return currentTurn;
+    }
+
+    // --- MODE 0 : HEADLESS (Batch, sans console) ---
+
+    /**
+     * Runs several game cycles back to back in <strong>Headless Mode</strong>.
+     * <p>
+     * No input is read and nothing is printed: every simulation message goes to
+     * {@code sink} instead of the console. Passing {@code null} discards the messages
+     * before they are even formatted, which is the fastest way to push many turns.
+     * The previously installed sink is restored once the batch is over.
+     * </p>
+     *
+     * @param cycles The number of cycles to run.
+     * @param sink   The sink receiving the simulation messages, or {@code null} to discard them.
+     * @return The number of the last turn executed.
+     */
+    public int runHeadless(int cycles, SimulationEventSink sink) {
+        SimulationEventSink previous = SimulationLog.getSink();
+        SimulationLog.setSink(sink);
+        try {
+            for (int i = 0; i < cycles; i++) {
+                runNextCycle();
+            }
+        } finally {
+            SimulationLog.setSink(previous);
+        }
+        return currentTurn;
+    }
+
+    /**
+     * Gets the number of the last turn executed.
+     *
+     * @return The current turn number (0 if no cycle has run yet).
+     */
+    public int getCurrentTurn() {
+        return currentTurn;
+    }
+
     // --- MODE 2 : SIMULATION (Temps réel avec Pause) ---
 
     /**
@@ -120,13 +233,11 @@ public class TheaterInvasion {
      */
     public void runTurnBased() {
         Scanner scanner = new Scanner(System.in, StandardCharsets.UTF_8);
-        int turn = 0;
 
         System.out.println(">> MODE TOUR PAR TOUR ACTIVÉ.");
 
         while (true) {
-            turn++;
-            runGameCycle(turn); // Automatic logic
+            runNextCycle(); // Automatic logic
             handleUserTurn(scanner); // Mandatory user interaction
 
             System.out.println("... Fin du tour. Appuyez sur Entrée pour le tour suivant ...");
@@ -139,7 +250,8 @@ public class TheaterInvasion {
     /**
      * Starts the game in <strong>Simulation Mode</strong>.
      * <p>
-     * In this mode, a separate thread executes the game cycles automatically at a fixed interval.
+     * In this mode, a {@link SimulationScheduler} executes the game cycles automatically,
+     * one every {@link #setTurnPeriod(long) turn period}.
      * The main thread listens for user input to toggle the PAUSE state.
      * When paused, the user can access the Clan Leader menu to perform actions.
      * </p>
@@ -150,39 +262,18 @@ public class TheaterInvasion {
         System.out.println(">> MODE SIMULATION ACTIVÉ.");
         System.out.println(">> Le jeu tourne tout seul. Appuyez sur [ENTRÉE] à tout moment pour mettre en PAUSE.");
 
-        // Launch a separate thread for game logic
-        Thread gameThread = new Thread(() -> {
-            int turn = 0;
-            while (isSimulationRunning) {
-                if (!isSimulationPaused) {
-                    turn++;
-                    runGameCycle(turn);
-
-                    try {
-                        // Simulation speed: 2 seconds per turn
-                        Thread.sleep(2000);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                } else {
-                    // While paused, the thread sleeps briefly to save CPU resources
-                    try { Thread.sleep(200); } catch (InterruptedException e) {}
-                }
-            }
-        });
-
-        gameThread.start();
+        // The game logic runs on the scheduler thread
+        SimulationScheduler scheduler = createScheduler("simulation", this::runNextCycle);
+        scheduler.start();
 
         // The Main Thread listens to the keyboard for the Pause command
-        while (isSimulationRunning) {
+        while (!scheduler.isStopped()) {
             // Blocks here until the user presses Enter
             scanner.nextLine();
 
-            // Trigger Pause
-            isSimulationPaused = true;
-
-            // Small delay to let the display thread finish its current print
-            try { Thread.sleep(100); } catch (InterruptedException e) {}
+            // Trigger Pause, and let the current cycle finish its prints
+            scheduler.pause();
+            scheduler.awaitIdle();
 
             System.out.println("\n⏸️  SIMULATION EN PAUSE ⏸️");
             System.out.println("1. 🛠️ Faire des modifications (Menu Chefs de Clan)");
@@ -196,12 +287,12 @@ public class TheaterInvasion {
                 handleUserTurn(scanner); // Access standard menu
             } else if (choice == 0) {
                 System.out.println("Arrêt du jeu...");
-                isSimulationRunning = false;
+                scheduler.stop();
                 return; // Sort de la boucle et de la méthode proprement
             }
 
             System.out.println("▶️  Reprise de la simulation...");
-            isSimulationPaused = false;
+            scheduler.resume();
         }
     }
 
@@ -245,188 +336,453 @@ public class TheaterInvasion {
     }
 
     /**
-     * Handles random combat logic within each place.
+     * Restarts the random streams of the theater cycles from a seed, so that the
+     * following cycles can be replayed.
      * <p>
-     * Iterates through all places. If multiple characters are present,
-     * a fight may occur based on a probability (higher in Battlefields).
-     * Uses defensive copying to allow modification of character lists during iteration.
+     * The colony and the packs have their own streams: to replay a whole run,
+     * seed {@link SimulationRandom} before building the world instead.
      * </p>
+     *
+     * @param seed The seed.
      */
-    private void handleCombats() {
-        System.out.println(">> Sounds of battle...");
+    public void setSeed(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
 
-        for (AbstractPlace place : existantsPlaces) {
-            // CORRECTION : On vérifie que c'est bien un champ de bataille.
-            // Si c'est un village ou un camp, pas de combat automatique.
-            if (!(place instanceof Battlefield)) {
-                continue;
-            }
+    /**
+     * Sets the number of threads processing the places during a cycle.
+     * <p>
+     * With 1 (the default) every place is processed on the calling thread.
+     * The outcome of a cycle does not depend on this setting. The colony, if any,
+     * evolves its packs with the same number of threads.
+     * </p>
+     *
+     * @param parallelism The number of worker threads.
+     * @throws IllegalArgumentException if the parallelism is lower than 1.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism == cycleExecutor.getParallelism()) {
+            return;
+        }
+        TurnExecutor<PlaceTurn> previous = cycleExecutor;
+        cycleExecutor = new TurnExecutor<>(parallelism);
+        previous.shutdown();
+        if (colony != null) {
+            colony.setParallelism(parallelism);
+        }
+    }
+
+    public int getParallelism() {
+        return cycleExecutor.getParallelism();
+    }
+
+    /**
+     * Sets the time between two turns in the real-time modes ({@link #runSimulation()}, {@link #run()}).
+     *
+     * @param turnPeriod The period in milliseconds, or {@link SimulationScheduler#AS_FAST_AS_POSSIBLE}
+     *                   to run the turns back to back.
+     * @throws IllegalArgumentException if the period is negative.
+     */
+    public void setTurnPeriod(long turnPeriod) {
+        if (turnPeriod < 0) {
+            throw new IllegalArgumentException("Turn period must not be negative: " + turnPeriod);
+        }
+        this.turnPeriod = turnPeriod;
+    }
 
-            // Chance de combat sur le champ de bataille (ex: 80%)
-            if (RANDOM.nextInt(100) < 80) {
-                List<AbstractCharacter> chars = place.getPresentCharacters();
+    public long getTurnPeriod() {
+        return turnPeriod;
+    }
 
-                if (chars.size() >= 2) {
-                    AbstractCharacter c1 = chars.get(RANDOM.nextInt(chars.size()));
-                    AbstractCharacter c2 = chars.get(RANDOM.nextInt(chars.size()));
+    /**
+     * Chooses whether the real-time modes catch up on turns that ran late, keeping a fixed timestep,
+     * or simply push the following turns back (the default).
+     *
+     * @param catchUp True to catch up on late turns.
+     */
+    public void setCatchUp(boolean catchUp) {
+        this.catchUp = catchUp;
+    }
 
-                    // On s'assure qu'ils sont vivants et différents
-                    if (c1 != c2 && c1.isAlive() && c2.isAlive()) {
-                        System.out.println("⚔️ Fight in " + place.getName() + " : " + c1.getName() + " vs " + c2.getName());
+    /**
+     * Creates a scheduler running a tick at the turn period of this theater.
+     *
+     * @param name The name of the scheduler thread.
+     * @param tick The work of a turn.
+     * @return The scheduler, not started yet.
+     */
+    public SimulationScheduler createScheduler(String name, Runnable tick) {
+        SimulationScheduler scheduler = new SimulationScheduler(name, tick, turnPeriod);
+        scheduler.setCatchUp(catchUp);
+        return scheduler;
+    }
 
-                        // Appel de la méthode de combat (qui gère les dégâts basés sur la force/endurance)
-                        c1.mutualFight(c2);
+    /**
+     * Sets how the fights of the battlefields are resolved.
+     * <p>
+     * {@link CombatMode#DUELS} (the default) lets neighbours fight now and then, which suits
+     * a few dozen characters. {@link CombatMode#MASS} makes every combatant strike an enemy at
+     * every turn, and is meant for battles of thousands of characters. {@link CombatMode#AGGREGATE}
+     * only draws the losses of each faction from its expected value, for armies of millions.
+     * </p>
+     *
+     * @param combatMode The combat mode.
+     */
+    public void setCombatMode(CombatMode combatMode) {
+        this.combatMode = combatMode;
+    }
 
-                        // Affichage pour debug
-                        System.out.println("   -> " + c1.getName() + " (HP: " + c1.getHealth() + ")");
-                        System.out.println("   -> " + c2.getName() + " (HP: " + c2.getHealth() + ")");
+    public CombatMode getCombatMode() {
+        return combatMode;
+    }
 
-                        // Gestion des conséquences (mort ou fuite)
-                        handlePostFight(place, c1, true); // true car on est forcément sur un Battlefield
-                        handlePostFight(place, c2, true);
+    /**
+     * Runs every phase of the cycle for one place.
+     *
+     * @param turn The turn of the place.
+     */
+    private void runPlaceTurn(PlaceTurn turn) {
+        handleCombat(turn);
+        if (characterStore == null) {
+            updateCharactersState(turn);
+        }
+        spawnFood(turn);
+        rotFood(turn);
+    }
 
-                        // Check for a winner after the fight
-                        checkForWinner(place);
-                    }
+    /**
+     * Applies what the place turns deferred, phase by phase and place by place.
+     *
+     * @param turns The turns of the cycle, in place order.
+     */
+    private void mergeTurns(PlaceTurn[] turns) {
+        SimulationLog.emit(SimulationEventType.PHASE, ">> Sounds of battle...");
+        mergePhase(turns, PlaceTurn.Phase.COMBAT);
+        SimulationLog.emit(SimulationEventType.PHASE, ">> Time passes (Hunger increases, Potion fades)...");
+        mergePhase(turns, PlaceTurn.Phase.STATE);
+        SimulationLog.emit(SimulationEventType.PHASE, ">> Nature offers its gifts...");
+        mergePhase(turns, PlaceTurn.Phase.SPAWN);
+        SimulationLog.emit(SimulationEventType.PHASE, ">> Food is aging...");
+        mergePhase(turns, PlaceTurn.Phase.ROT);
+    }
+
+    private void mergePhase(PlaceTurn[] turns, PlaceTurn.Phase phase) {
+        for (PlaceTurn turn : turns) {
+            turn.merge(phase);
+        }
+    }
+
+    /**
+     * Handles the fights of a battlefield, according to the combat mode.
+     * Villages and camps never see automatic fights, and neither do battlefields holding a single
+     * {@link Faction}: only enemies fight, whatever the mode.
+     *
+     * @param turn The turn of the place.
+     */
+    private void handleCombat(PlaceTurn turn) {
+        AbstractPlace place = turn.getPlace();
+        // Si c'est un village ou un camp, pas de combat automatique.
+        if (!(place instanceof Battlefield battlefield) || battlefield.getFactionCount() < 2) {
+            return;
+        }
+        boolean fought = switch (combatMode) {
+            case DUELS -> handleDuels(turn, battlefield);
+            case MASS -> handleMassBattle(turn, battlefield);
+            case AGGREGATE -> handleAggregateBattle(turn, battlefield);
+        };
+
+        // Check for a winner after the fights
+        if (fought) {
+            checkForWinner(turn);
+        }
+    }
+
+    /**
+     * Lets neighbours fight duels.
+     * <p>
+     * Every living character is paired with at most one neighbour of another faction on the
+     * {@link BattleGrid} of the battlefield, and each pair fights with a probability of
+     * {@value #ENGAGE_CHANCE}%. The number of fights per turn therefore grows with the number of
+     * characters and their density.
+     * </p>
+     *
+     * @param turn        The turn of the place.
+     * @param battlefield The battlefield.
+     * @return True if at least one fight took place.
+     */
+    private boolean handleDuels(PlaceTurn turn, Battlefield battlefield) {
+        SplittableRandom random = turn.getRandom();
+        AbstractCharacter[] pairs = battlefield.getGrid().pairNeighbors(battlefield.getCharactersView(), Faction::of, random);
+        boolean fought = false;
+        for (int i = 0; i < pairs.length; i += 2) {
+            AbstractCharacter c1 = pairs[i];
+            AbstractCharacter c2 = pairs[i + 1];
+            if (random.nextInt(100) >= ENGAGE_CHANCE || !c1.isAlive() || !c2.isAlive()) {
+                continue;
+            }
+            // Appel de la méthode de combat (qui gère les dégâts basés sur la force/endurance)
+            c1.mutualFight(c2);
+            fought = true;
+
+            int health1 = c1.getHealth();
+            int health2 = c2.getHealth();
+            turn.defer(PlaceTurn.Phase.COMBAT, () -> SimulationLog.publish(SimulationEventType.FIGHT,
+                    c1, c2, battlefield, null, health1, health2));
+
+            // Gestion des conséquences (mort ou fuite)
+            handlePostFight(turn, c1, true); // true car on est forcément sur un Battlefield
+            handlePostFight(turn, c2, true);
+        }
+        return fought;
+    }
+
+    /**
+     * Runs a round of mass battle: every living combatant strikes an enemy of another faction,
+     * all the damage is computed at once by {@link MassBattle}, then the dead and the fleeing
+     * are handled in a single pass. A fight event is published per pair only when the log is on.
+     *
+     * @param turn        The turn of the place.
+     * @param battlefield The battlefield.
+     * @return True if at least one blow was struck.
+     */
+    private boolean handleMassBattle(PlaceTurn turn, Battlefield battlefield) {
+        MassBattle battle = new MassBattle(battlefield.getCharactersByFaction(), turn.getRandom());
+        if (battle.size() < 2 || battle.targetOf(0) < 0) {
+            return false;
+        }
+        battle.strike();
+
+        if (SimulationLog.isEnabled()) {
+            AbstractPlace place = turn.getPlace();
+            for (int i = 0; i < battle.size(); i++) {
+                int j = battle.targetOf(i);
+                // A pair striking each other is reported once
+                if (battle.targetOf(j) == i && j < i) {
+                    continue;
                 }
+                AbstractCharacter c1 = battle.fighter(i);
+                AbstractCharacter c2 = battle.fighter(j);
+                int health1 = c1.getHealth();
+                int health2 = c2.getHealth();
+                turn.defer(PlaceTurn.Phase.COMBAT, () -> SimulationLog.publish(SimulationEventType.FIGHT,
+                        c1, c2, place, null, health1, health2));
             }
         }
+        for (int i = 0; i < battle.size(); i++) {
+            if (battle.damageTo(i) > 0) {
+                handlePostFight(turn, battle.fighter(i), true);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs a turn of aggregate battle: {@link AggregateBattle} draws the dead of each faction from
+     * its expected losses, and only the dead are handled. Nobody is wounded, so nobody flees.
+     *
+     * @param turn        The turn of the place.
+     * @param battlefield The battlefield.
+     * @return True if the battlefield holds at least two factions.
+     */
+    private boolean handleAggregateBattle(PlaceTurn turn, Battlefield battlefield) {
+        AggregateBattle battle = new AggregateBattle(battlefield.getCharactersByFaction());
+        if (battle.getSideCount() < 2) {
+            return false;
+        }
+        if (SimulationLog.isEnabled()) {
+            StringBuilder sb = new StringBuilder("   ").append(turn.getPlace().getName()).append(" :");
+            for (int i = 0; i < battle.getSideCount(); i++) {
+                sb.append(' ').append(battle.getFaction(i).getName()).append(' ').append(battle.getCount(i))
+                        .append(String.format(" (-%.1f)", battle.getExpectedLosses(i)));
+            }
+            String summary = sb.toString();
+            turn.defer(PlaceTurn.Phase.COMBAT, () -> SimulationLog.emit(SimulationEventType.INFO, summary));
+        }
+        for (AbstractCharacter dead : battle.sampleLosses(turn.getRandom())) {
+            dead.setHealth(0);
+            handlePostFight(turn, dead, true);
+        }
+        return true;
     }
 
     /**
-     * Checks if a battle has a single survivor and rewards them.
-     * @param place The place to check (should be a Battlefield).
+     * Checks if a single {@link Faction} is left on a battlefield and rewards its survivors.
+     * Sending the winners home, through the leader of their origin, is deferred to the end of
+     * the cycle.
+     *
+     * @param turn The turn of the place to check (should be a Battlefield).
      */
-    private void checkForWinner(AbstractPlace place) {
-        if (!(place instanceof Battlefield)) {
+    private void checkForWinner(PlaceTurn turn) {
+        AbstractPlace place = turn.getPlace();
+        if (!(place instanceof Battlefield battlefield) || battlefield.getFactionCount() != 1) {
             return;
         }
 
-        List<AbstractCharacter> survivors = place.getPresentCharacters();
-        if (survivors.size() == 1) {
-            AbstractCharacter winner = survivors.get(0);
-            if (winner.isAlive()) {
-                System.out.println("🏆 " + winner.getName() + " is the sole survivor of the battle! They are victorious!");
-                
+        List<AbstractCharacter> winners = new ArrayList<>();
+        for (AbstractCharacter c : battlefield.getCharactersView()) {
+            if (c.isAlive()) {
                 // Reward the winner
-                winner.setHealth(200); // Full heal
-                winner.setStrength(winner.getStrength() + 20);
-                System.out.println("   (Strength +20, Fully Healed)");
+                c.setHealth(200); // Full heal
+                c.setStrength(c.getStrength() + 20);
+                winners.add(c);
+            }
+        }
+        if (winners.isEmpty()) {
+            return;
+        }
+
+        turn.defer(PlaceTurn.Phase.COMBAT, () -> {
+            for (AbstractCharacter winner : winners) {
+                SimulationLog.publish(SimulationEventType.VICTORY, winner, null, place, null, 20, 0);
 
                 // Automatically return the winner to their home base
-                ClanLeader ownerLeader = findLeaderForCharacter(winner);
+                ClanLeader ownerLeader = EntityRegistry.leaderOf(winner);
                 if (ownerLeader != null) {
                     ownerLeader.returnCharacter(winner, place);
                 } else {
                     // If no leader, they just leave the battlefield
                     place.deleteCharacter(winner);
-                    System.out.println("   " + winner.getName() + " leaves the battlefield.");
+                    releaseFromStore(winner);
+                    if (SimulationLog.isEnabled()) {
+                        SimulationLog.emit(SimulationEventType.TRANSFER, "   " + winner.getName() + " leaves the battlefield.");
+                    }
                 }
             }
-        }
-    }
-
-    /**
-     * Finds the ClanLeader responsible for a given character based on their origin place.
-     * @param character The character to find the leader for.
-     * @return The corresponding ClanLeader, or null if not found.
-     */
-    private ClanLeader findLeaderForCharacter(AbstractCharacter character) {
-        if (character.getOriginPlace() == null) {
-            return null;
-        }
-        for (ClanLeader leader : this.clanLeaders) {
-            if (leader.getPlace().equals(character.getOriginPlace())) {
-                return leader;
-            }
-        }
-        return null;
+        });
     }
 
     /**
      * Processes the aftermath of a fight for a specific character.
-     * Handle death or fleeing (if on a battlefield).
+     * Handle death or fleeing (if on a battlefield). The dead are removed at once;
+     * a fleeing character leaves at once but only reaches its origin place at the
+     * end of the cycle.
      *
-     * @param currentPlace  The place where the fight occurred.
+     * @param turn          The turn of the place where the fight occurred.
      * @param character     The character involved.
      * @param isBattlefield True if the location is a designated battlefield.
      */
-    private void handlePostFight(AbstractPlace currentPlace, AbstractCharacter character, boolean isBattlefield) {
+    private void handlePostFight(PlaceTurn turn, AbstractCharacter character, boolean isBattlefield) {
+        AbstractPlace currentPlace = turn.getPlace();
         if (!character.isAlive()) {
-            System.out.println("💀 " + character.getName() + " has passed away.");
             currentPlace.deleteCharacter(character);
+            turn.defer(PlaceTurn.Phase.COMBAT, () -> {
+                SimulationLog.publish(SimulationEventType.DEATH, character, currentPlace);
+                releaseFromStore(character);
+            });
         } else if (isBattlefield && character.getHealth() < 30) { // Flee if health is low
             AbstractPlace origin = character.getOriginPlace();
             if (origin != null && origin != currentPlace) {
-                System.out.println("🏃 " + character.getName() + " flees back to " + origin.getName());
                 currentPlace.deleteCharacter(character);
-                try {
-                    origin.addCharacter(character);
-                } catch (Exception e) {
-                    System.out.println("   (But couldn't enter: " + e.getMessage() + ")");
-                }
+                turn.defer(PlaceTurn.Phase.COMBAT, () -> {
+                    SimulationLog.publish(SimulationEventType.FLEE, character, origin);
+                    try {
+                        origin.addCharacter(character);
+                    } catch (Exception e) {
+                        if (SimulationLog.isEnabled()) {
+                            SimulationLog.emit(SimulationEventType.WARNING, "   (But couldn't enter: " + e.getMessage() + ")");
+                        }
+                    }
+                });
             }
         }
     }
 
     /**
-     * Updates biological states of characters (Hunger, Potion effects).
+     * Switches the characters of every place to a columnar {@link CharacterStore}.
+     * <p>
+     * Meant for very large populations: the per-turn update of hunger and potion
+     * levels then becomes a sweep over two primitive arrays instead of a walk over
+     * every character of every place. Characters entering a place later are
+     * attached as well. Calling it again has no effect.
+     * </p>
+     *
+     * @return The store now holding the character stats.
      */
-    private void updateCharactersState() {
-        System.out.println(">> Time passes (Hunger increases, Potion fades)...");
-        for (AbstractPlace place : existantsPlaces) {
-            for (AbstractCharacter c : place.getPresentCharacters()) {
-                if (RANDOM.nextBoolean()) {
-                    c.setHunger(c.getHunger() + 5);
-                }
-                if (c.getLevelMagicPotion() > 0) {
-                    c.setLevelMagicPotion(Math.max(0, c.getLevelMagicPotion() - 5));
-                }
+    public CharacterStore useCharacterStore() {
+        if (characterStore == null) {
+            int population = 0;
+            for (AbstractPlace place : existantsPlaces) {
+                population += place.getNumberPresentCharacters();
+            }
+            characterStore = new CharacterStore(population);
+            for (AbstractPlace place : existantsPlaces) {
+                place.setCharacterStore(characterStore);
             }
         }
+        return characterStore;
     }
 
     /**
-     * Ages the food and removes expired food.
-     * Added an iterator to avoid errors when removing elements within a loop.
+     * Detaches a character leaving the theater for good from the {@link CharacterStore}, if any,
+     * so that its row is freed. Must not be called during the parallel part of a cycle.
+     *
+     * @param character The dead or dismissed character.
      */
-    private void rotFood() {
-        System.out.println(">> Food is aging...");
-        for (AbstractPlace place : existantsPlaces) {
-            // Using an iterator to safely remove elements
-            Iterator<FoodItem> it = place.getPresentFoods().iterator();
-            while (it.hasNext()) {
-                FoodItem food = it.next();
-                if (food.freshnessApplicable() && food.isFresh()) {
-                    food.age();
-                }
-                // If the food is no longer fresh, we can choose to remove it here
-                // or just let it rot. For cleanliness, let's remove what is unusable.
-                if (food.freshnessApplicable() && !food.isFresh()) {
-                    System.out.println("   (Rotten " + food.getName() + " removed from " + place.getName() + ")");
-                    it.remove();
-                }
-            }
+    private void releaseFromStore(AbstractCharacter character) {
+        if (characterStore != null) {
+            characterStore.detach(character);
         }
     }
 
     /**
-     * Randomly spawns new food items in non-battlefield locations.
+     * Updates biological states of the characters of a place (Hunger, Potion effects).
+     * Not used with a {@link CharacterStore}, which updates every attached character at once.
+     *
+     * @param turn The turn of the place.
      */
-    private void spawnFood() {
-        System.out.println(">> Nature offers its gifts...");
-        FoodItemType[] allowedTypes = FoodItemType.values();
+    private void updateCharactersState(PlaceTurn turn) {
+        SplittableRandom random = turn.getRandom();
+        for (AbstractCharacter c : turn.getPlace().getCharactersView()) {
+            if (random.nextBoolean()) {
+                c.setHunger(c.getHunger() + 5);
+            }
+            if (c.getLevelMagicPotion() > 0) {
+                c.setLevelMagicPotion(Math.max(0, c.getLevelMagicPotion() - 5));
+            }
+        }
+    }
 
-        for (AbstractPlace place : existantsPlaces) {
-            if (!(place instanceof Battlefield) && RANDOM.nextInt(100) < 30) {
-                FoodItemType randomType = allowedTypes[RANDOM.nextInt(allowedTypes.length)];
-                FoodItem newItem = new FoodItem(randomType);
-                place.addFood(newItem);
-                System.out.println("🍎 A " + newItem.getName() + " appeared in " + place.getName());
+    /**
+     * Ages the food of a place and removes expired food.
+     * Iterates over a snapshot of the food stock so that items can be removed on the way.
+     *
+     * @param turn The turn of the place.
+     */
+    private void rotFood(PlaceTurn turn) {
+        AbstractPlace place = turn.getPlace();
+        // Iterating over a snapshot so that rotten food can be removed from the place itself
+        for (FoodItem food : place.snapshotFoods()) {
+            if (food.freshnessApplicable() && food.isFresh()) {
+                food.age();
+            }
+            // If the food is no longer fresh, we can choose to remove it here
+            // or just let it rot. For cleanliness, let's remove what is unusable.
+            if (food.freshnessApplicable() && !food.isFresh()) {
+                String foodName = food.getType().getName();
+                turn.defer(PlaceTurn.Phase.ROT, () -> SimulationLog.publish(SimulationEventType.FOOD_ROT,
+                        null, null, place, foodName, 0, 0));
+                place.removeFood(food);
             }
         }
     }
 
+    /**
+     * Randomly spawns new food items in a non-battlefield location.
+     *
+     * @param turn The turn of the place.
+     */
+    private void spawnFood(PlaceTurn turn) {
+        AbstractPlace place = turn.getPlace();
+        SplittableRandom random = turn.getRandom();
+        if (!(place instanceof Battlefield) && random.nextInt(100) < 30) {
+            FoodItemType[] allowedTypes = FoodItemType.values();
+            FoodItemType randomType = allowedTypes[random.nextInt(allowedTypes.length)];
+            place.addFood(new FoodItem(randomType));
+            turn.defer(PlaceTurn.Phase.SPAWN, () -> SimulationLog.publish(SimulationEventType.FOOD_SPAWN,
+                    null, null, place, randomType.getName(), 0, 0));
+        }
+    }
+
     /**
      * Displays the menu for Clan Leaders to perform actions.
      * Used in both Turn-Based mode (every turn) and Simulation mode (on pause).
@@ -525,7 +881,7 @@ public class TheaterInvasion {
      */
     private void performFeedCharacters(ClanLeader leader) {
         AbstractPlace place = leader.getPlace();
-        List<FoodItem> foods = place.getPresentFoods();
+        List<FoodItem> foods = place.getFoodsView();
 
         // CORRECTION: Strict verification and requested English message
         if (foods.isEmpty()) {
@@ -542,18 +898,12 @@ public class TheaterInvasion {
         // LOGIC CORRECTION: Once used, we consider the food consumed.
         // Here, we systematically remove it to avoid the "0 people fed" bug on next click
         // (Assuming feedAllCharacters consumes the entire stock of this item).
-        foods.remove(0);
+        place.removeFood(food);
         System.out.println("(The food item " + food.getName() + " was consumed and removed from storage.)");
     }
 
     private void performAskPotion(ClanLeader leader) {
-        Druid druid = null;
-        for (AbstractCharacter c : leader.getPlace().getPresentCharacters()) {
-            if (c instanceof Druid) {
-                druid = (Druid) c;
-                break;
-            }
-        }
+        Druid druid = leader.getPlace().findFirstOfType(Druid.class);
         if (druid == null) {
             System.out.println("No Druid available to brew potion!");
         } else {
@@ -565,13 +915,7 @@ public class TheaterInvasion {
     }
 
     private void performGivePotion(ClanLeader leader, Scanner scanner) {
-        Druid druid = null;
-        for (AbstractCharacter c : leader.getPlace().getPresentCharacters()) {
-            if (c instanceof Druid) {
-                druid = (Druid) c;
-                break;
-            }
-        }
+        Druid druid = leader.getPlace().findFirstOfType(Druid.class);
 
         if (druid == null) {
             System.out.println("No Druid to brew the potion first!");
@@ -635,32 +979,35 @@ public class TheaterInvasion {
         }
     }
 
+    /**
+     * Runs a cycle then the user turn, over and over, one cycle every turn period at most.
+     */
     public void run() {
         Scanner scanner = new Scanner(System.in, StandardCharsets.UTF_8);
-        int turn = 0;
-
-        while (true) {
-            turn++;
-            System.out.println("\n╔════════════════════════════════════╗");
-            System.out.println("║        NEW CYCLE (Turn " + turn + ")        ║");
-            System.out.println("╚════════════════════════════════════╝");
-
-            handleCombats();
-            updateCharactersState();
-            spawnFood();
-            rotFood();
+        SimulationScheduler scheduler = createScheduler("game", () -> {
+            runNextCycle();
             handleUserTurn(scanner);
-
-            try {
-                Thread.sleep(1500);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
+        });
+        scheduler.start();
+        try {
+            scheduler.awaitTermination();
+        } catch (InterruptedException e) {
+            scheduler.stop();
+            Thread.currentThread().interrupt();
         }
     }
 
+    /**
+     * Attaches a colony to the theater. The colony evolves its packs with the same number of
+     * threads as the theater processes its places.
+     *
+     * @param colony The colony, or null.
+     */
     public void setColony(Colony colony) {
         this.colony = colony;
+        if (colony != null) {
+            colony.setParallelism(getParallelism());
+        }
     }
 
     public Colony getColony() {
@@ -1,7 +1,6 @@
 package org.example.ui;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.example.model.character.AbstractCharacter;
@@ -9,11 +8,14 @@ import org.example.model.character.gallic.Druid;
 import org.example.model.character.gallic.Gallic;
 import org.example.model.character.roman.Legionary;
 import org.example.model.clanLeader.ClanLeader;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 import org.example.model.food.FoodItem;
 import org.example.model.places.AbstractPlace;
 import org.example.model.places.Battlefield;
 import org.example.model.places.Enclosure;
 import org.example.model.potion.Potion;
+import org.example.model.registry.EntityRegistry;
 import org.example.model.theaterInvasion.TheaterInvasion;
 
 import javafx.geometry.Insets;
@@ -123,12 +125,7 @@ public class ControlPanel {
         AbstractCharacter selectedChar = selectionModel.getSelectedCharacter();
         boolean canReturn = false;
         if (selectedChar != null) {
-            for (AbstractPlace place : game.getExistantsPlaces()) {
-                if (place instanceof Battlefield && place.getPresentCharacters().contains(selectedChar)) {
-                    canReturn = true;
-                    break;
-                }
-            }
+            canReturn = EntityRegistry.placeOf(selectedChar) instanceof Battlefield;
         }
         btnReturn.setDisable(!canReturn);
     }
@@ -173,7 +170,7 @@ public class ControlPanel {
         btnHeal.setOnAction(e -> {
             if (getSelectedLeader() != null) {
                 getSelectedLeader().healAllCharacters();
-                System.out.println("✨ Area heal performed.");
+                SimulationLog.emit(SimulationEventType.INFO, "✨ Area heal performed.");
                 refreshCallback.run();
             }
         });
@@ -203,16 +200,15 @@ public class ControlPanel {
         btnColonyStats.setOnAction(e -> {
             if (game.getColony() != null) {
                 game.getColony().displayColonyStats();
-                game.getColony().displayAllWerewolves();
             } else {
-                System.out.println("❌ Aucune colonie active.");
+                SimulationLog.emit(SimulationEventType.WARNING, "❌ Aucune colonie active.");
             }
         });
 
         Button btnForceReproduction = UIStyles.createStyledButton("💕 Forcer Repro.", "#e84393");
         btnForceReproduction.setOnAction(e -> {
             if (game.getColony() != null && !game.getColony().getPacks().isEmpty()) {
-                System.out.println("💕 Déclenchement manuel de la saison des amours...");
+                SimulationLog.emit(SimulationEventType.INFO, "💕 Déclenchement manuel de la saison des amours...");
                 game.getColony().getPacks().get(0).reproduce();
                 refreshCallback.run();
             }
@@ -221,7 +217,7 @@ public class ControlPanel {
         Button btnHowl = UIStyles.createStyledButton("📢 Hurlement", "#34495e");
         btnHowl.setOnAction(e -> {
             if (game.getColony() != null) {
-                System.out.println("📢 Un hurlement résonne dans la colonie...");
+                SimulationLog.emit(SimulationEventType.INFO, "📢 Un hurlement résonne dans la colonie...");
                 game.getColony().displayAllWerewolves();
             }
         });
@@ -258,7 +254,7 @@ public class ControlPanel {
                                             case "Merchant" -> leader.createGallicCharacter(name, org.example.model.character.gallic.Merchant.class);
                                             default -> leader.createGallicCharacter(name, Gallic.class);
                                         }
-                                        System.out.println("✅ Recruit: " + name + " (" + gallicType + ")");
+                                        SimulationLog.emit(SimulationEventType.INFO, "✅ Recruit: " + name + " (" + gallicType + ")");
                                         refreshCallback.run();
                                     });
                                 });
@@ -271,7 +267,7 @@ public class ControlPanel {
                                 case "Romain" -> leader.createRomanCharacter(name, Legionary.class);
                                 case "Loup-Garou" -> leader.createWerewolf(name);
                             }
-                            System.out.println("✅ Recruit: " + name + " (" + type + ")");
+                            SimulationLog.emit(SimulationEventType.INFO, "✅ Recruit: " + name + " (" + type + ")");
                             refreshCallback.run();
                         });
                     }
@@ -283,16 +279,14 @@ public class ControlPanel {
         AbstractCharacter character = selectionModel.getSelectedCharacter();
         if (leader == null || character == null) return;
 
-        Optional<AbstractPlace> sourcePlaceOpt = game.getExistantsPlaces().stream()
-                .filter(p -> p.getPresentCharacters().contains(character))
-                .findFirst();
+        AbstractPlace sourcePlace = EntityRegistry.placeOf(character);
 
-        if (sourcePlaceOpt.isPresent()) {
-            leader.returnCharacter(character, sourcePlaceOpt.get());
+        if (sourcePlace != null) {
+            leader.returnCharacter(character, sourcePlace);
             selectionModel.clearSelection();
             refreshCallback.run();
         } else {
-            System.out.println("❌ Could not find the source place for " + character.getName());
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ Could not find the source place for " + character.getName());
         }
     }
 
@@ -300,14 +294,14 @@ public class ControlPanel {
         ClanLeader leader = getSelectedLeader();
         if (leader != null) {
             AbstractPlace place = leader.getPlace();
-            if (!place.getPresentFoods().isEmpty()) {
-                FoodItem food = place.getPresentFoods().get(0);
+            if (place.getNumberPresentFoods() > 0) {
+                FoodItem food = place.getFoodsView().get(0);
                 leader.feedAllCharacters(food);
-                place.getPresentFoods().remove(0);
-                System.out.println("🍖 Banquet held with : " + food.getName());
+                place.removeFood(food);
+                SimulationLog.emit(SimulationEventType.INFO, "🍖 Banquet held with : " + food.getName());
                 refreshCallback.run();
             } else {
-                System.out.println("❌ Pantry is empty!");
+                SimulationLog.emit(SimulationEventType.WARNING, "❌ Pantry is empty!");
             }
         }
     }
@@ -318,9 +312,9 @@ public class ControlPanel {
         Druid druid = findDruid(leader.getPlace());
         if (druid != null) {
             leader.askDruidForPotion(druid);
-            System.out.println("🧪 Druid " + druid.getName() + " prepared a potion!");
+            SimulationLog.emit(SimulationEventType.INFO, "🧪 Druid " + druid.getName() + " prepared a potion!");
         } else {
-            System.out.println("❌ No Druid available here!");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ No Druid available here!");
         }
     }
 
@@ -329,7 +323,7 @@ public class ControlPanel {
         if (leader == null) return;
         Druid druid = findDruid(leader.getPlace());
         if (druid == null) {
-            System.out.println("❌ Impossible: No Druid to brew the potion.");
+            SimulationLog.emit(SimulationEventType.WARNING, "❌ Impossible: No Druid to brew the potion.");
             return;
         }
         List<AbstractCharacter> chars = leader.getPlace().getPresentCharacters();
@@ -340,7 +334,7 @@ public class ControlPanel {
         ).ifPresent(target -> {
             Potion p = leader.askDruidForPotion(druid);
             leader.givePotionToCharacter(target, p);
-            System.out.println("🍺 " + target.getName() + " drinks the potion (Strength++ !)");
+            SimulationLog.emit(SimulationEventType.INFO, "🍺 " + target.getName() + " drinks the potion (Strength++ !)");
             refreshCallback.run();
         });
     }
@@ -349,7 +343,7 @@ public class ControlPanel {
         ClanLeader leader = getSelectedLeader();
         if (leader == null) return;
         List<AbstractCharacter> chars = leader.getPlace().getPresentCharacters();
-        if (chars.isEmpty()) { System.out.println("❌ No one to transfer."); return; }
+        if (chars.isEmpty()) { SimulationLog.emit(SimulationEventType.WARNING, "❌ No one to transfer."); return; }
 
         UIStyles.showCustomChoiceDialog("Transfer - Step 1", "Who to move?", "Character :", chars,
                 new CharacterNameConverter()
@@ -360,17 +354,14 @@ public class ControlPanel {
             ).ifPresent(destination -> {
                 if (destination instanceof Battlefield) leader.transferToBattlefield(characterToMove, (Battlefield) destination);
                 else if (destination instanceof Enclosure) leader.transferToEnclosure(characterToMove, (Enclosure) destination);
-                else System.out.println("⚠️ Transfer to this place type not supported.");
+                else SimulationLog.emit(SimulationEventType.WARNING, "⚠️ Transfer to this place type not supported.");
                 refreshCallback.run();
             });
         });
     }
 
     private Druid findDruid(AbstractPlace place) {
-        for (AbstractCharacter c : place.getPresentCharacters()) {
-            if (c instanceof Druid) return (Druid) c;
-        }
-        return null;
+        return place.findFirstOfType(Druid.class);
     }
 
     // Static inner classes for StringConverters (avoids SpotBugs SIC_INNER_SHOULD_BE_STATIC_ANON)
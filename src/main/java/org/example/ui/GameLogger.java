@@ -10,25 +10,38 @@ import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 
-import java.io.OutputStream;
-import java.io.PrintStream;
-import java.nio.charset.StandardCharsets;
+import org.example.model.event.SimulationEvent;
+import org.example.model.event.SimulationEventBus;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
+
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Manages the redirection of System.out to a JavaFX ListView.
- * Handles styling of log entries based on content (e.g., combat, death).
+ * Displays the simulation events in a JavaFX ListView.
+ * <p>
+ * The logger subscribes to the simulation event bus. On each publication it
+ * only schedules a refresh on the JavaFX thread (at most one pending at a
+ * time); the refresh then reads the new events from the bus ring buffer and
+ * builds one styled card per event, based on its type.
+ * </p>
  */
 public class GameLogger {
 
     private final ListView<Node> eventLogList;
+    private final SimulationEventBus bus;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private long cursor;
 
     public GameLogger() {
         this.eventLogList = new ListView<>();
         this.eventLogList.setStyle("-fx-background-color: white; -fx-border-radius: 5;");
         this.eventLogList.setPlaceholder(new Label("No events yet..."));
 
-        // Start capturing console output immediately
-        redirectSystemOut();
+        // Start listening to the simulation immediately
+        this.bus = SimulationLog.getBus();
+        this.cursor = bus.getNextSequence();
+        bus.subscribe(event -> scheduleDrain());
     }
 
     public ListView<Node> getView() {
@@ -39,46 +52,66 @@ public class GameLogger {
         eventLogList.getItems().clear();
     }
 
+    /**
+     * Asks the JavaFX thread to read the pending events, unless it is already planned.
+     */
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::drain);
+        }
+    }
+
+    /**
+     * Reads every event published since the last call and adds them to the list.
+     */
+    private void drain() {
+        drainScheduled.set(false);
+        long skipped = bus.getOldestSequence() - cursor;
+        if (skipped > 0) {
+            addCard("⏩", skipped + " events skipped", Color.web("#fafafa"), Color.LIGHTGRAY, Color.GRAY);
+        }
+        cursor = bus.drain(cursor, this::addStyledLogEntry);
+        scrollToBottom();
+    }
+
     /**
      * Creates a styled graphic card for a log entry.
      *
-     * @param text The log text.
+     * @param event The event to display.
      */
-    private void addStyledLogEntry(String text) {
+    private void addStyledLogEntry(SimulationEvent event) {
+        String text = event.describe();
         if (text == null || text.trim().isEmpty()) return;
         text = text.trim();
 
-        String icon = "ℹ️";
-        Color bgColor = Color.web("#ffffff");
-        Color stripeColor = Color.LIGHTGRAY;
-
-        // Header detection
-        if (text.contains("NOUVEAU CYCLE") || text.contains("NEW CYCLE")) {
-            Label header = new Label(text);
-            header.setStyle("-fx-font-weight: bold; -fx-text-fill: #2c3e50; -fx-font-size: 14px;");
-            HBox container = new HBox(header);
-            container.setAlignment(Pos.CENTER);
-            container.setStyle("-fx-background-color: #ecf0f1; -fx-padding: 5; -fx-background-radius: 5;");
-            eventLogList.getItems().add(container);
-            scrollToBottom();
+        // Cycle header: the frame lines around it are not displayed
+        if (event.getType() == SimulationEventType.CYCLE) {
+            if (text.contains("CYCLE")) {
+                Label header = new Label(text.replace("║", "").trim());
+                header.setStyle("-fx-font-weight: bold; -fx-text-fill: #2c3e50; -fx-font-size: 14px;");
+                HBox container = new HBox(header);
+                container.setAlignment(Pos.CENTER);
+                container.setStyle("-fx-background-color: #ecf0f1; -fx-padding: 5; -fx-background-radius: 5;");
+                eventLogList.getItems().add(container);
+            }
             return;
         }
 
-        // Event type detection
-        if (text.contains("Combat") || text.contains("dmg") || text.contains("dégâts")) {
-            icon = "⚔️"; bgColor = Color.web("#fff0f0"); stripeColor = Color.RED;
-        } else if (text.contains("mort") || text.contains("died") || text.contains("💀")) {
-            icon = "💀"; bgColor = Color.web("#2c3e50"); stripeColor = Color.BLACK;
-        } else if (text.contains("soin") || text.contains("heal") || text.contains("PV") || text.contains("HP")) {
-            icon = "💚"; bgColor = Color.web("#f0fff4"); stripeColor = Color.GREEN;
-        } else if (text.contains("Nourriture") || text.contains("Food") || text.contains("Miam")) {
-            icon = "🍖"; bgColor = Color.web("#fff8e1"); stripeColor = Color.ORANGE;
-        } else if (text.contains("Potion") || text.contains("Druid")) {
-            icon = "🧪"; bgColor = Color.web("#f3e5f5"); stripeColor = Color.PURPLE;
-        } else if (text.contains("Transfér") || text.contains("Transfer")) {
-            icon = "🚚"; bgColor = Color.web("#e3f2fd"); stripeColor = Color.DARKBLUE;
+        switch (event.getType()) {
+            case FIGHT -> addCard("⚔️", text, Color.web("#fff0f0"), Color.RED, Color.BLACK);
+            case DEATH -> addCard("💀", text, Color.web("#2c3e50"), Color.BLACK, Color.WHITE);
+            case VICTORY -> addCard("🏆", text, Color.web("#fffde7"), Color.GOLD, Color.BLACK);
+            case HEAL -> addCard("💚", text, Color.web("#f0fff4"), Color.GREEN, Color.BLACK);
+            case FEED, FOOD_SPAWN, FOOD_ROT -> addCard("🍖", text, Color.web("#fff8e1"), Color.ORANGE, Color.BLACK);
+            case POTION -> addCard("🧪", text, Color.web("#f3e5f5"), Color.PURPLE, Color.BLACK);
+            case TRANSFER, FLEE -> addCard("🚚", text, Color.web("#e3f2fd"), Color.DARKBLUE, Color.BLACK);
+            case HOWL, BIRTH, RANK_CHANGE, COLONY -> addCard("🐺", text, Color.web("#eceff1"), Color.SLATEGRAY, Color.BLACK);
+            case WARNING -> addCard("⚠️", text, Color.web("#fffbea"), Color.GOLDENROD, Color.BLACK);
+            default -> addCard("ℹ️", text, Color.web("#ffffff"), Color.LIGHTGRAY, Color.BLACK);
         }
+    }
 
+    private void addCard(String icon, String text, Color bgColor, Color stripeColor, Color textColor) {
         HBox card = new HBox(10);
         card.setAlignment(Pos.CENTER_LEFT);
         card.setPadding(new Insets(8));
@@ -93,46 +126,15 @@ public class GameLogger {
         Label msgLbl = new Label(text);
         msgLbl.setWrapText(true);
         msgLbl.setMaxWidth(350);
-        if (icon.equals("💀")) msgLbl.setTextFill(Color.WHITE);
+        msgLbl.setTextFill(textColor);
 
         card.getChildren().addAll(stripe, iconLbl, msgLbl);
         card.setBackground(new Background(new BackgroundFill(bgColor, new CornerRadii(5), Insets.EMPTY)));
 
         eventLogList.getItems().add(card);
-        scrollToBottom();
     }
 
     private void scrollToBottom() {
         eventLogList.scrollTo(eventLogList.getItems().size() - 1);
     }
-
-    /**
-     * Intercepts System.out.println calls to redirect them to the GUI.
-     * Uses UTF-8 to preserve emojis and removes ANSI color codes.
-     */
-    private void redirectSystemOut() {
-        OutputStream out = new OutputStream() {
-            private final java.io.ByteArrayOutputStream buffer = new java.io.ByteArrayOutputStream();
-
-            @Override
-            public void write(int b) {
-                if (b == '\n') {
-                    String text = buffer.toString(StandardCharsets.UTF_8);
-                    buffer.reset();
-                    // Clean ANSI codes
-                    String cleanText = text.replaceAll("\\x1B\\[[;\\d]*m", "").trim();
-                    if (!cleanText.isEmpty()) {
-                        Platform.runLater(() -> addStyledLogEntry(cleanText));
-                    }
-                } else {
-                    buffer.write(b);
-                }
-            }
-        };
-        try {
-            System.setOut(new PrintStream(out, true, StandardCharsets.UTF_8));
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,114 @@
+package org.example.ui;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.places.AbstractPlace;
+import org.example.model.places.Battlefield;
+import org.example.model.places.GallicVillage;
+import org.example.model.places.RomanFortifiedCamp;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * What the center panel shows for one place, computed without touching JavaFX.
+ * <p>
+ * {@link PlacesView} turns these cards into nodes. Keeping the data preparation
+ * apart lets it be measured and tested on its own.
+ * </p>
+ */
+public final class PlaceCard {
+
+    /** Health below which a character tag is highlighted. */
+    static final int LOW_HEALTH = 30;
+
+    private final String name;
+    private final String typeEmoji;
+    private final boolean battlefield;
+    private final List<Tag> tags;
+    private final String foodText;
+
+    private PlaceCard(String name, String typeEmoji, boolean battlefield, List<Tag> tags, String foodText) {
+        this.name = name;
+        this.typeEmoji = typeEmoji;
+        this.battlefield = battlefield;
+        this.tags = tags;
+        this.foodText = foodText;
+    }
+
+    /**
+     * Prepares the cards of several places.
+     *
+     * @param places   The places to display.
+     * @param selected The currently selected character, or null.
+     * @return One card per place, in the same order.
+     */
+    public static List<PlaceCard> prepare(List<AbstractPlace> places, AbstractCharacter selected) {
+        List<PlaceCard> cards = new ArrayList<>(places.size());
+        for (AbstractPlace place : places) {
+            cards.add(of(place, selected));
+        }
+        return cards;
+    }
+
+    /**
+     * Prepares the card of one place.
+     *
+     * @param place    The place to display.
+     * @param selected The currently selected character, or null.
+     * @return The card of the place.
+     */
+    public static PlaceCard of(AbstractPlace place, AbstractCharacter selected) {
+        String typeEmoji = "📍";
+        if (place instanceof Battlefield) typeEmoji = "⚔️";
+        else if (place instanceof GallicVillage) typeEmoji = "🏡";
+        else if (place instanceof RomanFortifiedCamp) typeEmoji = "🏰";
+
+        List<Tag> tags = new ArrayList<>(place.getNumberPresentCharacters());
+        for (AbstractCharacter c : place.getCharactersView()) {
+            String label = UIStyles.getIconFor(c) + " " + c.getName() + " (" + c.getHealth() + ")";
+            tags.add(new Tag(c, label, c.getHealth() < LOW_HEALTH, c.equals(selected)));
+        }
+
+        int foodCount = place.getNumberPresentFoods();
+        String foodText = foodCount == 0 ? "Empty" : foodCount + " items";
+        return new PlaceCard(place.getName(), typeEmoji, place instanceof Battlefield,
+                Collections.unmodifiableList(tags), foodText);
+    }
+
+    public String getName() { return name; }
+
+    public String getTypeEmoji() { return typeEmoji; }
+
+    public boolean isBattlefield() { return battlefield; }
+
+    public List<Tag> getTags() { return tags; }
+
+    public String getFoodText() { return foodText; }
+
+    /**
+     * One character button of a card.
+     */
+    public static final class Tag {
+
+        private final AbstractCharacter character;
+        private final String label;
+        private final boolean lowHealth;
+        private final boolean selected;
+
+        private Tag(AbstractCharacter character, String label, boolean lowHealth, boolean selected) {
+            this.character = character;
+            this.label = label;
+            this.lowHealth = lowHealth;
+            this.selected = selected;
+        }
+
+        public AbstractCharacter getCharacter() { return character; }
+
+        public String getLabel() { return label; }
+
+        public boolean isLowHealth() { return lowHealth; }
+
+        public boolean isSelected() { return selected; }
+    }
+}
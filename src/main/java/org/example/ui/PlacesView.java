@@ -13,7 +13,7 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import org.example.model.character.AbstractCharacter;
-import org.example.model.places.*;
+import org.example.model.places.AbstractPlace;
 
 import java.util.List;
 
@@ -52,10 +52,12 @@ public class PlacesView {
      * @param places List of active places in the game.
      */
     public void refresh(List<AbstractPlace> places) {
+        List<PlaceCard> cards = PlaceCard.prepare(places, selectionModel.getSelectedCharacter());
+
         container.getChildren().clear();
         characterToggleGroup.getToggles().clear();
 
-        for (AbstractPlace place : places) {
+        for (PlaceCard data : cards) {
             VBox card = new VBox(8);
             card.setPadding(new Insets(10));
             card.setStyle("-fx-background-color: white; -fx-background-radius: 8; -fx-effect: dropshadow(three-pass-box, rgba(0,0,0,0.05), 5, 0, 0, 0);");
@@ -63,18 +65,15 @@ public class PlacesView {
             // Header
             HBox header = new HBox(10);
             header.setAlignment(Pos.CENTER_LEFT);
-            Label nameLbl = new Label(place.getName());
+            Label nameLbl = new Label(data.getName());
             nameLbl.setFont(Font.font("Segoe UI", FontWeight.BOLD, 16));
 
-            String typeEmoji = "📍";
-            if (place instanceof Battlefield) {
-                typeEmoji = "⚔️";
+            if (data.isBattlefield()) {
                 card.setStyle("-fx-background-color: #fff5f5; -fx-background-radius: 8; -fx-border-color: #e74c3c; -fx-border-radius: 8;");
                 nameLbl.setTextFill(Color.web("#c0392b"));
-            } else if (place instanceof GallicVillage) typeEmoji = "🏡";
-            else if (place instanceof RomanFortifiedCamp) typeEmoji = "🏰";
+            }
 
-            Label icon = new Label(typeEmoji);
+            Label icon = new Label(data.getTypeEmoji());
             icon.setFont(Font.font(20));
             header.getChildren().addAll(icon, nameLbl);
 
@@ -82,21 +81,21 @@ public class PlacesView {
             FlowPane charsFlow = new FlowPane();
             charsFlow.setHgap(5); charsFlow.setVgap(5);
 
-            if (place.getPresentCharacters().isEmpty()) {
+            if (data.getTags().isEmpty()) {
                 Label empty = new Label("Place is empty...");
                 empty.setTextFill(Color.GRAY);
                 charsFlow.getChildren().add(empty);
             } else {
-                for (AbstractCharacter c : place.getPresentCharacters()) {
-                    ToggleButton charTag = new ToggleButton(UIStyles.getIconFor(c) + " " + c.getName() + " (" + c.getHealth() + ")");
-                    charTag.setUserData(c);
+                for (PlaceCard.Tag tag : data.getTags()) {
+                    ToggleButton charTag = new ToggleButton(tag.getLabel());
+                    charTag.setUserData(tag.getCharacter());
                     charTag.setToggleGroup(characterToggleGroup);
                     charTag.setStyle("-fx-background-color: #ecf0f1; -fx-padding: 3 8; -fx-background-radius: 15; -fx-font-size: 11px;");
                     // Highlight low health
-                    if (c.getHealth() < 30)
+                    if (tag.isLowHealth())
                         charTag.setStyle("-fx-background-color: #ffcdd2; -fx-text-fill: #c62828; -fx-padding: 3 8; -fx-background-radius: 15; -fx-font-size: 11px;");
 
-                    if (c.equals(selectionModel.getSelectedCharacter())) {
+                    if (tag.isSelected()) {
                         charTag.setSelected(true);
                     }
                     charsFlow.getChildren().add(charTag);
@@ -108,8 +107,7 @@ public class PlacesView {
             foodBox.setAlignment(Pos.CENTER_LEFT);
             Label foodIcon = new Label("🍎 Stocks:");
             foodIcon.setStyle("-fx-font-weight: bold; -fx-font-size: 11px;");
-            String foodTxt = place.getPresentFoods().isEmpty() ? "Empty" : place.getPresentFoods().size() + " items";
-            Label foodLbl = new Label(foodTxt);
+            Label foodLbl = new Label(data.getFoodText());
             foodLbl.setFont(Font.font(11));
             foodBox.getChildren().addAll(foodIcon, foodLbl);
 
@@ -117,4 +115,4 @@ public class PlacesView {
             container.getChildren().add(card);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,376 @@
+package org.example.utils;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.gallic.Blacksmith;
+import org.example.model.character.gallic.Druid;
+import org.example.model.character.gallic.Gallic;
+import org.example.model.character.gallic.Innkeeper;
+import org.example.model.character.gallic.Merchant;
+import org.example.model.character.roman.General;
+import org.example.model.character.roman.Legionary;
+import org.example.model.character.roman.Prefect;
+import org.example.model.character.roman.Roman;
+import org.example.model.character.werewolf.AgeCategory;
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.clanLeader.ClanLeader;
+import org.example.model.colony.Colony;
+import org.example.model.food.FoodItem;
+import org.example.model.food.FoodItemType;
+import org.example.model.pack.Pack;
+import org.example.model.pack.Rank;
+import org.example.model.places.*;
+import org.example.model.random.SimulationRandom;
+import org.example.model.theaterInvasion.TheaterInvasion;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Builds worlds of any size, for load tests and benchmarks.
+ * <p>
+ * Where {@link GameInitializer} always builds the same small scenario, the
+ * generator creates a number of places of each {@link TypePlace}, fills each
+ * one with characters whose stats follow bell curves around plausible values,
+ * gives a {@link ClanLeader} to every place except battlefields, and spreads
+ * the werewolves of the enclosures over the packs of a {@link Colony}.
+ * </p>
+ * <p>
+ * Characters are created one at a time and added straight to their place, so
+ * no list of the whole population is ever built. The same seed and settings
+ * always give the same world: the seed is also given to
+ * {@link SimulationRandom}, so the packs and the theater get replayable streams too.
+ * </p>
+ */
+public class WorldGenerator {
+
+    private static final int PLACE_SURFACE = 1000;
+    private static final int BATTLEFIELD_SURFACE = 5000;
+
+    private final long seed;
+    private final Map<TypePlace, Integer> placeCounts = new EnumMap<>(TypePlace.class);
+    private int charactersPerPlace = 10;
+    private int foodsPerPlace = 2;
+    private int packCount = 1;
+
+    /**
+     * Creates a generator building one place of each type, with 10 characters per place,
+     * 2 food items per place and 1 pack.
+     *
+     * @param seed The seed of the generated world.
+     */
+    public WorldGenerator(long seed) {
+        this.seed = seed;
+        setPlacesPerType(1);
+    }
+
+    /**
+     * Sets the number of places of every type.
+     *
+     * @param count The number of places per type.
+     * @return This generator.
+     */
+    public WorldGenerator setPlacesPerType(int count) {
+        for (TypePlace type : TypePlace.values()) {
+            setPlaceCount(type, count);
+        }
+        return this;
+    }
+
+    /**
+     * Sets the number of places of one type.
+     *
+     * @param type  The type of place.
+     * @param count The number of places of this type.
+     * @return This generator.
+     * @throws IllegalArgumentException if the count is negative.
+     */
+    public WorldGenerator setPlaceCount(TypePlace type, int count) {
+        placeCounts.put(type, requirePositive(count, "Place count"));
+        return this;
+    }
+
+    /**
+     * Sets the number of characters created in each place.
+     *
+     * @param count The number of characters per place.
+     * @return This generator.
+     * @throws IllegalArgumentException if the count is negative.
+     */
+    public WorldGenerator setCharactersPerPlace(int count) {
+        this.charactersPerPlace = requirePositive(count, "Characters per place");
+        return this;
+    }
+
+    /**
+     * Sets the number of food items put in each place, except battlefields.
+     *
+     * @param count The number of food items per place.
+     * @return This generator.
+     * @throws IllegalArgumentException if the count is negative.
+     */
+    public WorldGenerator setFoodsPerPlace(int count) {
+        this.foodsPerPlace = requirePositive(count, "Foods per place");
+        return this;
+    }
+
+    /**
+     * Sets the number of packs of the colony. Packs are only created if there is
+     * at least one enclosure; with 0, the theater has no colony.
+     *
+     * @param count The number of packs.
+     * @return This generator.
+     * @throws IllegalArgumentException if the count is negative.
+     */
+    public WorldGenerator setPackCount(int count) {
+        this.packCount = requirePositive(count, "Pack count");
+        return this;
+    }
+
+    /**
+     * Gets the number of characters the generated world will hold.
+     *
+     * @return The number of characters, pack alphas included.
+     */
+    public long getPopulation() {
+        long places = 0;
+        for (int count : placeCounts.values()) {
+            places += count;
+        }
+        return places * charactersPerPlace;
+    }
+
+    /**
+     * Builds a new world.
+     *
+     * @return The theater holding the generated places, leaders and colony.
+     */
+    public TheaterInvasion generate() {
+        SimulationRandom.setSeed(seed);
+        SplittableRandom random = SimulationRandom.split();
+
+        ArrayList<AbstractPlace> places = new ArrayList<>();
+        ArrayList<ClanLeader> leaders = new ArrayList<>();
+        List<AbstractPlace> gallicHomes = new ArrayList<>();
+        List<AbstractPlace> romanHomes = new ArrayList<>();
+        List<Enclosure> enclosures = new ArrayList<>();
+
+        // Places and leaders first, so that battlefield fighters can get a home
+        for (TypePlace type : TypePlace.values()) {
+            for (int i = 0; i < placeCounts.get(type); i++) {
+                AbstractPlace place = createPlace(type, i);
+                places.add(place);
+                if (type != TypePlace.battlefield) {
+                    leaders.add(new ClanLeader(place.getClanChief(),
+                            random.nextBoolean() ? ClanLeader.Sex.MALE : ClanLeader.Sex.FEMALE,
+                            30 + random.nextInt(40), place));
+                    for (int f = 0; f < foodsPerPlace; f++) {
+                        place.addFood(randomFood(random));
+                    }
+                }
+                switch (type) {
+                    case gallicVillage -> gallicHomes.add(place);
+                    case romanFortifiedCamp -> romanHomes.add(place);
+                    case enclosure -> enclosures.add((Enclosure) place);
+                    default -> { }
+                }
+            }
+        }
+
+        Colony colony = null;
+        if (packCount > 0 && !enclosures.isEmpty()) {
+            colony = new Colony("Colonie", SimulationRandom.split());
+        }
+        List<Pack> packs = new ArrayList<>();
+
+        for (AbstractPlace place : places) {
+            switch (place.getType()) {
+                case gallicVillage -> populate(place, random, place, null);
+                case romanFortifiedCamp -> populate(place, random, null, place);
+                case romanCity, galloRomanVillage -> populate(place, random, null, null);
+                case battlefield -> populateBattlefield(place, random, gallicHomes, romanHomes);
+                case enclosure -> populateEnclosure((Enclosure) place, random, colony, packs);
+            }
+        }
+
+        TheaterInvasion theater = new TheaterInvasion("Armorique " + seed, places.size(), places, leaders);
+        if (colony != null) {
+            theater.setColony(colony);
+        }
+        return theater;
+    }
+
+    private AbstractPlace createPlace(TypePlace type, int index) {
+        String suffix = " " + (index + 1);
+        ArrayList<FoodItem> noFood = new ArrayList<>();
+        return switch (type) {
+            case gallicVillage -> new GallicVillage("Chef gaulois" + suffix, "Village gaulois" + suffix,
+                    PLACE_SURFACE, new ArrayList<>(), noFood);
+            case romanFortifiedCamp -> new RomanFortifiedCamp("Centurion" + suffix, "Camp romain" + suffix,
+                    PLACE_SURFACE, new ArrayList<>(), noFood);
+            case romanCity -> new RomanCity("Préfet" + suffix, "Cité romaine" + suffix,
+                    PLACE_SURFACE, new ArrayList<>(), noFood);
+            case galloRomanVillage -> new GalloRomanVillage("Édile" + suffix, "Village gallo-romain" + suffix,
+                    PLACE_SURFACE, new ArrayList<>(), noFood);
+            case enclosure -> new Enclosure("Gardien" + suffix, "Enclos" + suffix,
+                    PLACE_SURFACE, new ArrayList<>(), noFood);
+            case battlefield -> new Battlefield("Champ de bataille" + suffix,
+                    BATTLEFIELD_SURFACE, new ArrayList<>(), noFood);
+        };
+    }
+
+    /**
+     * Fills a village, camp or city with the inhabitants its type accepts.
+     */
+    private void populate(AbstractPlace place, SplittableRandom random, AbstractPlace gallicHome, AbstractPlace romanHome) {
+        for (int i = 0; i < charactersPerPlace; i++) {
+            String name = place.getName() + " #" + i;
+            AbstractCharacter c = switch (place.getType()) {
+                case gallicVillage -> i == 0 ? stats(new Druid(name, 0, 0, 0), random) : gallic(name, random);
+                case romanFortifiedCamp -> random.nextInt(10) == 0
+                        ? stats(new General(name, 0, 0, 0), random)
+                        : stats(new Legionary(name, 0, 0, 0), random);
+                case galloRomanVillage -> random.nextBoolean() ? gallic(name, random) : roman(name, random);
+                default -> roman(name, random);
+            };
+            c.setOriginPlace(c instanceof Gallic ? (gallicHome != null ? gallicHome : place)
+                    : (romanHome != null ? romanHome : place));
+            place.addCharacter(c);
+        }
+    }
+
+    /**
+     * Fills a battlefield with Gauls and Legionaries coming from the villages and camps.
+     */
+    private void populateBattlefield(AbstractPlace place, SplittableRandom random,
+                                     List<AbstractPlace> gallicHomes, List<AbstractPlace> romanHomes) {
+        for (int i = 0; i < charactersPerPlace; i++) {
+            String name = place.getName() + " #" + i;
+            AbstractCharacter c;
+            if (i % 2 == 0) {
+                c = stats(new Gallic(name, 0, 0, 0), random);
+                c.setOriginPlace(pick(gallicHomes, random));
+            } else {
+                c = stats(new Legionary(name, 0, 0, 0), random);
+                c.setOriginPlace(pick(romanHomes, random));
+            }
+            place.addCharacter(c);
+        }
+    }
+
+    /**
+     * Fills an enclosure with werewolves. The first {@code packCount} enclosures found
+     * each receive the alpha couples of new packs; every other werewolf joins the packs
+     * in turn.
+     */
+    private void populateEnclosure(Enclosure place, SplittableRandom random, Colony colony, List<Pack> packs) {
+        int i = 0;
+        while (colony != null && packs.size() < packCount && i + 2 <= charactersPerPlace) {
+            String name = place.getName() + " #";
+            Werewolf male = werewolf(name + i++, AbstractCharacter.Sex.MALE, AgeCategory.ADULT, random);
+            Werewolf female = werewolf(name + i++, AbstractCharacter.Sex.FEMALE, AgeCategory.ADULT, random);
+            Pack pack = new Pack("Meute " + (packs.size() + 1), male, female);
+            packs.add(pack);
+            colony.addPack(pack);
+            place.addCharacter(male);
+            place.addCharacter(female);
+        }
+        AgeCategory[] ages = AgeCategory.values();
+        for (; i < charactersPerPlace; i++) {
+            AgeCategory age = ages[Math.min(ages.length - 1, weightedAge(random))];
+            Werewolf w = werewolf(place.getName() + " #" + i,
+                    random.nextBoolean() ? AbstractCharacter.Sex.MALE : AbstractCharacter.Sex.FEMALE, age, random);
+            if (!packs.isEmpty()) {
+                Pack pack = packs.get(i % packs.size());
+                pack.addWerewolf(w, age == AgeCategory.YOUNG ? Rank.GAMMA : rankFor(w));
+            }
+            place.addCharacter(w);
+        }
+    }
+
+    private AbstractCharacter gallic(String name, SplittableRandom random) {
+        return switch (random.nextInt(20)) {
+            case 0 -> stats(new Blacksmith(name, 0, 0, 0), random);
+            case 1 -> stats(new Innkeeper(name, 0, 0, 0), random);
+            case 2 -> stats(new Merchant(name, 0, 0, 0), random);
+            default -> stats(new Gallic(name, 0, 0, 0), random);
+        };
+    }
+
+    private AbstractCharacter roman(String name, SplittableRandom random) {
+        return switch (random.nextInt(10)) {
+            case 0 -> stats(new Prefect(name, 0, 0, 0), random);
+            case 1 -> stats(new General(name, 0, 0, 0), random);
+            case 2, 3 -> stats(new Legionary(name, 0, 0, 0), random);
+            default -> stats(new Roman(name, 0, 0, 0), random);
+        };
+    }
+
+    private Werewolf werewolf(String name, AbstractCharacter.Sex sex, AgeCategory age, SplittableRandom random) {
+        Werewolf w = stats(new Werewolf(name, 0, 0, 0), random);
+        w.setSex(sex);
+        w.setAgeCategory(age);
+        w.setAge(switch (age) {
+            case YOUNG -> 1 + random.nextInt(3);
+            case ADULT -> 4 + random.nextInt(8);
+            case OLD -> 12 + random.nextInt(6);
+        });
+        w.setImpetuosityFactor(random.nextDouble());
+        return w;
+    }
+
+    /**
+     * Draws the stats of a character around plausible values.
+     */
+    private static <T extends AbstractCharacter> T stats(T c, SplittableRandom random) {
+        int health = gaussian(random, 100, 15, 40, 200);
+        c.setSex(random.nextBoolean() ? AbstractCharacter.Sex.MALE : AbstractCharacter.Sex.FEMALE);
+        c.setAge(gaussian(random, 35, 12, 16, 90));
+        c.setHeight((float) (1.5 + random.nextDouble() * 0.5));
+        c.setStrength(gaussian(random, 50, 15, 5, 150));
+        c.setStamina(gaussian(random, 30, 10, 0, 80));
+        c.setMaxHealth(health);
+        c.setHealth(health);
+        c.setHunger(random.nextInt(101));
+        c.setBelligerence(random.nextInt(51));
+        return c;
+    }
+
+    private static int gaussian(SplittableRandom random, double mean, double deviation, int min, int max) {
+        int value = (int) Math.round(mean + random.nextGaussian() * deviation);
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /** 0 for young (25%), 1 for adult (60%), 2 for old (15%). */
+    private static int weightedAge(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        return roll < 25 ? 0 : roll < 85 ? 1 : 2;
+    }
+
+    private static Rank rankFor(Werewolf w) {
+        int strength = w.getStrength();
+        if (strength >= 70) return Rank.BETA;
+        if (strength >= 50) return Rank.GAMMA;
+        if (strength >= 35) return Rank.DELTA;
+        if (strength >= 20) return Rank.EPSILON;
+        return Rank.OMEGA;
+    }
+
+    private static FoodItem randomFood(SplittableRandom random) {
+        FoodItemType[] types = FoodItemType.values();
+        return new FoodItem(types[random.nextInt(types.length)]);
+    }
+
+    private static AbstractPlace pick(List<AbstractPlace> homes, SplittableRandom random) {
+        return homes.isEmpty() ? null : homes.get(random.nextInt(homes.size()));
+    }
+
+    private static int requirePositive(int value, String what) {
+        if (value < 0) {
+            throw new IllegalArgumentException(what + " cannot be negative: " + value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.model.character;
+
+import org.example.model.character.gallic.Gallic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'index de présence des personnages
+ */
+class CharacterRosterTest {
+
+    private CharacterRoster<Gallic> roster;
+    private List<Gallic> gauls;
+
+    @BeforeEach
+    void setUp() {
+        roster = new CharacterRoster<>();
+        gauls = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Gallic gallic = new Gallic("Gaulois " + i, 30, 50, 100);
+            gauls.add(gallic);
+            roster.add(gallic);
+        }
+    }
+
+    @Test
+    @DisplayName("Chaque personnage reçoit un identifiant unique")
+    void testIdsAreUnique() {
+        assertNotEquals(gauls.get(0).getId(), gauls.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("La présence ne dépend pas des statistiques du personnage")
+    void testMembershipSurvivesStatChanges() {
+        Gallic gallic = gauls.get(3);
+        gallic.setHealth(12);
+        gallic.setHunger(80);
+
+        assertTrue(roster.contains(gallic));
+        assertTrue(roster.remove(gallic));
+        assertFalse(roster.contains(gallic));
+    }
+
+    @Test
+    @DisplayName("Deux personnages identiques restent distincts")
+    void testEqualCharactersAreDistinct() {
+        Gallic twin = new Gallic("Gaulois 0", 30, 50, 100);
+        assertEquals(gauls.get(0), twin);
+
+        assertFalse(roster.contains(twin));
+        assertTrue(roster.add(twin));
+        assertFalse(roster.add(twin));
+        assertEquals(11, roster.size());
+    }
+
+    @Test
+    @DisplayName("L'ordre d'insertion est conservé après suppressions et compactage")
+    void testOrderIsStableAfterRemovals() {
+        for (int i = 0; i < 10; i += 2) {
+            roster.remove(gauls.get(i));
+        }
+        roster.remove(gauls.get(1));
+
+        List<Gallic> expected = List.of(gauls.get(3), gauls.get(5), gauls.get(7), gauls.get(9));
+        assertEquals(expected, roster.asList());
+        assertEquals(expected, roster.toList());
+        assertSame(gauls.get(7), roster.get(2));
+    }
+
+    @Test
+    @DisplayName("Un itérateur reste valide quand l'accès positionnel compacte le tableau")
+    void testIteratorSurvivesCompaction() {
+        roster.remove(gauls.get(0));
+        roster.remove(gauls.get(1));
+
+        List<Gallic> seen = new ArrayList<>();
+        for (Gallic gallic : roster) {
+            seen.add(gallic);
+            roster.get(0);
+        }
+
+        assertEquals(gauls.subList(2, 10), seen);
+    }
+
+    @Test
+    @DisplayName("Modifier le groupe pendant une itération est détecté")
+    void testIteratorIsFailFast() {
+        Iterator<Gallic> it = roster.iterator();
+        it.next();
+        roster.remove(gauls.get(5));
+
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+
+    @Test
+    @DisplayName("Retirer l'élément courant puis compacter est détecté, pas une NullPointerException")
+    void testIteratorFailsFastAfterCompaction() {
+        for (int i = 0; i < 4; i++) {
+            roster.remove(gauls.get(i));
+        }
+        Iterator<Gallic> it = roster.iterator();
+        Gallic current = it.next();
+        roster.remove(current);
+        // Les cases vides dépassent alors les personnages : le tableau est compacté
+        roster.remove(gauls.get(9));
+
+        assertThrows(ConcurrentModificationException.class, it::hasNext);
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+
+    @Test
+    @DisplayName("Le tirage aléatoire ne renvoie que des membres présents")
+    void testRandomReturnsMembers() {
+        for (int i = 0; i < 7; i++) {
+            roster.remove(gauls.get(i));
+        }
+        Random random = new Random(7);
+        for (int i = 0; i < 50; i++) {
+            assertTrue(roster.contains(roster.random(random)));
+        }
+
+        roster.clear();
+        assertNull(roster.random(random));
+        assertTrue(roster.isEmpty());
+    }
+}
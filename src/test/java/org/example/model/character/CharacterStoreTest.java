@@ -0,0 +1,180 @@
+package org.example.model.character;
+
+import org.example.model.character.gallic.Gallic;
+import org.example.model.character.roman.Legionary;
+import org.example.model.clanLeader.ClanLeader;
+import org.example.model.event.SimulationEventSink;
+import org.example.model.event.SimulationLog;
+import org.example.model.places.AbstractPlace;
+import org.example.model.places.Battlefield;
+import org.example.model.places.GallicVillage;
+import org.example.model.places.RomanFortifiedCamp;
+import org.example.model.theaterInvasion.CombatMode;
+import org.example.model.theaterInvasion.TheaterInvasion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du stockage en colonnes des statistiques des personnages
+ */
+class CharacterStoreTest {
+
+    private CharacterStore store;
+    private Gallic obelix;
+
+    @BeforeEach
+    void setUp() {
+        store = new CharacterStore(4);
+        obelix = new Gallic("Obelix", 30, 90, 120);
+        obelix.setSex(AbstractCharacter.Sex.MALE);
+        obelix.setHunger(10);
+        obelix.setLevelMagicPotion(12);
+    }
+
+    @Test
+    @DisplayName("Un personnage attaché lit et écrit ses statistiques dans le stockage")
+    void testAttachedCharacterIsAView() {
+        int slot = store.attach(obelix);
+        CharacterStore.Cursor cursor = store.cursor().moveTo(slot);
+
+        assertSame(store, obelix.getStore());
+        assertEquals(90, cursor.getStrength());
+        assertEquals(AbstractCharacter.Sex.MALE, cursor.getSex());
+
+        obelix.setHunger(42);
+        assertEquals(42, cursor.getHunger());
+        cursor.setStamina(7);
+        assertEquals(7, obelix.getStamina());
+        assertSame(obelix, cursor.getOwner());
+    }
+
+    @Test
+    @DisplayName("La mort et le plafond de santé fonctionnent en mode colonnes")
+    void testHealthRulesStillApply() {
+        store.attach(obelix);
+
+        obelix.setHealth(500);
+        assertEquals(120, obelix.getHealth());
+
+        obelix.setHealth(-5);
+        assertFalse(obelix.isAlive());
+        assertEquals(0, obelix.getStrength());
+    }
+
+    @Test
+    @DisplayName("Le détachement recopie les valeurs dans l'objet")
+    void testDetachCopiesBack() {
+        store.attach(obelix);
+        obelix.setBelligerence(33);
+        Gallic before = new Gallic("Obelix", 30, 90, 120);
+        before.setSex(AbstractCharacter.Sex.MALE);
+        before.setHunger(10);
+        before.setLevelMagicPotion(12);
+        before.setBelligerence(33);
+        assertEquals(before, obelix);
+
+        store.detach(obelix);
+
+        assertNull(obelix.getStore());
+        assertEquals(-1, obelix.getSlot());
+        assertEquals(33, obelix.getBelligerence());
+        assertEquals(before, obelix);
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("Le passage du temps fait monter la faim et baisser la potion")
+    void testPassTime() {
+        store.attach(obelix);
+        for (int i = 0; i < 200; i++) {
+            store.attach(new Gallic("Gaulois " + i, 20, 10, 100));
+        }
+
+        store.passTime(new Random(1), 5, 5);
+
+        assertEquals(7, obelix.getLevelMagicPotion());
+        assertTrue(obelix.getHunger() == 10 || obelix.getHunger() == 15);
+        int fed = 0;
+        CharacterStore.Cursor cursor = store.cursor();
+        for (int slot = 0; slot < store.size(); slot++) {
+            if (cursor.moveTo(slot).getHunger() > 0 && cursor.getOwner() != obelix) {
+                fed++;
+            }
+        }
+        assertTrue(fed > 50 && fed < 150, "about half of the rows should be hungrier: " + fed);
+
+        store.passTime(new Random(2), 5, 5);
+        store.passTime(new Random(3), 5, 5);
+        assertEquals(0, obelix.getLevelMagicPotion());
+    }
+
+    @Test
+    @DisplayName("Les lignes libérées sont réutilisées")
+    void testSlotsAreReused() {
+        int anonymous = store.allocate();
+        store.release(anonymous);
+
+        assertEquals(anonymous, store.attach(obelix));
+        assertEquals(0, store.cursor().moveTo(anonymous).getBelligerence());
+        assertThrows(IllegalArgumentException.class, () -> store.release(anonymous));
+    }
+
+    @Test
+    @DisplayName("Le passage du temps épargne les lignes mortes")
+    void testPassTimeSkipsDeadRows() {
+        store.attach(obelix);
+        obelix.die();
+        int hunger = obelix.getHunger();
+        int potion = obelix.getLevelMagicPotion();
+
+        for (int i = 0; i < 10; i++) {
+            store.passTime(new Random(i), 5, 5);
+        }
+
+        assertEquals(hunger, obelix.getHunger());
+        assertEquals(potion, obelix.getLevelMagicPotion());
+    }
+
+    @Test
+    @DisplayName("Les morts du théâtre libèrent leur ligne")
+    void testDeadCharactersLeaveTheStore() {
+        SimulationEventSink previousSink = SimulationLog.getSink();
+        SimulationLog.setSink(null);
+        try {
+            GallicVillage village = new GallicVillage("Abraracourcix", "Village", 1000, new ArrayList<>(), new ArrayList<>());
+            RomanFortifiedCamp camp = new RomanFortifiedCamp("Caius", "Babaorum", 1000, new ArrayList<>(), new ArrayList<>());
+            ArrayList<AbstractCharacter> army = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                AbstractCharacter c = i % 2 == 0 ? new Gallic("Gaulois " + i, 30, 60, 100) : new Legionary("Légionnaire " + i, 30, 60, 100);
+                c.setOriginPlace(i % 2 == 0 ? village : camp);
+                army.add(c);
+            }
+            Battlefield battlefield = new Battlefield("Plaine", 5000, army, new ArrayList<>());
+            ArrayList<ClanLeader> leaders = new ArrayList<>();
+            leaders.add(new ClanLeader("Abraracourcix", ClanLeader.Sex.MALE, 50, village));
+            leaders.add(new ClanLeader("Caius", ClanLeader.Sex.MALE, 45, camp));
+            ArrayList<AbstractPlace> places = new ArrayList<>(List.of(village, camp, battlefield));
+            TheaterInvasion theater = new TheaterInvasion("Armorique", places.size(), places, leaders);
+            theater.setSeed(1);
+            theater.setCombatMode(CombatMode.AGGREGATE);
+            CharacterStore theaterStore = theater.useCharacterStore();
+            assertEquals(100, theaterStore.size());
+
+            theater.runHeadless(3, null);
+
+            long dead = army.stream().filter(c -> !c.isAlive()).count();
+            assertTrue(dead > 0);
+            assertEquals(100 - dead, theaterStore.size());
+            assertTrue(army.stream().filter(c -> !c.isAlive()).allMatch(c -> c.getStore() == null));
+        } finally {
+            SimulationLog.setSink(previousSink);
+        }
+    }
+}
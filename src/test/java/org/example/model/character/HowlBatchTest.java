@@ -0,0 +1,138 @@
+package org.example.model.character;
+
+import org.example.model.character.werewolf.HowlBatch;
+import org.example.model.character.werewolf.HowlType;
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.event.SimulationEventSink;
+import org.example.model.event.SimulationLog;
+import org.example.model.pack.Pack;
+import org.example.model.pack.Rank;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la propagation groupée des hurlements
+ */
+class HowlBatchTest {
+
+    private static final Rank[] RANKS = {Rank.BETA, Rank.GAMMA, Rank.DELTA, Rank.EPSILON, Rank.OMEGA};
+    private static final HowlType[] SCRIPT = {
+            HowlType.DOMINATION, HowlType.SUBMISSION, HowlType.JOY, HowlType.DOMINATION,
+            HowlType.BELONGING, HowlType.SUBMISSION, HowlType.SADNESS
+    };
+
+    private SimulationEventSink previousSink;
+
+    @BeforeEach
+    void setUp() {
+        previousSink = SimulationLog.getSink();
+        SimulationLog.setSink(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SimulationLog.setSink(previousSink);
+    }
+
+    private Pack createPack(String name, int size) {
+        Werewolf male = new Werewolf(name + " Alpha", 30, 80, 100);
+        male.setSex(AbstractCharacter.Sex.MALE);
+        Werewolf female = new Werewolf(name + " Alpha F", 30, 70, 100);
+        female.setSex(AbstractCharacter.Sex.FEMALE);
+        Pack pack = new Pack(name, male, female);
+        for (int i = 0; i < size; i++) {
+            Werewolf w = new Werewolf(name + i, 30, 40, 100);
+            w.setSex(i % 2 == 0 ? AbstractCharacter.Sex.MALE : AbstractCharacter.Sex.FEMALE);
+            w.setImpetuosityFactor(0);
+            pack.addWerewolf(w, RANKS[i % RANKS.length]);
+        }
+        pack.getAlphaMale().setImpetuosityFactor(0);
+        pack.getAlphaFemale().setImpetuosityFactor(0);
+        return pack;
+    }
+
+    @Test
+    @DisplayName("Le lot donne les mêmes facteurs de domination que les hurlements un par un")
+    void testSameEffectAsSequentialHowls() {
+        Pack sequential = createPack("Seq", 40);
+        Pack batched = createPack("Lot", 40);
+        List<Werewolf> seqMembers = sequential.getMembers();
+        List<Werewolf> lotMembers = batched.getMembers();
+
+        HowlBatch batch = new HowlBatch(batched);
+        for (int i = 0; i < seqMembers.size(); i += 3) {
+            HowlType type = SCRIPT[i % SCRIPT.length];
+            seqMembers.get(i).howl(type);
+            batch.add(lotMembers.get(i), type);
+        }
+        batched.notifyHowls(batch);
+
+        for (int i = 0; i < seqMembers.size(); i++) {
+            assertEquals(seqMembers.get(i).getDominationFactor(), lotMembers.get(i).getDominationFactor());
+        }
+    }
+
+    @Test
+    @DisplayName("Un loup-garou malade ou humain ne participe pas")
+    void testSickAndHumanAreIgnored() {
+        Pack pack = createPack("Meute", 2);
+        Werewolf sick = pack.getMembers().get(2);
+        Werewolf human = pack.getMembers().get(3);
+        sick.setRank(0);
+        sick.setHealth(10);
+        human.setHuman(true);
+
+        HowlBatch batch = new HowlBatch(pack);
+        assertFalse(batch.add(human, HowlType.DOMINATION));
+        assertTrue(batch.add(pack.getAlphaMale(), HowlType.DOMINATION));
+        pack.notifyHowls(batch);
+
+        assertEquals(1, batch.size());
+        assertEquals(0, sick.getDominationFactor());
+        assertEquals(-1, human.getDominationFactor());
+    }
+
+    @Test
+    @DisplayName("Les hurlements d'agression suivent l'impétuosité")
+    void testAggression() {
+        Pack pack = createPack("Meute", 0);
+        Werewolf calm = pack.getAlphaMale();
+        Werewolf hothead = pack.getAlphaFemale();
+        hothead.setImpetuosityFactor(1);
+        int before = hothead.getBelligerence();
+
+        HowlBatch batch = new HowlBatch(pack);
+        for (int i = 0; i < 100; i++) {
+            batch.add(calm, HowlType.AGGRESSION);
+        }
+        pack.notifyHowls(batch);
+
+        assertEquals(before + 1000, hothead.getBelligerence());
+        assertEquals(0, calm.getBelligerence());
+    }
+
+    @Test
+    @DisplayName("Une grande meute traite une saison de hurlements en temps linéaire")
+    void testLargePack() {
+        Pack pack = createPack("Grande", 5000);
+        List<Werewolf> members = new ArrayList<>(pack.getMembers());
+        HowlBatch batch = new HowlBatch(pack);
+        for (int i = 0; i < members.size(); i += 5) {
+            batch.add(members.get(i), HowlType.values()[i % HowlType.values().length]);
+        }
+
+        long start = System.nanoTime();
+        pack.notifyHowls(batch);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(1001, batch.size());
+        assertTrue(elapsedMillis < 2000, "Trop lent : " + elapsedMillis + " ms");
+    }
+}
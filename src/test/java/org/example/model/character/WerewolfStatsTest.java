@@ -0,0 +1,75 @@
+package org.example.model.character;
+
+import org.example.model.character.werewolf.AgeCategory;
+import org.example.model.character.werewolf.Werewolf;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du niveau mis en cache des loups-garous
+ */
+class WerewolfStatsTest {
+
+    private Werewolf werewolf;
+
+    @BeforeEach
+    void setUp() {
+        werewolf = new Werewolf("Lupus", 30, 50, 100);
+    }
+
+    /** (50 * 0.4 + 0 * 0.3 + 0 * 0.2 + 100 * 0.1) * 1.0 */
+    @Test
+    @DisplayName("Le niveau suit la formule pondérée")
+    void testLevelFormula() {
+        assertEquals(30.0, werewolf.calculateLevel(), 1e-9);
+        assertEquals(30.0, werewolf.calculateLevel(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Chaque statistique du niveau invalide le cache")
+    void testSettersInvalidateLevel() {
+        werewolf.calculateLevel();
+
+        werewolf.setStrength(60);
+        assertEquals(34.0, werewolf.calculateLevel(), 1e-9);
+
+        werewolf.setDominationFactor(10);
+        assertEquals(37.0, werewolf.calculateLevel(), 1e-9);
+
+        werewolf.setRank(5);
+        assertEquals(38.0, werewolf.calculateLevel(), 1e-9);
+
+        werewolf.setHealth(50);
+        assertEquals(33.0, werewolf.calculateLevel(), 1e-9);
+
+        werewolf.setAgeCategory(AgeCategory.OLD);
+        assertEquals(33.0 * 0.9, werewolf.calculateLevel(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("La mort remet le niveau à jour")
+    void testDeathInvalidatesLevel() {
+        werewolf.calculateLevel();
+        werewolf.setRank(0);
+
+        werewolf.die();
+
+        assertEquals(0.0, werewolf.calculateLevel(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Le cache survit au passage par le stockage en colonnes")
+    void testLevelWithStore() {
+        CharacterStore store = new CharacterStore(4);
+        store.attach(werewolf);
+
+        werewolf.setStrength(70);
+        assertEquals(38.0, werewolf.calculateLevel(), 1e-9);
+
+        store.detach(werewolf);
+        assertEquals(38.0, werewolf.calculateLevel(), 1e-9);
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.model.colony;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.werewolf.AgeCategory;
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.event.SimulationEventSink;
+import org.example.model.event.SimulationLog;
+import org.example.model.pack.Pack;
+import org.example.model.pack.PopulationStatistics;
+import org.example.model.pack.Rank;
+import org.example.model.places.TypePlace;
+import org.example.utils.WorldGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des statistiques de population de la colonie
+ */
+class ColonyStatisticsTest {
+
+    private SimulationEventSink previousSink;
+    private Colony colony;
+    private Pack pack;
+
+    @BeforeEach
+    void setUp() {
+        previousSink = SimulationLog.getSink();
+        SimulationLog.setSink(null);
+        colony = new Colony("Colonie");
+        pack = new Pack("Meute",
+                createWerewolf("Alpha", AbstractCharacter.Sex.MALE, AgeCategory.ADULT, 80),
+                createWerewolf("Alpha F", AbstractCharacter.Sex.FEMALE, AgeCategory.ADULT, 60));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SimulationLog.setSink(previousSink);
+    }
+
+    private Werewolf createWerewolf(String name, AbstractCharacter.Sex sex, AgeCategory age, int strength) {
+        Werewolf w = new Werewolf(name, 30, strength, 100);
+        w.setSex(sex);
+        w.setAgeCategory(age);
+        return w;
+    }
+
+    @Test
+    @DisplayName("Les membres d'une meute sont comptés dès son ajout à la colonie")
+    void testCountsOnAddPack() {
+        pack.addWerewolf(createWerewolf("Bêta", AbstractCharacter.Sex.MALE, AgeCategory.YOUNG, 30), Rank.BETA);
+        colony.addPack(pack);
+        PopulationStatistics stats = colony.getStatistics();
+
+        assertEquals(3, stats.getPopulation());
+        assertEquals(2, stats.getCount(Rank.ALPHA));
+        assertEquals(1, stats.getCount(Rank.BETA));
+        assertEquals(2, stats.getCount(AbstractCharacter.Sex.MALE));
+        assertEquals(1, stats.getCount(AgeCategory.YOUNG));
+        assertEquals(2, stats.getCount(AgeCategory.ADULT));
+
+        colony.removePack(pack);
+        assertEquals(0, stats.getPopulation());
+        assertEquals(0, stats.getCount(Rank.ALPHA));
+        assertEquals(0, stats.getCount(AgeCategory.ADULT));
+        assertEquals(0.0, stats.getAverageLevel());
+    }
+
+    @Test
+    @DisplayName("Les arrivées, promotions et retraits mettent à jour les compteurs")
+    void testMembershipAndRanks() {
+        colony.addPack(pack);
+        PopulationStatistics stats = colony.getStatistics();
+        Werewolf member = createWerewolf("Membre", AbstractCharacter.Sex.FEMALE, AgeCategory.ADULT, 40);
+
+        pack.addWerewolf(member, Rank.GAMMA);
+        assertEquals(3, stats.getPopulation());
+        assertEquals(1, stats.getCount(Rank.GAMMA));
+
+        pack.addWerewolf(member, Rank.BETA);
+        assertEquals(3, stats.getPopulation());
+        assertEquals(0, stats.getCount(Rank.GAMMA));
+        assertEquals(1, stats.getCount(Rank.BETA));
+
+        pack.removeWerewolf(member);
+        assertEquals(2, stats.getPopulation());
+        assertEquals(0, stats.getCount(Rank.BETA));
+        assertEquals(0, stats.getDepartures());
+    }
+
+    @Test
+    @DisplayName("Naissances, morts et départs sont cumulés")
+    void testBirthsDeathsDepartures() {
+        colony.addPack(pack);
+        PopulationStatistics stats = colony.getStatistics();
+        Werewolf leaver = createWerewolf("Errant", AbstractCharacter.Sex.MALE, AgeCategory.ADULT, 40);
+        Werewolf victim = createWerewolf("Victime", AbstractCharacter.Sex.MALE, AgeCategory.ADULT, 40);
+        pack.addWerewolf(leaver, Rank.GAMMA);
+        pack.addWerewolf(victim, Rank.GAMMA);
+
+        int litter = pack.reproduce().size();
+        leaver.leavePack();
+        victim.die();
+        victim.die();
+
+        assertEquals(litter, stats.getBirths());
+        assertEquals(1, stats.getDeaths());
+        assertEquals(1, stats.getDepartures());
+        assertEquals(3 + litter, stats.getPopulation());
+        assertEquals(pack.getMemberCount(), stats.getPopulation());
+    }
+
+    @Test
+    @DisplayName("Le niveau moyen suit les changements de statistiques après rafraîchissement")
+    void testAverageLevel() {
+        colony.addPack(pack);
+        PopulationStatistics stats = colony.getStatistics();
+        double expected = (pack.getAlphaMale().calculateLevel() + pack.getAlphaFemale().calculateLevel()) / 2;
+        assertEquals(expected, stats.getAverageLevel(), 1e-9);
+
+        pack.getAlphaFemale().setStrength(200);
+        pack.getAlphaFemale().setAgeCategory(AgeCategory.OLD);
+        pack.refreshStatistics();
+
+        expected = (pack.getAlphaMale().calculateLevel() + pack.getAlphaFemale().calculateLevel()) / 2;
+        assertEquals(expected, stats.getAverageLevel(), 1e-9);
+        assertEquals(1, stats.getCount(AgeCategory.OLD));
+        assertEquals(1, stats.getCount(AgeCategory.ADULT));
+    }
+
+    @Test
+    @DisplayName("Après plusieurs saisons, les compteurs égalent un recomptage complet")
+    void testMatchesRecount() {
+        Colony generated = new WorldGenerator(7L)
+                .setPlacesPerType(0)
+                .setPlaceCount(TypePlace.enclosure, 2)
+                .setCharactersPerPlace(30)
+                .setPackCount(4)
+                .generate()
+                .getColony();
+        generated.setParallelism(3);
+        try {
+            for (int i = 0; i < 30; i++) {
+                generated.advanceTime();
+            }
+        } finally {
+            generated.setParallelism(1);
+        }
+
+        int population = 0;
+        int[] byAge = new int[AgeCategory.values().length];
+        int males = 0;
+        double levels = 0;
+        for (Pack p : generated.getPacks()) {
+            for (Werewolf w : p.getMembers()) {
+                population++;
+                byAge[w.getAgeCategory().ordinal()]++;
+                if (w.getSex() == AbstractCharacter.Sex.MALE) males++;
+                levels += w.calculateLevel();
+            }
+        }
+
+        PopulationStatistics stats = generated.getStatistics();
+        assertEquals(population, stats.getPopulation());
+        assertEquals(population, generated.getTotalWerewolfCount());
+        int ranked = 0;
+        for (Rank rank : Rank.values()) {
+            ranked += stats.getCount(rank);
+        }
+        assertTrue(ranked <= population);
+        for (AgeCategory age : AgeCategory.values()) {
+            assertEquals(byAge[age.ordinal()], stats.getCount(age), age.name());
+        }
+        assertEquals(males, stats.getCount(AbstractCharacter.Sex.MALE));
+        assertEquals(levels / population, stats.getAverageLevel(), 1e-6);
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.model.colony;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.werewolf.HowlType;
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.event.SimulationEventSink;
+import org.example.model.event.SimulationLog;
+import org.example.model.pack.Pack;
+import org.example.model.pack.Rank;
+import org.example.model.places.Enclosure;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la portée des hurlements entre meutes
+ */
+class HowlRangeTest {
+
+    private SimulationEventSink previousSink;
+    private Enclosure north;
+    private Enclosure south;
+    private Pack wolves;
+    private Pack rivals;
+    private Pack strangers;
+
+    @BeforeEach
+    void setUp() {
+        previousSink = SimulationLog.getSink();
+        SimulationLog.setSink(null);
+        north = new Enclosure("Gardien", "Nord", 1000, new ArrayList<>(), new ArrayList<>());
+        south = new Enclosure("Gardien", "Sud", 1000, new ArrayList<>(), new ArrayList<>());
+        wolves = createPack("Loups", north);
+        rivals = createPack("Rivaux", north);
+        strangers = createPack("Étrangers", south);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SimulationLog.setSink(previousSink);
+    }
+
+    private Pack createPack(String name, Enclosure place) {
+        Werewolf male = new Werewolf(name + " Alpha", 30, 80, 100);
+        male.setSex(AbstractCharacter.Sex.MALE);
+        Werewolf female = new Werewolf(name + " Alpha F", 30, 70, 100);
+        female.setSex(AbstractCharacter.Sex.FEMALE);
+        Pack pack = new Pack(name, male, female);
+        Werewolf omega = new Werewolf(name + " Oméga", 30, 20, 100);
+        omega.setSex(AbstractCharacter.Sex.MALE);
+        pack.addWerewolf(omega, Rank.OMEGA);
+        for (Werewolf w : pack.getMembers()) {
+            w.setImpetuosityFactor(1);
+            place.addCharacter(w);
+        }
+        return pack;
+    }
+
+    private HowlRange register(double attenuation) {
+        HowlRange range = new HowlRange(attenuation);
+        for (Pack pack : new Pack[]{wolves, rivals, strangers}) {
+            for (Werewolf w : pack.getMembers()) {
+                range.addListener(w);
+            }
+        }
+        return range;
+    }
+
+    private Werewolf omegaOf(Pack pack) {
+        return pack.getMembers().get(2);
+    }
+
+    @Test
+    @DisplayName("Les meutes sont rangées par lieu")
+    void testBuckets() {
+        HowlRange range = register(1);
+
+        assertEquals(2, range.getPackCount(north));
+        assertEquals(1, range.getPackCount(south));
+    }
+
+    @Test
+    @DisplayName("Une domination n'atteint que les autres meutes du même lieu")
+    void testDominationReachesNearbyPacksOnly() {
+        HowlRange range = register(1);
+        range.addHowl(wolves.getAlphaMale(), HowlType.DOMINATION);
+        range.deliver();
+
+        assertEquals(-1, omegaOf(rivals).getDominationFactor());
+        assertEquals(0, omegaOf(wolves).getDominationFactor());
+        assertEquals(0, omegaOf(strangers).getDominationFactor());
+    }
+
+    @Test
+    @DisplayName("Les hurlements internes ne traversent pas les meutes")
+    void testPackHowlsStayInside() {
+        int before = omegaOf(rivals).getBelligerence();
+        HowlRange range = register(1);
+        range.addHowl(wolves.getAlphaMale(), HowlType.BELONGING);
+        range.addHowl(wolves.getAlphaMale(), HowlType.SUBMISSION);
+        range.deliver();
+
+        assertEquals(before, omegaOf(rivals).getBelligerence());
+        assertEquals(0, omegaOf(rivals).getDominationFactor());
+    }
+
+    @Test
+    @DisplayName("L'agression voisine rend plus belliqueux, sauf si l'atténuation est totale")
+    void testAggressionAndAttenuation() {
+        Werewolf listener = omegaOf(rivals);
+        int before = listener.getBelligerence();
+
+        HowlRange silent = register(0);
+        silent.addHowl(wolves.getAlphaMale(), HowlType.AGGRESSION);
+        silent.deliver();
+        assertEquals(before, listener.getBelligerence());
+
+        HowlRange loud = register(1);
+        loud.addHowl(wolves.getAlphaMale(), HowlType.AGGRESSION);
+        loud.addHowl(wolves.getAlphaFemale(), HowlType.AGGRESSION);
+        loud.deliver();
+        assertEquals(before + 20, listener.getBelligerence());
+    }
+
+    @Test
+    @DisplayName("L'atténuation est nulle par défaut et doit être une probabilité")
+    void testInvalidAttenuation() {
+        assertThrows(IllegalArgumentException.class, () -> new HowlRange(1.5));
+        assertEquals(0.0, new Colony("Colonie").getHowlAttenuation());
+        assertThrows(IllegalArgumentException.class, () -> new Colony("Colonie").setHowlAttenuation(-0.1));
+    }
+}
@@ -0,0 +1,153 @@
+package org.example.model.colony;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.werewolf.AgeCategory;
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.event.SimulationEventSink;
+import org.example.model.event.SimulationLog;
+import org.example.model.pack.Pack;
+import org.example.model.pack.Rank;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la division des meutes trop grandes
+ */
+class PackSplitterTest {
+
+    private SimulationEventSink previousSink;
+
+    @BeforeEach
+    void setUp() {
+        previousSink = SimulationLog.getSink();
+        SimulationLog.setSink(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SimulationLog.setSink(previousSink);
+    }
+
+    private Werewolf createWerewolf(String name, AbstractCharacter.Sex sex, int strength) {
+        Werewolf w = new Werewolf(name, 30, strength, 100);
+        w.setSex(sex);
+        w.setAgeCategory(AgeCategory.ADULT);
+        return w;
+    }
+
+    /**
+     * Crée une meute d'adultes aux forces variées, moitié mâles, moitié femelles.
+     */
+    private Pack createPack(int size) {
+        Pack pack = new Pack("Meute",
+                createWerewolf("Alpha", AbstractCharacter.Sex.MALE, 500),
+                createWerewolf("Alpha F", AbstractCharacter.Sex.FEMALE, 500));
+        for (int i = 0; i < size - 2; i++) {
+            AbstractCharacter.Sex sex = i % 2 == 0 ? AbstractCharacter.Sex.MALE : AbstractCharacter.Sex.FEMALE;
+            pack.addWerewolf(createWerewolf("Loup" + i, sex, 20 + (i * 37) % 200), Rank.GAMMA);
+        }
+        return pack;
+    }
+
+    @Test
+    @DisplayName("Une meute à la taille limite n'est pas divisée")
+    void testNoSplitAtLimit() {
+        Pack pack = createPack(15);
+
+        assertTrue(new PackSplitter(15, 30).split(pack, "Fille").isEmpty());
+        assertEquals(15, pack.getMemberCount());
+    }
+
+    @Test
+    @DisplayName("Une meute juste trop grande est coupée en deux")
+    void testSplitInTwo() {
+        Pack pack = createPack(16);
+        List<Pack> daughters = new PackSplitter(15, 30).split(pack, "Fille");
+
+        assertEquals(1, daughters.size());
+        Pack daughter = daughters.get(0);
+        assertEquals("Fille", daughter.getName());
+        assertEquals(16, pack.getMemberCount() + daughter.getMemberCount());
+        assertTrue(Math.abs(pack.getMemberCount() - daughter.getMemberCount()) <= 2);
+        assertEquals("Alpha", pack.getAlphaMale().getName());
+    }
+
+    @Test
+    @DisplayName("Une très grande meute est divisée en plusieurs meutes en une seule fois")
+    void testSplitIntoSeveralPacks() {
+        Pack pack = createPack(1000);
+        List<Pack> daughters = new PackSplitter(15, 30).split(pack, "Fille");
+
+        assertEquals(66, daughters.size());
+        Set<Integer> seen = new HashSet<>();
+        int total = 0;
+        for (Pack p : concat(pack, daughters)) {
+            assertTrue(p.getMemberCount() <= 17, p.getName() + " : " + p.getMemberCount());
+            for (Werewolf w : p.getMembers()) {
+                assertTrue(seen.add(w.getId()), w.getName() + " est dans deux meutes");
+                assertSame(p, w.getPack());
+            }
+            total += p.getMemberCount();
+        }
+        assertEquals(1000, total);
+        assertEquals("Fille-1", daughters.get(0).getName());
+    }
+
+    @Test
+    @DisplayName("Les meilleurs candidats deviennent les nouveaux alphas")
+    void testBestCandidatesLead() {
+        Pack pack = createPack(30);
+        Werewolf champion = createWerewolf("Champion", AbstractCharacter.Sex.MALE, 400);
+        Werewolf championne = createWerewolf("Championne", AbstractCharacter.Sex.FEMALE, 400);
+        pack.addWerewolf(champion, Rank.GAMMA);
+        pack.addWerewolf(championne, Rank.GAMMA);
+
+        List<Pack> daughters = new PackSplitter(15, 30).split(pack, "Fille");
+
+        assertSame(champion, daughters.get(0).getAlphaMale());
+        assertSame(championne, daughters.get(0).getAlphaFemale());
+    }
+
+    @Test
+    @DisplayName("Sans couple candidat, la meute n'est pas divisée")
+    void testNoCandidates() {
+        Pack pack = new Pack("Meute",
+                createWerewolf("Alpha", AbstractCharacter.Sex.MALE, 500),
+                createWerewolf("Alpha F", AbstractCharacter.Sex.FEMALE, 500));
+        for (int i = 0; i < 20; i++) {
+            pack.addWerewolf(createWerewolf("Mâle" + i, AbstractCharacter.Sex.MALE, 200), Rank.GAMMA);
+        }
+
+        assertTrue(new PackSplitter(15, 30).split(pack, "Fille").isEmpty());
+        assertEquals(22, pack.getMemberCount());
+    }
+
+    @Test
+    @DisplayName("Une colonie qui grandit garde des meutes de taille bornée")
+    void testColonyKeepsBoundedPacks() {
+        Colony colony = new Colony("Colonie");
+        colony.addPack(createPack(400));
+
+        colony.advanceTime();
+
+        assertTrue(colony.getPacks().size() > 20);
+        for (Pack p : colony.getPacks()) {
+            assertTrue(p.getMemberCount() <= 17, p.getName() + " : " + p.getMemberCount());
+        }
+    }
+
+    private static List<Pack> concat(Pack first, List<Pack> others) {
+        List<Pack> all = new ArrayList<>(others);
+        all.add(0, first);
+        return all;
+    }
+}
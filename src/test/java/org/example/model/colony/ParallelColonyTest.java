@@ -0,0 +1,99 @@
+package org.example.model.colony;
+
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.event.SimulationEventSink;
+import org.example.model.event.SimulationLog;
+import org.example.model.pack.Pack;
+import org.example.model.places.TypePlace;
+import org.example.utils.WorldGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'évolution des meutes en parallèle
+ */
+class ParallelColonyTest {
+
+    private SimulationEventSink previousSink;
+
+    @BeforeEach
+    void setUp() {
+        previousSink = SimulationLog.getSink();
+        SimulationLog.setSink(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SimulationLog.setSink(previousSink);
+    }
+
+    private Colony buildColony(long seed) {
+        return new WorldGenerator(seed)
+                .setPlacesPerType(0)
+                .setPlaceCount(TypePlace.enclosure, 3)
+                .setCharactersPerPlace(40)
+                .setPackCount(6)
+                .generate()
+                .getColony();
+    }
+
+    /**
+     * Résume l'état de toutes les meutes sous forme de texte comparable.
+     */
+    private String fingerprint(Colony colony) {
+        StringBuilder sb = new StringBuilder();
+        for (Pack pack : colony.getPacks()) {
+            sb.append(pack.getName()).append(':');
+            List<String> entries = new ArrayList<>();
+            for (Werewolf w : pack.getMembers()) {
+                entries.add(w.getName() + '/' + w.getRank() + '/' + w.getDominationFactor() + '/'
+                        + w.getBelligerence() + '/' + w.getAge() + '/' + w.isHuman());
+            }
+            entries.sort(null);
+            sb.append(entries).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private String run(int parallelism, long seed, int seasons) {
+        Colony colony = buildColony(seed);
+        colony.setParallelism(parallelism);
+        try {
+            for (int i = 0; i < seasons; i++) {
+                colony.advanceTime();
+            }
+        } finally {
+            colony.setParallelism(1);
+        }
+        return fingerprint(colony);
+    }
+
+    @Test
+    @DisplayName("Une même graine donne la même colonie, quel que soit le nombre de threads")
+    void testParallelMatchesSequential() {
+        String sequential = run(1, 42L, 24);
+        assertEquals(sequential, run(4, 42L, 24));
+        assertEquals(sequential, run(1, 42L, 24));
+    }
+
+    @Test
+    @DisplayName("Des graines différentes donnent des colonies différentes")
+    void testSeedMatters() {
+        assertNotEquals(run(1, 1L, 12), run(1, 2L, 12));
+    }
+
+    @Test
+    @DisplayName("Le parallélisme doit être au moins 1")
+    void testInvalidParallelism() {
+        Colony colony = new Colony("Colonie");
+        assertThrows(IllegalArgumentException.class, () -> colony.setParallelism(0));
+        assertEquals(1, colony.getParallelism());
+    }
+}
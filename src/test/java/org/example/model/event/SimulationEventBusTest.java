@@ -0,0 +1,115 @@
+package org.example.model.event;
+
+import org.example.model.character.gallic.Gallic;
+import org.example.model.character.roman.Legionary;
+import org.example.model.places.Battlefield;
+import org.example.model.places.GallicVillage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du bus d'événements de simulation
+ */
+class SimulationEventBusTest {
+
+    private SimulationEventBus bus;
+    private Gallic asterix;
+    private Legionary legionary;
+    private Battlefield battlefield;
+
+    @BeforeEach
+    void setUp() {
+        bus = new SimulationEventBus(4);
+        asterix = new Gallic("Asterix", 35, 80, 100);
+        legionary = new Legionary("Marcus", 30, 70, 100);
+        battlefield = new Battlefield("Plaine", 1000, new ArrayList<>(), new ArrayList<>());
+    }
+
+    @Test
+    @DisplayName("La capacité doit être une puissance de deux")
+    void testCapacityMustBePowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationEventBus(0));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationEventBus(6));
+        assertEquals(8, new SimulationEventBus(8).getCapacity());
+    }
+
+    @Test
+    @DisplayName("Sans abonné, les publications sont ignorées")
+    void testPublishWithoutSubscriberIsDropped() {
+        assertFalse(bus.hasSubscribers());
+        bus.publishText(SimulationEventType.INFO, "ignored");
+        assertEquals(0, bus.getNextSequence());
+    }
+
+    @Test
+    @DisplayName("Un événement typé transporte ses acteurs sans texte")
+    void testTypedEventCarriesFields() {
+        List<SimulationEvent> received = new ArrayList<>();
+        bus.subscribe(event -> received.add(event.copy()));
+
+        bus.publish(SimulationEventType.FIGHT, asterix, legionary, battlefield, null, 90, 40);
+
+        assertEquals(1, received.size());
+        SimulationEvent event = received.get(0);
+        assertEquals(0, event.getSequence());
+        assertEquals(SimulationEventType.FIGHT, event.getType());
+        assertSame(asterix, event.getActor());
+        assertSame(legionary, event.getTarget());
+        assertSame(battlefield, event.getPlace());
+        assertFalse(event.isText());
+        assertEquals("⚔️ Fight in Plaine : Asterix (HP: 90) vs Marcus (HP: 40)", event.describe());
+    }
+
+    @Test
+    @DisplayName("Les emplacements du tampon circulaire sont réutilisés")
+    void testSlotsAreReused() {
+        List<SimulationEvent> slots = new ArrayList<>();
+        bus.subscribe(slots::add);
+
+        for (int i = 0; i < 5; i++) {
+            bus.publishText(SimulationEventType.INFO, "message " + i);
+        }
+
+        assertSame(slots.get(0), slots.get(4));
+        assertEquals(4, slots.get(0).getSequence());
+    }
+
+    @Test
+    @DisplayName("Le drainage relit les événements encore présents dans l'anneau")
+    void testDrainSkipsOverwrittenEvents() {
+        bus.subscribe(event -> { });
+        for (int i = 0; i < 6; i++) {
+            bus.publish(SimulationEventType.DEATH, asterix, null, battlefield, null, 0, 0);
+        }
+
+        List<Long> sequences = new ArrayList<>();
+        long next = bus.drain(0, event -> sequences.add(event.getSequence()));
+
+        assertEquals(2, bus.getOldestSequence());
+        assertEquals(List.of(2L, 3L, 4L, 5L), sequences);
+        assertEquals(6, next);
+        assertEquals(6, bus.drain(next, event -> fail("No new event expected")));
+    }
+
+    @Test
+    @DisplayName("Le puits de SimulationLog reçoit la description des événements typés")
+    void testSinkReceivesDescriptions() {
+        SimulationEventSink previous = SimulationLog.getSink();
+        List<String> messages = new ArrayList<>();
+        try {
+            SimulationLog.setSink((type, message) -> messages.add(type + ":" + message));
+            GallicVillage village = new GallicVillage("Abraracourcix", "Village", 500, new ArrayList<>(), new ArrayList<>());
+            SimulationLog.publish(SimulationEventType.FLEE, asterix, village);
+        } finally {
+            SimulationLog.setSink(previous);
+        }
+
+        assertEquals(List.of("FLEE:🏃 Asterix flees back to Village"), messages);
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.model.pack;
+
+import org.example.model.character.werewolf.Werewolf;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la hiérarchie d'une meute
+ */
+class HierarchyManagerTest {
+
+    private HierarchyManager hierarchy;
+    private Werewolf fenrir;
+    private Werewolf loki;
+
+    @BeforeEach
+    void setUp() {
+        hierarchy = new HierarchyManager();
+        fenrir = new Werewolf("Fenrir");
+        loki = new Werewolf("Loki");
+    }
+
+    @Test
+    @DisplayName("Un loup-garou n'occupe qu'un seul rang")
+    void testSingleRank() {
+        hierarchy.addMember(fenrir, Rank.GAMMA);
+        hierarchy.addMember(fenrir, Rank.ALPHA);
+
+        assertEquals(Rank.ALPHA, hierarchy.getRankOf(fenrir));
+        assertEquals(Rank.ALPHA.getHierarchyLevel(), fenrir.getRank());
+        assertTrue(hierarchy.getWerewolvesByRank(Rank.GAMMA).isEmpty());
+        assertEquals(1, hierarchy.getWerewolvesByRank(Rank.ALPHA).size());
+        assertEquals(1, hierarchy.getMemberCount());
+    }
+
+    @Test
+    @DisplayName("L'échange de rangs après une domination")
+    void testSwap() {
+        hierarchy.addMember(fenrir, Rank.BETA);
+        hierarchy.addMember(loki, Rank.DELTA);
+
+        hierarchy.addMember(fenrir, Rank.DELTA);
+        hierarchy.addMember(loki, Rank.BETA);
+
+        assertEquals(Rank.DELTA, hierarchy.getRankOf(fenrir));
+        assertEquals(Rank.BETA, hierarchy.getRankOf(loki));
+        assertEquals(1, hierarchy.getWerewolvesByRank(Rank.BETA).size());
+        assertEquals(1, hierarchy.getWerewolvesByRank(Rank.DELTA).size());
+    }
+
+    @Test
+    @DisplayName("Le retrait efface le rang et l'appartenance")
+    void testRemove() {
+        hierarchy.addMember(fenrir, Rank.OMEGA);
+        hierarchy.removeMember(fenrir);
+
+        assertNull(hierarchy.getRankOf(fenrir));
+        assertFalse(hierarchy.containsMember(fenrir));
+        assertTrue(hierarchy.getWerewolvesByRank(Rank.OMEGA).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deux loups-garous identiques restent deux membres distincts")
+    void testIdentityById() {
+        Werewolf twin = new Werewolf("Fenrir");
+        assertEquals(fenrir, twin);
+
+        hierarchy.addMember(fenrir, Rank.BETA);
+        hierarchy.addMember(twin, Rank.GAMMA);
+
+        assertEquals(2, hierarchy.getMemberCount());
+        assertEquals(Rank.BETA, hierarchy.getRankOf(fenrir));
+        assertEquals(Rank.GAMMA, hierarchy.getRankOf(twin));
+    }
+
+    @Test
+    @DisplayName("Vider les rangs non alpha garde les membres")
+    void testClearNonAlphaRanks() {
+        hierarchy.addMember(fenrir, Rank.ALPHA);
+        hierarchy.addMember(loki, Rank.EPSILON);
+
+        hierarchy.clearNonAlphaRanks();
+
+        assertEquals(Rank.ALPHA, hierarchy.getRankOf(fenrir));
+        assertNull(hierarchy.getRankOf(loki));
+        assertTrue(hierarchy.containsMember(loki));
+    }
+
+    @Test
+    @DisplayName("Une grande meute se réorganise sans coût quadratique")
+    void testLargePack() {
+        Werewolf[] wolves = new Werewolf[20_000];
+        for (int i = 0; i < wolves.length; i++) {
+            wolves[i] = new Werewolf("Loup" + i);
+            hierarchy.addMember(wolves[i], Rank.GAMMA);
+        }
+        for (Werewolf w : wolves) {
+            hierarchy.addMember(w, Rank.OMEGA);
+        }
+        for (int i = 0; i < wolves.length; i += 2) {
+            hierarchy.removeMember(wolves[i]);
+        }
+
+        assertEquals(wolves.length / 2, hierarchy.getMemberCount());
+        assertEquals(wolves.length / 2, hierarchy.getWerewolvesByRank(Rank.OMEGA).size());
+        assertTrue(hierarchy.getWerewolvesByRank(Rank.GAMMA).isEmpty());
+    }
+}
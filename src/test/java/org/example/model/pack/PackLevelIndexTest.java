@@ -0,0 +1,105 @@
+package org.example.model.pack;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.werewolf.AgeCategory;
+import org.example.model.character.werewolf.Werewolf;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'index des membres d'une meute par niveau
+ */
+class PackLevelIndexTest {
+
+    private Pack pack;
+    private Werewolf alphaFemale;
+
+    @BeforeEach
+    void setUp() {
+        alphaFemale = createWerewolf("Alpha F", AbstractCharacter.Sex.FEMALE, AgeCategory.ADULT, 60);
+        pack = new Pack("Meute",
+                createWerewolf("Alpha", AbstractCharacter.Sex.MALE, AgeCategory.ADULT, 100),
+                alphaFemale);
+    }
+
+    private Werewolf createWerewolf(String name, AbstractCharacter.Sex sex, AgeCategory age, int strength) {
+        Werewolf w = new Werewolf(name, 30, strength, 100);
+        w.setSex(sex);
+        w.setAgeCategory(age);
+        return w;
+    }
+
+    @Test
+    @DisplayName("Les candidats sont triés par niveau décroissant")
+    void testAboveSortedByLevel() {
+        Werewolf weak = createWerewolf("Faible", AbstractCharacter.Sex.MALE, AgeCategory.ADULT, 10);
+        Werewolf strong = createWerewolf("Fort", AbstractCharacter.Sex.MALE, AgeCategory.ADULT, 90);
+        Werewolf cub = createWerewolf("Louveteau", AbstractCharacter.Sex.MALE, AgeCategory.YOUNG, 200);
+        pack.addWerewolf(weak, Rank.GAMMA);
+        pack.addWerewolf(strong, Rank.GAMMA);
+        pack.addWerewolf(cub, Rank.GAMMA);
+
+        List<Werewolf> candidates = pack.findAdultsAboveLevel(30);
+
+        assertTrue(candidates.indexOf(strong) >= 0);
+        assertTrue(candidates.indexOf(pack.getAlphaMale()) < candidates.indexOf(strong));
+        assertFalse(candidates.contains(weak));
+        assertFalse(candidates.contains(cub));
+    }
+
+    @Test
+    @DisplayName("Un changement de force replace le membre dans l'index")
+    void testChangeMovesMember() {
+        Werewolf weak = createWerewolf("Faible", AbstractCharacter.Sex.MALE, AgeCategory.ADULT, 10);
+        pack.addWerewolf(weak, Rank.GAMMA);
+        assertFalse(pack.findAdultsAboveLevel(30).contains(weak));
+
+        weak.setStrength(300);
+
+        assertSame(weak, pack.findAdultsAboveLevel(30).get(0));
+    }
+
+    @Test
+    @DisplayName("La nouvelle femelle alpha est la femelle adulte la plus forte")
+    void testNewAlphaFemaleIsStrongest() {
+        Werewolf female = createWerewolf("Louve", AbstractCharacter.Sex.FEMALE, AgeCategory.ADULT, 50);
+        Werewolf newMale = createWerewolf("Nouveau", AbstractCharacter.Sex.MALE, AgeCategory.ADULT, 80);
+        pack.addWerewolf(female, Rank.GAMMA);
+        pack.addWerewolf(newMale, Rank.BETA);
+
+        female.setStrength(150);
+        pack.formNewAlphaMale(newMale);
+
+        assertSame(female, pack.getAlphaFemale());
+        assertSame(newMale, pack.getAlphaMale());
+    }
+
+    @Test
+    @DisplayName("La force moyenne des adultes suit les arrivées, départs et changements")
+    void testAverageAdultStrength() {
+        Werewolf member = createWerewolf("Membre", AbstractCharacter.Sex.MALE, AgeCategory.ADULT, 20);
+        PackLevelIndex index = new PackLevelIndex();
+        index.add(pack.getAlphaMale());
+        index.add(alphaFemale);
+        assertEquals(80.0, index.averageAdultStrength(), 1e-9);
+
+        index.add(member);
+        assertEquals(60.0, index.averageAdultStrength(), 1e-9);
+
+        member.setStrength(50);
+        index.changed(member);
+        assertEquals(70.0, index.averageAdultStrength(), 1e-9);
+
+        member.setAgeCategory(AgeCategory.OLD);
+        index.changed(member);
+        assertEquals(80.0, index.averageAdultStrength(), 1e-9);
+
+        index.remove(alphaFemale);
+        assertEquals(100.0, index.averageAdultStrength(), 1e-9);
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.model.pack;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.werewolf.AgeCategory;
+import org.example.model.character.werewolf.Werewolf;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'attribution des rangs dans une meute
+ */
+class RankAssignerTest {
+
+    private Pack pack;
+    private List<Werewolf> males;
+    private List<Werewolf> members;
+
+    @BeforeEach
+    void setUp() {
+        pack = new Pack("Meute",
+                createWerewolf("Alpha", AbstractCharacter.Sex.MALE, AgeCategory.ADULT, 100),
+                createWerewolf("Alpha F", AbstractCharacter.Sex.FEMALE, AgeCategory.ADULT, 100));
+
+        // Du plus faible au plus fort : 10, 20, ..., 80
+        males = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            males.add(createWerewolf("Loup" + i, AbstractCharacter.Sex.MALE, AgeCategory.ADULT, i * 10));
+        }
+        members = new ArrayList<>(males);
+        members.add(createWerewolf("Louveteau", AbstractCharacter.Sex.FEMALE, AgeCategory.YOUNG, 5));
+        members.add(createWerewolf("Ancien", AbstractCharacter.Sex.MALE, AgeCategory.OLD, 50));
+    }
+
+    private Werewolf createWerewolf(String name, AbstractCharacter.Sex sex, AgeCategory age, int strength) {
+        Werewolf w = new Werewolf(name);
+        w.setSex(sex);
+        w.setAgeCategory(age);
+        w.setStrength(strength);
+        return w;
+    }
+
+    private boolean isMember(Werewolf w) {
+        return pack.getMembers().stream().anyMatch(member -> member == w);
+    }
+
+    private Rank rankOf(Werewolf w) {
+        if (!isMember(w)) {
+            return null;
+        }
+        for (Rank rank : Rank.values()) {
+            if (rank.getHierarchyLevel() == w.getRank()) {
+                return rank;
+            }
+        }
+        return null;
+    }
+
+    @Test
+    @DisplayName("Les plus forts reçoivent les meilleurs rangs")
+    void testRanksFollowLevel() {
+        pack.createHierarchy(members);
+
+        assertEquals(Rank.BETA, rankOf(males.get(7)));
+        assertEquals(Rank.BETA, rankOf(males.get(6)));
+        assertEquals(Rank.GAMMA, rankOf(males.get(5)));
+        assertEquals(Rank.DELTA, rankOf(males.get(3)));
+        assertEquals(Rank.EPSILON, rankOf(males.get(0)));
+        assertEquals(Rank.GAMMA, rankOf(members.get(8)));
+        assertFalse(isMember(members.get(9)));
+        assertEquals(11, pack.getMembers().size());
+    }
+
+    @Test
+    @DisplayName("La mise à jour ne déplace que les loups-garous dont le niveau a changé")
+    void testIncrementalUpdate() {
+        pack.createHierarchy(members);
+        int untouchedRank = males.get(3).getRank();
+
+        // Le plus faible devient le plus fort
+        males.get(0).setStrength(200);
+        pack.updateHierarchy(members);
+
+        assertEquals(Rank.BETA, rankOf(males.get(0)));
+        assertEquals(Rank.BETA, rankOf(males.get(7)));
+        assertEquals(Rank.GAMMA, rankOf(males.get(6)));
+        assertEquals(Rank.EPSILON, rankOf(males.get(1)));
+        assertEquals(untouchedRank, males.get(3).getRank());
+        assertEquals(11, pack.getMembers().size());
+    }
+
+    @Test
+    @DisplayName("La mise à jour retire les absents et classe les nouveaux")
+    void testUpdateWithNewAndRemovedMembers() {
+        pack.createHierarchy(members);
+
+        Werewolf newcomer = createWerewolf("Nouveau", AbstractCharacter.Sex.MALE, AgeCategory.ADULT, 150);
+        List<Werewolf> updated = new ArrayList<>(members);
+        updated.remove(males.get(7));
+        updated.add(newcomer);
+        pack.updateHierarchy(updated);
+
+        assertEquals(Rank.BETA, rankOf(newcomer));
+        assertFalse(isMember(males.get(7)));
+        assertTrue(isMember(pack.getAlphaMale()));
+        assertTrue(isMember(pack.getAlphaFemale()));
+    }
+
+    @Test
+    @DisplayName("Sans changement, la mise à jour donne la même hiérarchie")
+    void testUpdateWithoutChange() {
+        pack.createHierarchy(members);
+        List<Integer> before = new ArrayList<>();
+        for (Werewolf w : members) {
+            before.add(w.getRank());
+        }
+
+        pack.updateHierarchy(members);
+
+        for (int i = 0; i < members.size(); i++) {
+            assertEquals(before.get(i), members.get(i).getRank());
+        }
+    }
+
+    private List<Werewolf> createAdultMales(SplittableRandom random, int count) {
+        List<Werewolf> wolves = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            wolves.add(createWerewolf("Loup" + i, AbstractCharacter.Sex.MALE, AgeCategory.ADULT, random.nextInt(10, 60)));
+        }
+        return wolves;
+    }
+
+    @Test
+    @DisplayName("La mise à jour donne les mêmes rangs qu'une reconstruction complète")
+    void testUpdateMatchesRebuild() {
+        for (long seed = 0; seed < 500; seed++) {
+            // Deux meutes identiques : l'une est mise à jour, l'autre reconstruite
+            Pack updated = new Pack("Mise à jour",
+                    createWerewolf("Alpha", AbstractCharacter.Sex.MALE, AgeCategory.ADULT, 100),
+                    createWerewolf("Alpha F", AbstractCharacter.Sex.FEMALE, AgeCategory.ADULT, 100));
+            Pack rebuilt = new Pack("Reconstruite",
+                    createWerewolf("Alpha", AbstractCharacter.Sex.MALE, AgeCategory.ADULT, 100),
+                    createWerewolf("Alpha F", AbstractCharacter.Sex.FEMALE, AgeCategory.ADULT, 100));
+            List<Werewolf> updatedWolves = createAdultMales(new SplittableRandom(seed), 12);
+            List<Werewolf> rebuiltWolves = createAdultMales(new SplittableRandom(seed), 12);
+            updated.createHierarchy(updatedWolves);
+            rebuilt.createHierarchy(rebuiltWolves);
+
+            SplittableRandom random = new SplittableRandom(seed + 1_000);
+            for (int round = 0; round < 3; round++) {
+                for (int k = 0; k < 2; k++) {
+                    int i = random.nextInt(updatedWolves.size());
+                    int strength = random.nextInt(10, 60);
+                    updatedWolves.get(i).setStrength(strength);
+                    rebuiltWolves.get(i).setStrength(strength);
+                }
+                updated.updateHierarchy(updatedWolves);
+                rebuilt.createHierarchy(rebuiltWolves);
+
+                for (int i = 0; i < updatedWolves.size(); i++) {
+                    assertEquals(rebuiltWolves.get(i).getRank(), updatedWolves.get(i).getRank(),
+                            "graine " + seed + ", tour " + round + ", loup " + i);
+                }
+            }
+        }
+    }
+}
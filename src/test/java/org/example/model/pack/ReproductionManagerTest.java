@@ -0,0 +1,102 @@
+package org.example.model.pack;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.werewolf.AgeCategory;
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.event.SimulationEventSink;
+import org.example.model.event.SimulationLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la naissance des portées
+ */
+class ReproductionManagerTest {
+
+    private SimulationEventSink previousSink;
+    private Pack pack;
+
+    @BeforeEach
+    void setUp() {
+        previousSink = SimulationLog.getSink();
+        SimulationLog.setSink(null);
+        Werewolf male = new Werewolf("Alpha", 30, 80, 100);
+        male.setSex(AbstractCharacter.Sex.MALE);
+        Werewolf female = new Werewolf("Alpha F", 30, 70, 100);
+        female.setSex(AbstractCharacter.Sex.FEMALE);
+        pack = new Pack("Meute", male, female);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SimulationLog.setSink(previousSink);
+    }
+
+    @Test
+    @DisplayName("Les louveteaux naissent jeunes, en bonne santé et membres de la meute")
+    void testNewbornCubs() {
+        List<Werewolf> cubs = pack.reproduce();
+
+        assertFalse(cubs.isEmpty());
+        assertEquals(2 + cubs.size(), pack.getMemberCount());
+        for (Werewolf cub : cubs) {
+            assertSame(pack, cub.getPack());
+            assertEquals(0, cub.getAge());
+            assertEquals(AgeCategory.YOUNG, cub.getAgeCategory());
+            assertEquals(100, cub.getHealth());
+            assertEquals(50, cub.getHunger());
+            assertNotNull(cub.getSex());
+            assertTrue(cub.getStrength() >= 10 && cub.getStrength() < 30);
+            assertTrue(cub.getStamina() >= 5 && cub.getStamina() < 20);
+            assertEquals(Rank.BETA.getHierarchyLevel(), cub.getRank());
+        }
+    }
+
+    @Test
+    @DisplayName("La deuxième portée est GAMMA si la meute a déjà des BETA")
+    void testSecondLitterRank() {
+        pack.reproduce();
+        List<Werewolf> second = pack.reproduce();
+
+        for (Werewolf cub : second) {
+            assertEquals(Rank.GAMMA.getHierarchyLevel(), cub.getRank());
+        }
+        assertEquals(second.size(), pack.getMembers().stream()
+                .filter(w -> w.getRank() == Rank.GAMMA.getHierarchyLevel()).count());
+    }
+
+    @Test
+    @DisplayName("Les noms des louveteaux sont uniques dans la meute")
+    void testUniqueNames() {
+        Set<String> names = new HashSet<>();
+        int born = 0;
+        for (int i = 0; i < 50; i++) {
+            for (Werewolf cub : pack.reproduce()) {
+                names.add(cub.getName());
+                born++;
+            }
+        }
+
+        assertEquals(born, names.size());
+    }
+
+    @Test
+    @DisplayName("Les louveteaux sont indexés par niveau dès leur naissance")
+    void testCubsIndexed() {
+        HierarchyManager hierarchy = new HierarchyManager();
+        List<Werewolf> cubs = new ReproductionManager(hierarchy, new SplittableRandom(1)).reproduce();
+
+        assertEquals(cubs.size(), hierarchy.getLevelIndex().size());
+        assertEquals(cubs.size(), hierarchy.getWerewolvesByRank(Rank.BETA).size());
+        assertTrue(hierarchy.getLevelIndex().above(AgeCategory.YOUNG, -1).containsAll(cubs));
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.model.places;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.gallic.Druid;
+import org.example.model.character.gallic.Gallic;
+import org.example.model.food.FoodItem;
+import org.example.model.food.FoodItemType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des vues et requêtes groupées d'un lieu
+ */
+class AbstractPlaceTest {
+
+    private GallicVillage village;
+    private Gallic asterix;
+    private Druid panoramix;
+    private FoodItem boar;
+
+    @BeforeEach
+    void setUp() {
+        asterix = new Gallic("Asterix", 35, 80, 100);
+        panoramix = new Druid("Panoramix", 70, 30, 100);
+        boar = new FoodItem(FoodItemType.BOAR);
+
+        ArrayList<AbstractCharacter> characters = new ArrayList<>(List.of(asterix, panoramix));
+        ArrayList<FoodItem> foods = new ArrayList<>(List.of(boar));
+        village = new GallicVillage("Abraracourcix", "Village", 1000, characters, foods);
+    }
+
+    @Test
+    @DisplayName("La vue des personnages est en lecture seule et suit les modifications")
+    void testCharactersViewIsLiveAndReadOnly() {
+        List<AbstractCharacter> view = village.getCharactersView();
+        assertThrows(UnsupportedOperationException.class, () -> view.add(new Gallic("Obelix", 35, 100, 100)));
+
+        village.deleteCharacter(asterix);
+
+        assertSame(view, village.getCharactersView());
+        assertEquals(List.of(panoramix), view);
+    }
+
+    @Test
+    @DisplayName("L'instantané est partagé tant que le lieu ne change pas")
+    void testSnapshotIsReusedUntilModification() {
+        List<AbstractCharacter> first = village.snapshotCharacters();
+        assertSame(first, village.snapshotCharacters());
+
+        village.deleteCharacter(asterix);
+        List<AbstractCharacter> second = village.snapshotCharacters();
+
+        assertNotSame(first, second);
+        assertEquals(2, first.size());
+        assertEquals(1, second.size());
+    }
+
+    @Test
+    @DisplayName("On peut retirer de la nourriture en parcourant un instantané")
+    void testRemoveFoodWhileIteratingSnapshot() {
+        village.addFood(new FoodItem(FoodItemType.FISH));
+
+        for (FoodItem food : village.snapshotFoods()) {
+            village.removeFood(food);
+        }
+
+        assertEquals(0, village.getNumberPresentFoods());
+        assertFalse(village.containsFood(boar));
+    }
+
+    @Test
+    @DisplayName("Les requêtes groupées comptent et filtrent par type")
+    void testBulkQueries() {
+        asterix.setHealth(0);
+
+        assertEquals(1, village.countAlive());
+        assertEquals(2, village.countCharactersOfType(Gallic.class));
+        assertEquals(1, village.countCharactersOfType(Druid.class));
+        assertEquals(List.of(panoramix), village.getCharactersOfType(Druid.class));
+        assertSame(panoramix, village.findFirstOfType(Druid.class));
+        assertTrue(village.containsCharacter(asterix));
+    }
+
+    @Test
+    @DisplayName("Le tirage aléatoire renvoie un personnage présent ou null")
+    void testRandomCharacter() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(village.containsCharacter(village.randomCharacter(random)));
+        }
+
+        Battlefield empty = new Battlefield("Plaine", 100, new ArrayList<>(), new ArrayList<>());
+        assertNull(empty.randomCharacter(random));
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.model.places;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.gallic.Gallic;
+import org.example.model.character.roman.Legionary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la grille spatiale des champs de bataille
+ */
+class BattleGridTest {
+
+    private List<AbstractCharacter> createArmy(int size) {
+        List<AbstractCharacter> army = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            army.add(i % 2 == 0 ? new Gallic("Gaulois " + i, 30, 20, 100) : new Legionary("Légionnaire " + i, 30, 20, 100));
+        }
+        return army;
+    }
+
+    @Test
+    @DisplayName("Deux voisins se battent, deux personnages éloignés non")
+    void testOnlyNeighborsArePaired() {
+        BattleGrid grid = new BattleGrid(10000);
+        List<AbstractCharacter> army = createArmy(4);
+        grid.place(army.get(0), 0, 0);
+        grid.place(army.get(1), 1, 1);
+        grid.place(army.get(2), 8, 8);
+        grid.place(army.get(3), 0, 9);
+
+        AbstractCharacter[] pairs = grid.pairNeighbors(army, new SplittableRandom(1));
+
+        assertEquals(2, pairs.length);
+        assertEquals(Set.of(army.get(0), army.get(1)), Set.of(pairs[0], pairs[1]));
+    }
+
+    @Test
+    @DisplayName("Chaque personnage se bat au plus une fois par tour")
+    void testEachCharacterFightsOnce() {
+        BattleGrid grid = new BattleGrid(100);
+        List<AbstractCharacter> army = createArmy(1001);
+
+        AbstractCharacter[] pairs = grid.pairNeighbors(army, new SplittableRandom(2));
+
+        assertEquals(1000, pairs.length);
+        Set<Integer> seen = new HashSet<>();
+        for (AbstractCharacter c : pairs) {
+            assertTrue(seen.add(c.getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("Les morts ne se battent pas et les absents sont oubliés")
+    void testDeadAndAbsent() {
+        BattleGrid grid = new BattleGrid(100);
+        List<AbstractCharacter> army = createArmy(3);
+        grid.pairNeighbors(army, new SplittableRandom(3));
+        assertEquals(3, grid.size());
+
+        army.get(0).die();
+        AbstractCharacter[] pairs = grid.pairNeighbors(army.subList(0, 2), new SplittableRandom(3));
+
+        assertEquals(0, pairs.length);
+        assertEquals(1, grid.size());
+        assertEquals(-1, grid.cellOf(army.get(2)));
+    }
+
+    @Test
+    @DisplayName("Le nombre de combats croît avec la population et la surface")
+    void testThroughputScales() {
+        BattleGrid sparse = new BattleGrid(1_000_000);
+        BattleGrid dense = new BattleGrid(1_000_000);
+        int fewPairs = sparse.pairNeighbors(createArmy(200), new SplittableRandom(4)).length / 2;
+        int manyPairs = dense.pairNeighbors(createArmy(20_000), new SplittableRandom(4)).length / 2;
+
+        assertTrue(fewPairs < 40, "paires : " + fewPairs);
+        assertTrue(manyPairs > 5_000, "paires : " + manyPairs);
+    }
+
+    @Test
+    @DisplayName("Cent mille combattants sont appariés en temps linéaire")
+    void testLargeBattle() {
+        BattleGrid grid = new BattleGrid(4_000_000);
+        List<AbstractCharacter> army = createArmy(100_000);
+        SplittableRandom random = new SplittableRandom(5);
+        grid.pairNeighbors(army, random);
+
+        long start = System.nanoTime();
+        AbstractCharacter[] pairs = grid.pairNeighbors(army, random);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(pairs.length > 60_000, "combattants appariés : " + pairs.length);
+        assertTrue(elapsedMillis < 2000, "Trop lent : " + elapsedMillis + " ms");
+    }
+}
@@ -0,0 +1,161 @@
+package org.example.model.places;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.gallic.Gallic;
+import org.example.model.character.roman.Legionary;
+import org.example.model.clanLeader.ClanLeader;
+import org.example.model.event.SimulationEventSink;
+import org.example.model.event.SimulationLog;
+import org.example.model.theaterInvasion.TheaterInvasion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des effectifs par faction des champs de bataille
+ */
+class BattlefieldFactionTest {
+
+    private SimulationEventSink previousSink;
+    private GallicVillage village;
+    private RomanFortifiedCamp camp;
+
+    @BeforeEach
+    void setUp() {
+        previousSink = SimulationLog.getSink();
+        SimulationLog.setSink(null);
+        village = new GallicVillage("Abraracourcix", "Village", 1000, new ArrayList<>(), new ArrayList<>());
+        camp = new RomanFortifiedCamp("Caius", "Babaorum", 1000, new ArrayList<>(), new ArrayList<>());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SimulationLog.setSink(previousSink);
+    }
+
+    private Gallic gallic(String name, AbstractPlace origin) {
+        Gallic gallic = new Gallic(name, 30, 40, 100);
+        gallic.setOriginPlace(origin);
+        return gallic;
+    }
+
+    private Legionary legionary(String name) {
+        Legionary legionary = new Legionary(name, 30, 40, 100);
+        legionary.setOriginPlace(camp);
+        return legionary;
+    }
+
+    @Test
+    @DisplayName("Les effectifs par faction suivent les arrivées et les départs")
+    void testRostersFollowMoves() {
+        Gallic asterix = gallic("Astérix", village);
+        Gallic obelix = gallic("Obélix", village);
+        ArrayList<AbstractCharacter> initial = new ArrayList<>(List.of(asterix));
+        Battlefield battlefield = new Battlefield("Plaine", 5000, initial, new ArrayList<>());
+        assertEquals(1, battlefield.getFactionCount());
+
+        battlefield.addCharacter(obelix);
+        Legionary caius = legionary("Caius");
+        battlefield.addCharacter(caius);
+
+        assertEquals(2, battlefield.getFactionCount());
+        assertEquals(List.of(asterix, obelix), battlefield.getCharactersByFaction().get(village.getFaction()));
+        assertEquals(List.of(caius), battlefield.getCharactersByFaction().get(camp.getFaction()));
+
+        battlefield.deleteCharacter(caius);
+        assertEquals(1, battlefield.getFactionCount());
+        assertFalse(battlefield.getCharactersByFaction().containsKey(camp.getFaction()));
+    }
+
+    @Test
+    @DisplayName("Un personnage qui change d'origine sur le champ en part proprement")
+    void testOriginChangedOnBattlefield() {
+        Battlefield battlefield = new Battlefield("Plaine", 5000, new ArrayList<>(), new ArrayList<>());
+        Gallic traitor = gallic("Traître", village);
+        battlefield.addCharacter(traitor);
+
+        traitor.setOriginPlace(camp);
+        battlefield.deleteCharacter(traitor);
+
+        assertEquals(0, battlefield.getFactionCount());
+    }
+
+    @Test
+    @DisplayName("Quand une seule faction reste, tous ses survivants rentrent chez eux")
+    void testWinningFactionGoesHome() {
+        List<Gallic> gauls = new ArrayList<>();
+        ArrayList<AbstractCharacter> fighters = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Gallic g = gallic("Gaulois " + i, village);
+            g.setStrength(80);
+            gauls.add(g);
+            fighters.add(g);
+        }
+        Legionary caius = legionary("Caius");
+        fighters.add(caius);
+        Battlefield battlefield = new Battlefield("Plaine", 100, fighters, new ArrayList<>());
+        ArrayList<ClanLeader> leaders = new ArrayList<>();
+        leaders.add(new ClanLeader("Abraracourcix", ClanLeader.Sex.MALE, 50, village));
+        leaders.add(new ClanLeader("Caius", ClanLeader.Sex.MALE, 45, camp));
+        ArrayList<AbstractPlace> places = new ArrayList<>(List.of(village, camp, battlefield));
+        TheaterInvasion theater = new TheaterInvasion("Armorique", places.size(), places, leaders);
+        theater.setSeed(1);
+
+        theater.runHeadless(50, null);
+
+        assertEquals(0, battlefield.getNumberPresentCharacters());
+        assertEquals(0, battlefield.getFactionCount());
+        long survivors = gauls.stream().filter(AbstractCharacter::isAlive).count();
+        assertTrue(survivors > 0);
+        assertEquals(survivors, village.getNumberPresentCharacters());
+    }
+
+    @Test
+    @DisplayName("La grille n'apparie que des voisins de factions opposées")
+    void testGridPairsEnemiesOnly() {
+        BattleGrid grid = new BattleGrid(10000);
+        List<AbstractCharacter> army = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Gallic g = gallic("Gaulois " + i, village);
+            army.add(g);
+            grid.place(g, 0, 0);
+        }
+        Legionary caius = legionary("Caius");
+        army.add(caius);
+        grid.place(caius, 0, 0);
+        Legionary tullius = legionary("Tullius");
+        army.add(tullius);
+        grid.place(tullius, 1, 0);
+
+        AbstractCharacter[] pairs = grid.pairNeighbors(army, Faction::of, new SplittableRandom(3));
+
+        assertEquals(4, pairs.length);
+        for (int i = 0; i < pairs.length; i += 2) {
+            assertNotSame(Faction.of(pairs[i]), Faction.of(pairs[i + 1]));
+        }
+    }
+
+    @Test
+    @DisplayName("Sur une foule mêlée, aucune paire n'est formée de deux alliés")
+    void testCrowdedGrid() {
+        BattleGrid grid = new BattleGrid(2500);
+        List<AbstractCharacter> army = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            army.add(i % 3 == 0 ? legionary("Légionnaire " + i) : gallic("Gaulois " + i, village));
+        }
+
+        AbstractCharacter[] pairs = grid.pairNeighbors(army, Faction::of, new SplittableRandom(4));
+
+        assertTrue(pairs.length >= 1800, "combattants appariés : " + pairs.length);
+        for (int i = 0; i < pairs.length; i += 2) {
+            assertNotSame(Faction.of(pairs[i]), Faction.of(pairs[i + 1]));
+        }
+    }
+}
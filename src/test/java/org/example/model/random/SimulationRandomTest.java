@@ -0,0 +1,118 @@
+package org.example.model.random;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.werewolf.AgeCategory;
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.colony.Colony;
+import org.example.model.event.SimulationLog;
+import org.example.model.event.SimulationEventSink;
+import org.example.model.pack.Pack;
+import org.example.model.pack.Rank;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du service de hasard de la simulation
+ */
+class SimulationRandomTest {
+
+    private SimulationEventSink previousSink;
+
+    @BeforeEach
+    void setUp() {
+        previousSink = SimulationLog.getSink();
+        SimulationLog.setSink(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SimulationLog.setSink(previousSink);
+    }
+
+    private Werewolf createWerewolf(String name, AbstractCharacter.Sex sex, int strength) {
+        Werewolf w = new Werewolf(name);
+        w.setSex(sex);
+        w.setAgeCategory(AgeCategory.ADULT);
+        w.setStrength(strength);
+        w.setStamina(30);
+        w.setHealth(100);
+        w.setAge(10);
+        w.setHunger(50);
+        w.setImpetuosityFactor(0.5);
+        return w;
+    }
+
+    /**
+     * Construit une colonie de deux meutes, la fait vivre et résume son état.
+     */
+    private String runColony(long seed) {
+        SimulationRandom.setSeed(seed);
+        Colony colony = new Colony("Colonie");
+        for (int p = 0; p < 2; p++) {
+            Pack pack = new Pack("Meute " + p,
+                    createWerewolf("Alpha " + p, AbstractCharacter.Sex.MALE, 60),
+                    createWerewolf("Alpha F " + p, AbstractCharacter.Sex.FEMALE, 55));
+            for (int i = 0; i < 6; i++) {
+                pack.addWerewolf(createWerewolf("Loup " + p + "-" + i,
+                        i % 2 == 0 ? AbstractCharacter.Sex.MALE : AbstractCharacter.Sex.FEMALE, 20 + 5 * i), Rank.GAMMA);
+            }
+            colony.addPack(pack);
+        }
+        for (int turn = 0; turn < 30; turn++) {
+            colony.advanceTime();
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Pack pack : colony.getPacks()) {
+            sb.append(pack.getName()).append(':');
+            for (Werewolf w : pack.getMembers()) {
+                sb.append(w.getName()).append('/').append(w.getRank()).append('/').append(w.getStrength())
+                        .append('/').append(w.getBelligerence()).append('/').append(w.isHuman()).append(' ');
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    @Test
+    @DisplayName("Une même graine redonne les mêmes flux")
+    void testSameSeedSameStreams() {
+        SimulationRandom.setSeed(123L);
+        SplittableRandom first = SimulationRandom.split();
+        SplittableRandom second = SimulationRandom.split();
+        long a = first.nextLong();
+        long b = second.nextLong();
+
+        SimulationRandom.setSeed(123L);
+        assertEquals(a, SimulationRandom.split().nextLong());
+        assertEquals(b, SimulationRandom.split().nextLong());
+        assertNotEquals(a, b);
+    }
+
+    @Test
+    @DisplayName("Une colonie construite après la même graine vit la même histoire")
+    void testColonyReplay() {
+        assertEquals(runColony(99L), runColony(99L));
+    }
+
+    @Test
+    @DisplayName("Un loup-garou en meute partage le flux de sa meute")
+    void testWerewolfUsesPackStream() {
+        Werewolf alpha = createWerewolf("Alpha", AbstractCharacter.Sex.MALE, 60);
+        Werewolf alphaF = createWerewolf("Alpha F", AbstractCharacter.Sex.FEMALE, 55);
+        Werewolf lone = createWerewolf("Solitaire", AbstractCharacter.Sex.MALE, 40);
+        Pack pack = new Pack("Meute", alpha, alphaF);
+        pack.addWerewolf(lone, Rank.BETA);
+
+        assertSame(pack.getRandom(), lone.getRandom());
+
+        pack.removeWerewolf(lone);
+        assertNotSame(pack.getRandom(), lone.getRandom());
+        assertSame(lone.getRandom(), lone.getRandom());
+    }
+}
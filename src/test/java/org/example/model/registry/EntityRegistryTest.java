@@ -0,0 +1,94 @@
+package org.example.model.registry;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.gallic.Gallic;
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.clanLeader.ClanLeader;
+import org.example.model.pack.Pack;
+import org.example.model.pack.Rank;
+import org.example.model.places.Battlefield;
+import org.example.model.places.GallicVillage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du registre global des entités
+ */
+class EntityRegistryTest {
+
+    private GallicVillage village;
+    private Battlefield battlefield;
+    private ClanLeader leader;
+    private Gallic asterix;
+
+    @BeforeEach
+    void setUp() {
+        village = new GallicVillage("Abraracourcix", "Village", 1000, new ArrayList<>(), new ArrayList<>());
+        battlefield = new Battlefield("Plaine", 5000, new ArrayList<>(), new ArrayList<>());
+        leader = new ClanLeader("Abraracourcix", ClanLeader.Sex.MALE, 45, village);
+        asterix = new Gallic("Asterix", 35, 80, 100);
+        asterix.setOriginPlace(village);
+    }
+
+    @Test
+    @DisplayName("Les identifiants sont consécutifs")
+    void testIdsAreDense() {
+        Gallic first = new Gallic("Un", 20, 10, 100);
+        Gallic second = new Gallic("Deux", 20, 10, 100);
+
+        assertEquals(first.getId() + 1, second.getId());
+        assertTrue(second.getId() < EntityRegistry.getCharacterCount());
+    }
+
+    @Test
+    @DisplayName("Le lieu courant suit les entrées et sorties")
+    void testPlaceFollowsMoves() {
+        assertNull(EntityRegistry.placeOf(asterix));
+
+        village.addCharacter(asterix);
+        assertSame(village, EntityRegistry.placeOf(asterix));
+
+        leader.transferToBattlefield(asterix, battlefield);
+        assertSame(battlefield, EntityRegistry.placeOf(asterix));
+
+        battlefield.deleteCharacter(asterix);
+        assertNull(EntityRegistry.placeOf(asterix));
+    }
+
+    @Test
+    @DisplayName("Le chef responsable est celui du lieu d'origine")
+    void testLeaderOfOriginPlace() {
+        assertSame(leader, EntityRegistry.leaderOf(asterix));
+        assertSame(leader, village.getClanLeader());
+
+        Gallic stranger = new Gallic("Etranger", 30, 20, 100);
+        assertNull(EntityRegistry.leaderOf(stranger));
+
+        leader.setPlace(battlefield);
+        assertNull(village.getClanLeader());
+        assertNull(EntityRegistry.leaderOf(asterix));
+    }
+
+    @Test
+    @DisplayName("La meute d'un loup-garou est renseignée par la meute elle-même")
+    void testPackOfWerewolf() {
+        Werewolf male = new Werewolf("Alpha");
+        male.setSex(AbstractCharacter.Sex.MALE);
+        Werewolf female = new Werewolf("Alpha F");
+        female.setSex(AbstractCharacter.Sex.FEMALE);
+        Pack pack = new Pack("Meute", male, female);
+        Werewolf beta = new Werewolf("Beta");
+
+        pack.addWerewolf(beta, Rank.BETA);
+        assertSame(pack, EntityRegistry.packOf(beta));
+
+        pack.removeWerewolf(beta);
+        assertNull(EntityRegistry.packOf(beta));
+        assertNull(EntityRegistry.packOf(asterix));
+    }
+}
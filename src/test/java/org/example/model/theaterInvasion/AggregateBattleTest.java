@@ -0,0 +1,176 @@
+package org.example.model.theaterInvasion;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.gallic.Gallic;
+import org.example.model.character.roman.Legionary;
+import org.example.model.clanLeader.ClanLeader;
+import org.example.model.event.SimulationEventSink;
+import org.example.model.event.SimulationLog;
+import org.example.model.places.AbstractPlace;
+import org.example.model.places.Battlefield;
+import org.example.model.places.Faction;
+import org.example.model.places.GallicVillage;
+import org.example.model.places.RomanFortifiedCamp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des batailles agrégées par faction
+ */
+class AggregateBattleTest {
+
+    private SimulationEventSink previousSink;
+    private GallicVillage village;
+    private RomanFortifiedCamp camp;
+
+    @BeforeEach
+    void setUp() {
+        previousSink = SimulationLog.getSink();
+        SimulationLog.setSink(null);
+        village = new GallicVillage("Abraracourcix", "Village", 1000, new ArrayList<>(), new ArrayList<>());
+        camp = new RomanFortifiedCamp("Caius", "Babaorum", 1000, new ArrayList<>(), new ArrayList<>());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SimulationLog.setSink(previousSink);
+    }
+
+    private void enlist(List<AbstractCharacter> army, int count, boolean gallic, int strength, int stamina) {
+        for (int i = 0; i < count; i++) {
+            AbstractCharacter c = gallic ? new Gallic("Gaulois", 30, strength, 100) : new Legionary("Légionnaire", 30, strength, 100);
+            c.setStamina(stamina);
+            c.setOriginPlace(gallic ? village : camp);
+            army.add(c);
+        }
+    }
+
+    @Test
+    @DisplayName("Les pertes attendues suivent la loi du carré")
+    void testExpectedLosses() {
+        List<AbstractCharacter> army = new ArrayList<>();
+        enlist(army, 10, true, 50, 0);
+        enlist(army, 20, false, 30, 10);
+
+        AggregateBattle battle = new AggregateBattle(Faction.group(army));
+
+        assertEquals(2, battle.getSideCount());
+        assertSame(village.getFaction(), battle.getFaction(0));
+        assertEquals(10, battle.getCount(0));
+        // Les Romains infligent 20 * 30 = 600 points aux Gaulois, qui en perdent 6
+        assertEquals(6.0, battle.getExpectedLosses(0), 1e-9);
+        // Les Gaulois infligent 10 * (50 - 10) = 400 points aux Romains, qui en perdent 4
+        assertEquals(4.0, battle.getExpectedLosses(1), 1e-9);
+
+        List<AbstractCharacter> dead = battle.sampleLosses(new SplittableRandom(1));
+        assertEquals(10, dead.size());
+        assertEquals(10, dead.stream().map(AbstractCharacter::getId).distinct().count());
+        assertEquals(6, dead.stream().filter(c -> c instanceof Gallic).count());
+    }
+
+    @Test
+    @DisplayName("Les factions viennent du lieu d'origine, à défaut du type de personnage")
+    void testFactions() {
+        GallicVillage other = new GallicVillage("Vercingétorix", "Gergovie", 1000, new ArrayList<>(), new ArrayList<>());
+        Gallic local = new Gallic("Astérix", 30, 50, 100);
+        local.setOriginPlace(village);
+        Gallic stranger = new Gallic("Arverne", 30, 50, 100);
+        stranger.setOriginPlace(other);
+        Gallic wanderer = new Gallic("Errant", 30, 50, 100);
+        Legionary legionary = new Legionary("Caius", 30, 50, 100);
+
+        assertSame(village.getFaction(), Faction.of(local));
+        assertSame(other.getFaction(), Faction.of(stranger));
+        assertSame(Faction.GAULS, Faction.of(wanderer));
+        assertSame(Faction.ROMANS, Faction.of(legionary));
+        assertEquals("Village", village.getFaction().getName());
+
+        ClanLeader leader = new ClanLeader("Abraracourcix", ClanLeader.Sex.MALE, 50, village);
+        assertSame(leader, Faction.of(local).getLeader());
+        assertEquals(4, new AggregateBattle(Faction.group(List.of(local, stranger, wanderer, legionary))).getSideCount());
+    }
+
+    @Test
+    @DisplayName("Une seule faction sur le champ : aucune perte")
+    void testSingleFaction() {
+        List<AbstractCharacter> army = new ArrayList<>();
+        enlist(army, 50, true, 80, 0);
+
+        AggregateBattle battle = new AggregateBattle(Faction.group(army));
+
+        assertEquals(1, battle.getSideCount());
+        assertEquals(0.0, battle.getExpectedLosses(0));
+        assertTrue(battle.sampleLosses(new SplittableRandom(2)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Les pertes tirées valent en moyenne les pertes attendues")
+    void testSampledLossesAverage() {
+        List<AbstractCharacter> army = new ArrayList<>();
+        enlist(army, 7, true, 33, 0);
+        enlist(army, 9, false, 31, 5);
+        AggregateBattle battle = new AggregateBattle(Faction.group(army));
+        double expected = battle.getExpectedLosses(0) + battle.getExpectedLosses(1);
+
+        SplittableRandom random = new SplittableRandom(3);
+        int total = 0;
+        for (int i = 0; i < 10_000; i++) {
+            total += battle.sampleLosses(random).size();
+        }
+
+        assertEquals(expected, total / 10_000.0, 0.05);
+    }
+
+    @Test
+    @DisplayName("Le mode agrégé fait fondre les armées et le mode exact reste disponible")
+    void testAggregateModeInTheater() {
+        ArrayList<AbstractCharacter> army = new ArrayList<>();
+        enlist(army, 200, true, 60, 10);
+        enlist(army, 200, false, 55, 10);
+        Battlefield battlefield = new Battlefield("Plaine", 5000, army, new ArrayList<>());
+        ArrayList<ClanLeader> leaders = new ArrayList<>();
+        leaders.add(new ClanLeader("Abraracourcix", ClanLeader.Sex.MALE, 50, village));
+        leaders.add(new ClanLeader("Caius", ClanLeader.Sex.MALE, 45, camp));
+        ArrayList<AbstractPlace> places = new ArrayList<>(List.of(village, camp, battlefield));
+        TheaterInvasion theater = new TheaterInvasion("Armorique", places.size(), places, leaders);
+        theater.setSeed(4);
+        theater.setCombatMode(CombatMode.AGGREGATE);
+
+        theater.runHeadless(5, null);
+
+        // Les survivants d'une faction victorieuse rentrent chez eux
+        int present = battlefield.getNumberPresentCharacters();
+        long dead = army.stream().filter(c -> !c.isAlive()).count();
+        assertTrue(present < 400 && dead > 0, "présents : " + present);
+        assertEquals(400, present + dead + village.getNumberPresentCharacters() + camp.getNumberPresentCharacters());
+
+        theater.setCombatMode(CombatMode.MASS);
+        theater.runHeadless(1, null);
+        assertTrue(battlefield.getNumberPresentCharacters() <= present);
+    }
+
+    @Test
+    @DisplayName("Un tour d'un million de soldats se compte en millisecondes")
+    void testMillionSoldiers() {
+        List<AbstractCharacter> army = new ArrayList<>();
+        enlist(army, 600_000, true, 60, 10);
+        enlist(army, 400_000, false, 70, 20);
+        new AggregateBattle(Faction.group(army)).sampleLosses(new SplittableRandom(5));
+
+        long start = System.nanoTime();
+        AggregateBattle battle = new AggregateBattle(Faction.group(army));
+        List<AbstractCharacter> dead = battle.sampleLosses(new SplittableRandom(6));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertFalse(dead.isEmpty());
+        assertTrue(elapsedMillis < 1000, "Trop lent : " + elapsedMillis + " ms");
+    }
+}
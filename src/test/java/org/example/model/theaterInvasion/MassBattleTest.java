@@ -0,0 +1,161 @@
+package org.example.model.theaterInvasion;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.gallic.Gallic;
+import org.example.model.character.roman.Legionary;
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.clanLeader.ClanLeader;
+import org.example.model.event.SimulationEventSink;
+import org.example.model.event.SimulationLog;
+import org.example.model.places.AbstractPlace;
+import org.example.model.places.Battlefield;
+import org.example.model.places.Faction;
+import org.example.model.places.GallicVillage;
+import org.example.model.places.RomanFortifiedCamp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des batailles de masse
+ */
+class MassBattleTest {
+
+    private SimulationEventSink previousSink;
+
+    @BeforeEach
+    void setUp() {
+        previousSink = SimulationLog.getSink();
+        SimulationLog.setSink(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SimulationLog.setSink(previousSink);
+    }
+
+    private List<AbstractCharacter> createArmies(int gauls, int romans, int werewolves) {
+        List<AbstractCharacter> army = new ArrayList<>();
+        for (int i = 0; i < gauls; i++) {
+            army.add(new Gallic("Gaulois " + i, 30, 20 + i % 20, 100));
+        }
+        for (int i = 0; i < romans; i++) {
+            army.add(new Legionary("Légionnaire " + i, 30, 20 + i % 15, 100));
+        }
+        for (int i = 0; i < werewolves; i++) {
+            army.add(new Werewolf("Loup " + i, 30, 25, 100));
+        }
+        return army;
+    }
+
+    private void assertEveryoneStrikesAnEnemy(MassBattle battle) {
+        for (int i = 0; i < battle.size(); i++) {
+            int target = battle.targetOf(i);
+            assertTrue(target >= 0, "sans cible : " + i);
+            assertNotEquals(Faction.of(battle.fighter(i)), Faction.of(battle.fighter(target)));
+        }
+    }
+
+    @Test
+    @DisplayName("Chaque combattant frappe un ennemi d'une autre faction")
+    void testEveryoneStrikesAnEnemy() {
+        MassBattle battle = new MassBattle(Faction.group(createArmies(40, 35, 11)), new SplittableRandom(1));
+
+        assertEquals(86, battle.size());
+        assertEveryoneStrikesAnEnemy(battle);
+    }
+
+    @Test
+    @DisplayName("Une faction en surnombre attaque à plusieurs les mêmes ennemis")
+    void testOutnumbered() {
+        MassBattle battle = new MassBattle(Faction.group(createArmies(10, 2, 0)), new SplittableRandom(2));
+
+        assertEveryoneStrikesAnEnemy(battle);
+    }
+
+    @Test
+    @DisplayName("Une seule faction sur le champ : personne ne se bat")
+    void testSingleFaction() {
+        List<AbstractCharacter> army = createArmies(5, 0, 0);
+        MassBattle battle = new MassBattle(Faction.group(army), new SplittableRandom(3));
+        battle.strike();
+
+        for (int i = 0; i < battle.size(); i++) {
+            assertEquals(-1, battle.targetOf(i));
+        }
+        assertTrue(army.stream().allMatch(c -> c.getHealth() == 100));
+    }
+
+    @Test
+    @DisplayName("Les coups d'un tour sont simultanés, et les morts ne combattent plus")
+    void testSimultaneousBlows() {
+        Gallic gallic = new Gallic("Astérix", 30, 120, 100);
+        gallic.setStamina(10);
+        Legionary legionary = new Legionary("Caius", 30, 130, 100);
+        legionary.setStamina(20);
+        Legionary dead = new Legionary("Tullius", 30, 50, 100);
+        dead.die();
+
+        MassBattle battle = new MassBattle(Faction.group(List.of(gallic, legionary, dead)), new SplittableRandom(4));
+        battle.strike();
+
+        assertEquals(2, battle.size());
+        assertFalse(gallic.isAlive());
+        assertFalse(legionary.isAlive());
+        int gallicIndex = battle.fighter(0) == gallic ? 0 : 1;
+        assertEquals(120, battle.damageTo(gallicIndex));
+        assertEquals(100, battle.damageTo(1 - gallicIndex));
+    }
+
+    @Test
+    @DisplayName("En mode masse, les morts et les fuyards quittent le champ dans le même tour")
+    void testMassModeInTheater() {
+        GallicVillage village = new GallicVillage("Abraracourcix", "Village", 1000, new ArrayList<>(), new ArrayList<>());
+        RomanFortifiedCamp camp = new RomanFortifiedCamp("Caius", "Babaorum", 1000, new ArrayList<>(), new ArrayList<>());
+        ArrayList<ClanLeader> leaders = new ArrayList<>();
+        leaders.add(new ClanLeader("Abraracourcix", ClanLeader.Sex.MALE, 50, village));
+        leaders.add(new ClanLeader("Caius", ClanLeader.Sex.MALE, 45, camp));
+        ArrayList<AbstractCharacter> fighters = new ArrayList<>();
+        for (AbstractCharacter c : createArmies(50, 50, 0)) {
+            c.setOriginPlace(c instanceof Gallic ? village : camp);
+            fighters.add(c);
+        }
+        Battlefield battlefield = new Battlefield("Plaine", 5000, fighters, new ArrayList<>());
+        ArrayList<AbstractPlace> places = new ArrayList<>(List.of(village, camp, battlefield));
+        TheaterInvasion theater = new TheaterInvasion("Armorique", places.size(), places, leaders);
+        theater.setSeed(5);
+        theater.setCombatMode(CombatMode.MASS);
+
+        theater.runHeadless(3, null);
+
+        assertTrue(battlefield.getNumberPresentCharacters() < 100);
+        for (AbstractCharacter c : battlefield.getCharactersView()) {
+            assertTrue(c.isAlive());
+            assertTrue(c.getHealth() >= 30, c.getName() + " aurait dû fuir");
+        }
+        assertEquals(100, battlefield.getNumberPresentCharacters() + village.getNumberPresentCharacters()
+                + camp.getNumberPresentCharacters() + fighters.stream().filter(c -> !c.isAlive()).count());
+    }
+
+    @Test
+    @DisplayName("Un tour de cent mille combattants tient dans le budget")
+    void testLargeBattle() {
+        List<AbstractCharacter> army = createArmies(50_000, 40_000, 10_000);
+        new MassBattle(Faction.group(army), new SplittableRandom(6)).strike();
+
+        long start = System.nanoTime();
+        MassBattle battle = new MassBattle(Faction.group(army), new SplittableRandom(7));
+        battle.strike();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEveryoneStrikesAnEnemy(battle);
+        assertTrue(elapsedMillis < 2000, "Trop lent : " + elapsedMillis + " ms");
+    }
+}
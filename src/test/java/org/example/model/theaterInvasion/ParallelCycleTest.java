@@ -0,0 +1,146 @@
+package org.example.model.theaterInvasion;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.gallic.Gallic;
+import org.example.model.character.roman.Legionary;
+import org.example.model.clanLeader.ClanLeader;
+import org.example.model.colony.Colony;
+import org.example.model.food.FoodItem;
+import org.example.model.places.AbstractPlace;
+import org.example.model.places.Battlefield;
+import org.example.model.places.GallicVillage;
+import org.example.model.places.RomanFortifiedCamp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'exécution des cycles lieu par lieu, en séquentiel et en parallèle
+ */
+class ParallelCycleTest {
+
+    private static final int BATTLEFIELDS = 12;
+
+    /**
+     * Construit un monde avec un village, un camp et plusieurs champs de bataille peuplés.
+     */
+    private TheaterInvasion buildWorld() {
+        GallicVillage village = new GallicVillage("Abraracourcix", "Village", 1000, new ArrayList<>(), new ArrayList<>());
+        RomanFortifiedCamp camp = new RomanFortifiedCamp("Caius", "Babaorum", 1000, new ArrayList<>(), new ArrayList<>());
+        ArrayList<ClanLeader> leaders = new ArrayList<>();
+        leaders.add(new ClanLeader("Abraracourcix", ClanLeader.Sex.MALE, 50, village));
+        leaders.add(new ClanLeader("Caius", ClanLeader.Sex.MALE, 45, camp));
+
+        ArrayList<AbstractPlace> places = new ArrayList<>();
+        places.add(village);
+        places.add(camp);
+        for (int b = 0; b < BATTLEFIELDS; b++) {
+            ArrayList<AbstractCharacter> fighters = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Gallic gallic = new Gallic("Gaulois " + b + "-" + i, 30, 20 + i * 5, 100);
+                gallic.setOriginPlace(village);
+                fighters.add(gallic);
+                Legionary legionary = new Legionary("Légionnaire " + b + "-" + i, 30, 25 + i * 3, 100);
+                legionary.setOriginPlace(camp);
+                fighters.add(legionary);
+            }
+            places.add(new Battlefield("Plaine " + b, 5000, fighters, new ArrayList<>()));
+        }
+        return new TheaterInvasion("Armorique", places.size(), places, leaders);
+    }
+
+    /**
+     * Résume l'état de tous les lieux sous forme de texte comparable.
+     */
+    private String fingerprint(TheaterInvasion theater) {
+        StringBuilder sb = new StringBuilder();
+        for (AbstractPlace place : theater.getExistantsPlaces()) {
+            sb.append(place.getName()).append(':');
+            List<String> entries = new ArrayList<>();
+            for (AbstractCharacter c : place.getCharactersView()) {
+                entries.add(c.getName() + '/' + c.getHealth() + '/' + c.getStrength() + '/' + c.getHunger());
+            }
+            entries.sort(null);
+            sb.append(entries);
+            for (FoodItem food : place.getFoodsView()) {
+                sb.append(food.getType());
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    private String run(int parallelism, long seed, int cycles) {
+        TheaterInvasion theater = buildWorld();
+        theater.setSeed(seed);
+        theater.setParallelism(parallelism);
+        try {
+            theater.runHeadless(cycles, null);
+        } finally {
+            theater.setParallelism(1);
+        }
+        return fingerprint(theater);
+    }
+
+    @Test
+    @DisplayName("Une même graine donne le même monde, quel que soit le nombre de threads")
+    void testParallelMatchesSequential() {
+        String sequential = run(1, 42L, 30);
+        assertEquals(sequential, run(4, 42L, 30));
+        assertEquals(sequential, run(1, 42L, 30));
+    }
+
+    @Test
+    @DisplayName("Des graines différentes donnent des mondes différents")
+    void testSeedMatters() {
+        assertNotEquals(run(1, 1L, 30), run(1, 2L, 30));
+    }
+
+    @Test
+    @DisplayName("Les fuyards et les vainqueurs rejoignent leur lieu d'origine à la fin du cycle")
+    void testCrossPlaceMovesAreMerged() {
+        TheaterInvasion theater = buildWorld();
+        theater.setSeed(7L);
+        theater.setParallelism(3);
+        theater.runHeadless(60, null);
+        theater.setParallelism(1);
+
+        int total = 0;
+        int home = 0;
+        for (AbstractPlace place : theater.getExistantsPlaces()) {
+            total += place.getNumberPresentCharacters();
+            if (!(place instanceof Battlefield)) {
+                home += place.getNumberPresentCharacters();
+            }
+        }
+        assertTrue(home > 0, "some fighters should have gone home");
+        assertTrue(total <= BATTLEFIELDS * 8);
+    }
+
+    @Test
+    @DisplayName("Une colonie rattachée après coup reprend le parallélisme du théâtre")
+    void testColonyAttachedLater() {
+        TheaterInvasion theater = buildWorld();
+        theater.setParallelism(3);
+        Colony colony = new Colony("Colonie");
+        try {
+            theater.setColony(colony);
+            assertEquals(3, colony.getParallelism());
+        } finally {
+            theater.setParallelism(1);
+        }
+        assertEquals(1, colony.getParallelism());
+    }
+
+    @Test
+    @DisplayName("Le parallélisme doit être au moins 1")
+    void testInvalidParallelism() {
+        TheaterInvasion theater = buildWorld();
+        assertThrows(IllegalArgumentException.class, () -> theater.setParallelism(0));
+        assertEquals(1, theater.getParallelism());
+    }
+}
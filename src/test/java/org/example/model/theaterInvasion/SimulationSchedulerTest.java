@@ -0,0 +1,200 @@
+package org.example.model.theaterInvasion;
+
+import org.example.model.event.SimulationEventSink;
+import org.example.model.event.SimulationLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'ordonnanceur des tours en temps réel
+ */
+class SimulationSchedulerTest {
+
+    private SimulationEventSink previousSink;
+
+    @BeforeEach
+    void setUp() {
+        previousSink = SimulationLog.getSink();
+        SimulationLog.setSink(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SimulationLog.setSink(previousSink);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("Au plus vite, les tours s'enchaînent sans attente")
+    void testAsFastAsPossible() throws InterruptedException {
+        AtomicInteger ticks = new AtomicInteger();
+        SimulationScheduler[] holder = new SimulationScheduler[1];
+        holder[0] = new SimulationScheduler("test", () -> {
+            if (ticks.incrementAndGet() == 10_000) {
+                holder[0].stop();
+            }
+        }, SimulationScheduler.AS_FAST_AS_POSSIBLE);
+
+        long start = System.nanoTime();
+        holder[0].start();
+        holder[0].awaitTermination();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(10_000, ticks.get());
+        assertEquals(10_000, holder[0].getTickCount());
+        assertTrue(elapsedMillis < 2000, "Trop lent : " + elapsedMillis + " ms");
+    }
+
+    @Test
+    @DisplayName("La cadence suit la période demandée")
+    void testPeriod() {
+        SimulationScheduler scheduler = new SimulationScheduler("test", () -> { }, 20);
+        scheduler.start();
+        sleep(300);
+        scheduler.stop();
+
+        long ticks = scheduler.getTickCount();
+        assertTrue(ticks >= 5 && ticks <= 17, "tours : " + ticks);
+    }
+
+    @Test
+    @DisplayName("En pause, aucun tour ne passe ; la reprise est immédiate")
+    void testPauseAndResume() throws InterruptedException {
+        SimulationScheduler scheduler = new SimulationScheduler("test", () -> sleep(5), SimulationScheduler.AS_FAST_AS_POSSIBLE);
+        scheduler.start();
+        sleep(50);
+
+        scheduler.pause();
+        scheduler.awaitIdle();
+        assertTrue(scheduler.isPaused());
+        long paused = scheduler.getTickCount();
+        sleep(100);
+        assertEquals(paused, scheduler.getTickCount());
+
+        // Même avec une longue période, la reprise lance un tour tout de suite
+        scheduler.setPeriod(10_000);
+        scheduler.resume();
+        sleep(100);
+        assertEquals(paused + 1, scheduler.getTickCount());
+
+        scheduler.stop();
+        scheduler.awaitTermination();
+        assertTrue(scheduler.isStopped());
+    }
+
+    @Test
+    @DisplayName("Changer la période réveille l'ordonnanceur sans attendre la fin de l'ancienne")
+    void testPeriodChangeTakesEffectAtOnce() {
+        SimulationScheduler scheduler = new SimulationScheduler("test", () -> { }, 60_000);
+        scheduler.start();
+        sleep(50);
+        assertEquals(1, scheduler.getTickCount());
+
+        scheduler.setPeriod(SimulationScheduler.AS_FAST_AS_POSSIBLE);
+        sleep(50);
+        scheduler.stop();
+
+        assertTrue(scheduler.getTickCount() > 1);
+    }
+
+    @Test
+    @DisplayName("Raccourcir une longue période s'applique pendant l'attente en cours")
+    void testShorterPeriodTakesEffectAtOnce() {
+        SimulationScheduler scheduler = new SimulationScheduler("test", () -> { }, 5000);
+        scheduler.start();
+        sleep(50);
+        assertEquals(1, scheduler.getTickCount());
+
+        scheduler.setPeriod(50);
+        sleep(1000);
+        scheduler.stop();
+
+        // Une vingtaine de tours, sans rattrapage de ceux manqués avant le changement
+        long ticks = scheduler.getTickCount();
+        assertTrue(ticks >= 10 && ticks <= 25, "tours : " + ticks);
+    }
+
+    /**
+     * Lance un ordonnanceur dont le premier tour est lent et renvoie les dates de début des tours.
+     */
+    private List<Long> runWithSlowFirstTick(boolean catchUp) {
+        List<Long> starts = new ArrayList<>();
+        SimulationScheduler scheduler = new SimulationScheduler("test", () -> {
+            synchronized (starts) {
+                starts.add(System.nanoTime());
+                if (starts.size() == 1) {
+                    sleep(250);
+                }
+            }
+        }, 50);
+        scheduler.setCatchUp(catchUp);
+        scheduler.start();
+        sleep(400);
+        scheduler.stop();
+        synchronized (starts) {
+            return new ArrayList<>(starts);
+        }
+    }
+
+    @Test
+    @DisplayName("En rattrapage, les tours en retard s'enchaînent pour tenir le pas fixe")
+    void testCatchUp() {
+        List<Long> withCatchUp = runWithSlowFirstTick(true);
+        List<Long> withoutCatchUp = runWithSlowFirstTick(false);
+
+        // Le deuxième et le troisième tour, tous deux en retard, partent à la suite
+        long gap = (withCatchUp.get(2) - withCatchUp.get(1)) / 1_000_000;
+        assertTrue(gap < 25, "écart : " + gap + " ms");
+        long delayedGap = (withoutCatchUp.get(2) - withoutCatchUp.get(1)) / 1_000_000;
+        assertTrue(delayedGap >= 40, "écart : " + delayedGap + " ms");
+        assertTrue(withCatchUp.size() > withoutCatchUp.size());
+    }
+
+    @Test
+    @DisplayName("Un tour qui échoue arrête l'ordonnanceur")
+    void testFailingTick() throws InterruptedException {
+        SimulationScheduler scheduler = new SimulationScheduler("test", () -> {
+            throw new IllegalStateException("panne");
+        }, SimulationScheduler.AS_FAST_AS_POSSIBLE);
+        scheduler.start();
+        scheduler.awaitTermination();
+
+        assertTrue(scheduler.isStopped());
+        assertEquals(0, scheduler.getTickCount());
+        assertThrows(IllegalStateException.class, scheduler::start);
+    }
+
+    @Test
+    @DisplayName("Le théâtre fournit des ordonnanceurs réglés sur sa période")
+    void testTheaterScheduler() {
+        TheaterInvasion theater = new TheaterInvasion("Armorique", 0, new ArrayList<>(), new ArrayList<>());
+        assertEquals(TheaterInvasion.DEFAULT_TURN_PERIOD, theater.getTurnPeriod());
+        assertThrows(IllegalArgumentException.class, () -> theater.setTurnPeriod(-1));
+
+        theater.setTurnPeriod(SimulationScheduler.AS_FAST_AS_POSSIBLE);
+        SimulationScheduler scheduler = theater.createScheduler("test", theater::runNextCycle);
+        scheduler.start();
+        sleep(100);
+        scheduler.pause();
+        scheduler.awaitIdle();
+
+        assertTrue(theater.getCurrentTurn() > 1);
+        assertEquals(scheduler.getTickCount(), theater.getCurrentTurn());
+        scheduler.stop();
+    }
+}
@@ -5,6 +5,9 @@ import org.example.model.character.gallic.Gallic;
 import org.example.model.character.roman.Legionary;
 import org.example.model.character.werewolf.Werewolf;
 import org.example.model.clanLeader.ClanLeader;
+import org.example.model.event.SimulationEventSink;
+import org.example.model.event.SimulationEventType;
+import org.example.model.event.SimulationLog;
 import org.example.model.food.FoodItem;
 import org.example.model.food.FoodItemType;
 import org.example.model.places.*;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -460,6 +464,31 @@ class TheaterInvasionIntegrationTest {
         assertDoesNotThrow(() -> emptyVillage.displayCharacteristics());
     }
 
+    // ========== TESTS MODE HEADLESS ==========
+
+    @Test
+    @DisplayName("Mode headless: enchaîne les cycles sans console")
+    void testHeadlessRunsCyclesBackToBack() {
+        int lastTurn = theater.runHeadless(50, null);
+
+        assertEquals(50, lastTurn);
+        assertEquals(50, theater.getCurrentTurn());
+        assertEquals(75, theater.runHeadless(25, null));
+    }
+
+    @Test
+    @DisplayName("Mode headless: les messages vont au sink puis le sink précédent est restauré")
+    void testHeadlessRoutesMessagesToSink() {
+        List<SimulationEventType> received = new ArrayList<>();
+        SimulationEventSink previous = SimulationLog.getSink();
+
+        theater.runHeadless(3, (type, message) -> received.add(type));
+
+        assertTrue(received.contains(SimulationEventType.CYCLE));
+        assertTrue(received.contains(SimulationEventType.PHASE));
+        assertSame(previous, SimulationLog.getSink());
+    }
+
     // ========== TEST CONFORMITÉ SPÉCIFICATIONS TD3 ==========
 
     @Test
@@ -0,0 +1,56 @@
+package org.example.ui;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.gallic.Gallic;
+import org.example.model.food.FoodItem;
+import org.example.model.food.FoodItemType;
+import org.example.model.places.AbstractPlace;
+import org.example.model.places.Battlefield;
+import org.example.model.places.GallicVillage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la préparation des cartes de lieux, sans JavaFX
+ */
+class PlaceCardTest {
+
+    @Test
+    @DisplayName("Une carte reprend le nom, le type, les personnages et les stocks du lieu")
+    void testCardContent() {
+        Gallic asterix = new Gallic("Asterix", 35, 30, 100);
+        Gallic blesse = new Gallic("Blessé", 35, 30, 100);
+        blesse.setHealth(10);
+        ArrayList<AbstractCharacter> gauls = new ArrayList<>(List.of(asterix, blesse));
+        ArrayList<FoodItem> foods = new ArrayList<>(List.of(new FoodItem(FoodItemType.BOAR)));
+        GallicVillage village = new GallicVillage("Abraracourcix", "Village", 1000, gauls, foods);
+        Battlefield battlefield = new Battlefield("Plaine", 5000, new ArrayList<>(), new ArrayList<>());
+
+        List<AbstractPlace> places = List.of(village, battlefield);
+        List<PlaceCard> cards = PlaceCard.prepare(places, asterix);
+
+        PlaceCard villageCard = cards.get(0);
+        assertEquals("Village", villageCard.getName());
+        assertEquals("🏡", villageCard.getTypeEmoji());
+        assertFalse(villageCard.isBattlefield());
+        assertEquals("1 items", villageCard.getFoodText());
+        assertEquals(2, villageCard.getTags().size());
+
+        PlaceCard.Tag first = villageCard.getTags().get(0);
+        assertSame(asterix, first.getCharacter());
+        assertTrue(first.getLabel().contains("Asterix (100)"));
+        assertTrue(first.isSelected());
+        assertFalse(first.isLowHealth());
+        assertTrue(villageCard.getTags().get(1).isLowHealth());
+
+        PlaceCard battlefieldCard = cards.get(1);
+        assertTrue(battlefieldCard.isBattlefield());
+        assertTrue(battlefieldCard.getTags().isEmpty());
+        assertEquals("Empty", battlefieldCard.getFoodText());
+    }
+}
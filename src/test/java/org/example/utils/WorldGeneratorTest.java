@@ -0,0 +1,164 @@
+package org.example.utils;
+
+import org.example.model.character.AbstractCharacter;
+import org.example.model.character.gallic.Gallic;
+import org.example.model.character.werewolf.Werewolf;
+import org.example.model.event.SimulationEventSink;
+import org.example.model.event.SimulationLog;
+import org.example.model.pack.Pack;
+import org.example.model.pack.Rank;
+import org.example.model.places.AbstractPlace;
+import org.example.model.places.Battlefield;
+import org.example.model.places.Enclosure;
+import org.example.model.places.TypePlace;
+import org.example.model.registry.EntityRegistry;
+import org.example.model.theaterInvasion.TheaterInvasion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du générateur de mondes paramétrable
+ */
+class WorldGeneratorTest {
+
+    private SimulationEventSink previousSink;
+
+    @BeforeEach
+    void setUp() {
+        previousSink = SimulationLog.getSink();
+        SimulationLog.setSink(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SimulationLog.setSink(previousSink);
+    }
+
+    private String describe(TheaterInvasion theater) {
+        StringBuilder sb = new StringBuilder();
+        for (AbstractPlace place : theater.getExistantsPlaces()) {
+            sb.append(place.getName()).append(place.getNumberPresentFoods()).append(':');
+            for (AbstractCharacter c : place.getCharactersView()) {
+                sb.append(c.getClass().getSimpleName()).append(c.getStrength()).append('/')
+                        .append(c.getHealth()).append('/').append(c.getAge()).append(' ');
+            }
+        }
+        return sb.toString();
+    }
+
+    @Test
+    @DisplayName("Le monde contient le nombre de lieux et de personnages demandé")
+    void testSizes() {
+        WorldGenerator generator = new WorldGenerator(1L)
+                .setPlacesPerType(2)
+                .setPlaceCount(TypePlace.battlefield, 3)
+                .setCharactersPerPlace(20)
+                .setPackCount(3);
+        TheaterInvasion theater = generator.generate();
+
+        assertEquals(2 * 5 + 3, theater.getExistantsPlaces().size());
+        assertEquals(2 * 5, theater.getClanLeaders().size());
+        int population = 0;
+        for (AbstractPlace place : theater.getExistantsPlaces()) {
+            assertEquals(20, place.getNumberPresentCharacters());
+            population += place.getNumberPresentCharacters();
+        }
+        assertEquals(generator.getPopulation(), population);
+    }
+
+    @Test
+    @DisplayName("La même graine donne le même monde")
+    void testSeeded() {
+        WorldGenerator generator = new WorldGenerator(7L).setCharactersPerPlace(15);
+        assertEquals(describe(generator.generate()), describe(generator.generate()));
+        assertNotEquals(describe(generator.generate()), describe(new WorldGenerator(8L).setCharactersPerPlace(15).generate()));
+    }
+
+    @Test
+    @DisplayName("Les loups-garous des enclos sont répartis dans les meutes de la colonie")
+    void testColony() {
+        TheaterInvasion theater = new WorldGenerator(3L)
+                .setPlacesPerType(0)
+                .setPlaceCount(TypePlace.enclosure, 2)
+                .setCharactersPerPlace(30)
+                .setPackCount(4)
+                .generate();
+
+        assertNotNull(theater.getColony());
+        assertEquals(4, theater.getColony().getPacks().size());
+        int members = 0;
+        for (Pack pack : theater.getColony().getPacks()) {
+            assertNotNull(pack.getAlphaMale());
+            members += pack.getMembers().size();
+        }
+        assertEquals(60, members);
+        for (AbstractPlace place : theater.getExistantsPlaces()) {
+            assertInstanceOf(Enclosure.class, place);
+            for (AbstractCharacter c : place.getCharactersView()) {
+                assertNotNull(((Werewolf) c).getPack());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Après un cycle, chaque loup-garou reste dans un seul enclos et les nouveau-nés rejoignent celui de leur meute")
+    void testColonySurvivesCycles() {
+        WorldGenerator generator = new WorldGenerator(4L)
+                .setPlacesPerType(0)
+                .setPlaceCount(TypePlace.enclosure, 3)
+                .setCharactersPerPlace(12)
+                .setPackCount(3);
+        TheaterInvasion theater = generator.generate();
+        Pack pack = theater.getColony().getPacks().get(0);
+        AbstractPlace home = EntityRegistry.placeOf(pack.getAlphaMale());
+        Werewolf newborn = new Werewolf("Louveteau", 1, 10, 50);
+        newborn.setSex(AbstractCharacter.Sex.FEMALE);
+        pack.addWerewolf(newborn, Rank.GAMMA);
+        assertNull(EntityRegistry.placeOf(newborn));
+
+        theater.runHeadless(1, null);
+
+        int memberships = 0;
+        Set<Integer> ids = new HashSet<>();
+        for (AbstractPlace place : theater.getExistantsPlaces()) {
+            memberships += place.getNumberPresentCharacters();
+            for (AbstractCharacter c : place.getCharactersView()) {
+                ids.add(c.getId());
+            }
+        }
+        assertEquals(ids.size(), memberships);
+        if (newborn.isAlive()) {
+            assertSame(home, EntityRegistry.placeOf(newborn));
+        }
+    }
+
+    @Test
+    @DisplayName("Les combattants des champs de bataille ont un lieu d'origine de leur camp")
+    void testBattlefieldOrigins() {
+        TheaterInvasion theater = new WorldGenerator(5L).setCharactersPerPlace(10).generate();
+        for (AbstractPlace place : theater.getExistantsPlaces()) {
+            if (place instanceof Battlefield) {
+                for (AbstractCharacter c : place.getCharactersView()) {
+                    assertNotNull(c.getOriginPlace());
+                    assertEquals(c instanceof Gallic ? TypePlace.gallicVillage : TypePlace.romanFortifiedCamp,
+                            c.getOriginPlace().getType());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Les valeurs négatives sont refusées")
+    void testInvalidSettings() {
+        WorldGenerator generator = new WorldGenerator(1L);
+        assertThrows(IllegalArgumentException.class, () -> generator.setCharactersPerPlace(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.setPlaceCount(TypePlace.enclosure, -2));
+    }
+}